@@ -34,6 +34,7 @@ public final class ControllerInfo {
     //
     private final String path;
     private final String requestMethod;
+    private final String conditions;
     private final VisitableType requestBodyTypeTree;
     private final VisitableType responseBodyTypeTree;
     private final VisitableType queryParametersTypeTree;
@@ -75,6 +76,7 @@ public final class ControllerInfo {
                 .findFirst()
                 .map(RequestMethod::name)
                 .orElse(null);
+        this.conditions = getConditions(requestMappingInfo);
     }
 
     //
@@ -124,6 +126,18 @@ public final class ControllerInfo {
                 .orElse(null);
     }
 
+    private static String getConditions(RequestMappingInfo requestMappingInfo) {
+        // mappings sharing path and request method are told apart by these conditions
+        return Stream.of(
+                requestMappingInfo.getParamsCondition(),
+                requestMappingInfo.getHeadersCondition(),
+                requestMappingInfo.getConsumesCondition(),
+                requestMappingInfo.getProducesCondition()
+        ).filter(condition -> !condition.isEmpty())
+                .map(Object::toString)
+                .collect(Collectors.joining(" "));
+    }
+
     //
     // INSTANCE METHODS
     //
@@ -135,6 +149,10 @@ public final class ControllerInfo {
         return this.requestMethod;
     }
 
+    public String getConditions() {
+        return this.conditions;
+    }
+
     public VisitableType getRequestBodyTypeTree() {
         return this.requestBodyTypeTree;
     }
@@ -0,0 +1,90 @@
+package at.doml.restinfo;
+
+import at.doml.restinfo.type.TypeTreeDifference;
+import java.util.List;
+
+public final class EndpointDifference {
+
+    //
+    // UTIL CLASSES AND INTERFACES
+    //
+    public enum Kind {
+        ADDED,
+        REMOVED,
+        CHANGED
+    }
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final Kind kind;
+    private final String apiSectionName;
+    private final String requestMethod;
+    private final String path;
+    private final String conditions;
+    private final List<TypeTreeDifference> requestBodyDifferences;
+    private final List<TypeTreeDifference> responseBodyDifferences;
+    private final List<TypeTreeDifference> queryParametersDifferences;
+    private final List<TypeTreeDifference> pathVariablesDifferences;
+
+    EndpointDifference(Kind kind, String apiSectionName, String requestMethod, String path,
+                       String conditions, List<TypeTreeDifference> requestBodyDifferences,
+                       List<TypeTreeDifference> responseBodyDifferences,
+                       List<TypeTreeDifference> queryParametersDifferences,
+                       List<TypeTreeDifference> pathVariablesDifferences) {
+        this.kind = kind;
+        this.apiSectionName = apiSectionName;
+        this.requestMethod = requestMethod;
+        this.path = path;
+        this.conditions = conditions;
+        this.requestBodyDifferences = requestBodyDifferences;
+        this.responseBodyDifferences = responseBodyDifferences;
+        this.queryParametersDifferences = queryParametersDifferences;
+        this.pathVariablesDifferences = pathVariablesDifferences;
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    public Kind getKind() {
+        return this.kind;
+    }
+
+    public String getApiSectionName() {
+        return this.apiSectionName;
+    }
+
+    public String getRequestMethod() {
+        return this.requestMethod;
+    }
+
+    public String getPath() {
+        return this.path;
+    }
+
+    public String getConditions() {
+        return this.conditions;
+    }
+
+    public List<TypeTreeDifference> getRequestBodyDifferences() {
+        return this.requestBodyDifferences;
+    }
+
+    public List<TypeTreeDifference> getResponseBodyDifferences() {
+        return this.responseBodyDifferences;
+    }
+
+    public List<TypeTreeDifference> getQueryParametersDifferences() {
+        return this.queryParametersDifferences;
+    }
+
+    public List<TypeTreeDifference> getPathVariablesDifferences() {
+        return this.pathVariablesDifferences;
+    }
+
+    @Override
+    public String toString() {
+        String endpoint = this.kind + " " + this.requestMethod + " " + this.path;
+        return this.conditions.isEmpty() ? endpoint : endpoint + " " + this.conditions;
+    }
+}
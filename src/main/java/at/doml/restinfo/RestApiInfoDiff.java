@@ -0,0 +1,192 @@
+package at.doml.restinfo;
+
+import at.doml.restinfo.type.TypeTreeDiff;
+import at.doml.restinfo.type.TypeTreeDifference;
+import at.doml.restinfo.type.VisitableType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+public final class RestApiInfoDiff {
+
+    //
+    // CONSTANTS
+    //
+    private static final String NOT_NULL = " must not be null";
+    private static final String OLD_API_NOT_NULL = "oldApi" + NOT_NULL;
+    private static final String NEW_API_NOT_NULL = "newApi" + NOT_NULL;
+    // cannot be part of a path or condition in practice and sorts before any other character
+    private static final String KEY_SEPARATOR = "\u0000";
+
+    private RestApiInfoDiff() {
+        // No instances of this class are possible
+    }
+
+    //
+    // UTIL CLASSES AND INTERFACES
+    //
+    private static final class Endpoint {
+
+        private final String apiSectionName;
+        private final ControllerInfo controllerInfo;
+
+        private Endpoint(String apiSectionName, ControllerInfo controllerInfo) {
+            this.apiSectionName = apiSectionName;
+            this.controllerInfo = controllerInfo;
+        }
+
+        private boolean isInApiSection(Endpoint other) {
+            return this.apiSectionName.equals(other.apiSectionName);
+        }
+    }
+
+    //
+    // HELPER METHODS
+    //
+    public static List<EndpointDifference> diff(RestApiInfo oldApi, RestApiInfo newApi) {
+        Map<String, List<Endpoint>> oldEndpoints = endpoints(Objects.requireNonNull(oldApi, OLD_API_NOT_NULL));
+        Map<String, List<Endpoint>> newEndpoints = endpoints(Objects.requireNonNull(newApi, NEW_API_NOT_NULL));
+        TreeSet<String> keys = new TreeSet<>(oldEndpoints.keySet());
+        keys.addAll(newEndpoints.keySet());
+
+        List<EndpointDifference> differences = new ArrayList<>();
+
+        for (String key : keys) {
+            diff(
+                    oldEndpoints.getOrDefault(key, Collections.emptyList()),
+                    newEndpoints.getOrDefault(key, Collections.emptyList()),
+                    differences
+            );
+        }
+
+        return Collections.unmodifiableList(differences);
+    }
+
+    private static SortedMap<String, List<Endpoint>> endpoints(RestApiInfo restApiInfo) {
+        SortedMap<String, List<Endpoint>> endpoints = new TreeMap<>();
+
+        // the api section is left out of the key, so endpoints moved to another controller are still matched
+        restApiInfo.forEachApiSection(
+                apiSectionName -> {},
+                (apiSectionName, controllerInfo) -> endpoints.computeIfAbsent(
+                        controllerInfo.getRequestMethod() + KEY_SEPARATOR + controllerInfo.getPath()
+                                + KEY_SEPARATOR + controllerInfo.getConditions(),
+                        key -> new ArrayList<>()
+                ).add(new Endpoint(apiSectionName, controllerInfo)),
+                apiSectionName -> {}
+        );
+
+        return endpoints;
+    }
+
+    private static void diff(List<Endpoint> oldDuplicates, List<Endpoint> newDuplicates,
+                             List<EndpointDifference> differences) {
+        // the same mapping may be repeated in several api sections, so unchanged duplicates are matched first
+        List<Endpoint> unmatchedOldEndpoints = new ArrayList<>(oldDuplicates);
+        List<Endpoint> unmatchedNewEndpoints = new ArrayList<>();
+
+        for (Endpoint newEndpoint : newDuplicates) {
+            if (!removeUnchanged(unmatchedOldEndpoints, newEndpoint)) {
+                unmatchedNewEndpoints.add(newEndpoint);
+            }
+        }
+
+        // remaining duplicates of the same api section are paired first, the rest in their original order
+        for (Iterator<Endpoint> iterator = unmatchedNewEndpoints.iterator(); iterator.hasNext(); ) {
+            Endpoint newEndpoint = iterator.next();
+            Endpoint oldEndpoint = removeInApiSection(unmatchedOldEndpoints, newEndpoint);
+
+            if (oldEndpoint != null) {
+                iterator.remove();
+                differences.add(diff(oldEndpoint, newEndpoint));
+            }
+        }
+
+        for (int i = 0; i < Math.max(unmatchedOldEndpoints.size(), unmatchedNewEndpoints.size()); i++) {
+            differences.add(diff(endpoint(unmatchedOldEndpoints, i), endpoint(unmatchedNewEndpoints, i)));
+        }
+    }
+
+    private static boolean removeUnchanged(List<Endpoint> oldEndpoints, Endpoint newEndpoint) {
+        Endpoint unchanged = null;
+
+        for (Endpoint oldEndpoint : oldEndpoints) {
+            if (diff(oldEndpoint, newEndpoint) == null) {
+                unchanged = oldEndpoint;
+
+                if (oldEndpoint.isInApiSection(newEndpoint)) {
+                    break;
+                }
+            }
+        }
+
+        return unchanged != null && oldEndpoints.remove(unchanged);
+    }
+
+    private static Endpoint removeInApiSection(List<Endpoint> oldEndpoints, Endpoint newEndpoint) {
+        for (Iterator<Endpoint> iterator = oldEndpoints.iterator(); iterator.hasNext(); ) {
+            Endpoint oldEndpoint = iterator.next();
+
+            if (oldEndpoint.isInApiSection(newEndpoint)) {
+                iterator.remove();
+                return oldEndpoint;
+            }
+        }
+
+        return null;
+    }
+
+    private static Endpoint endpoint(List<Endpoint> endpoints, int index) {
+        return index < endpoints.size() ? endpoints.get(index) : null;
+    }
+
+    private static EndpointDifference diff(Endpoint oldEndpoint, Endpoint newEndpoint) {
+        // the api section is reported where the endpoint is now, or where it was when it got removed
+        Endpoint endpoint = newEndpoint == null ? oldEndpoint : newEndpoint;
+        ControllerInfo oldInfo = oldEndpoint == null ? null : oldEndpoint.controllerInfo;
+        ControllerInfo newInfo = newEndpoint == null ? null : newEndpoint.controllerInfo;
+        List<TypeTreeDifference> requestBodyDifferences =
+                diff(oldInfo, newInfo, ControllerInfo::getRequestBodyTypeTree);
+        List<TypeTreeDifference> responseBodyDifferences =
+                diff(oldInfo, newInfo, ControllerInfo::getResponseBodyTypeTree);
+        List<TypeTreeDifference> queryParametersDifferences =
+                diff(oldInfo, newInfo, ControllerInfo::getQueryParametersTypeTree);
+        List<TypeTreeDifference> pathVariablesDifferences =
+                diff(oldInfo, newInfo, ControllerInfo::getPathVariablesTypeTree);
+        EndpointDifference.Kind kind;
+
+        if (oldEndpoint == null) {
+            kind = EndpointDifference.Kind.ADDED;
+        } else if (newEndpoint == null) {
+            kind = EndpointDifference.Kind.REMOVED;
+        } else if (requestBodyDifferences.isEmpty() && responseBodyDifferences.isEmpty()
+                && queryParametersDifferences.isEmpty() && pathVariablesDifferences.isEmpty()) {
+            return null;
+        } else {
+            kind = EndpointDifference.Kind.CHANGED;
+        }
+
+        return new EndpointDifference(
+                kind, endpoint.apiSectionName, endpoint.controllerInfo.getRequestMethod(),
+                endpoint.controllerInfo.getPath(), endpoint.controllerInfo.getConditions(),
+                requestBodyDifferences, responseBodyDifferences, queryParametersDifferences, pathVariablesDifferences
+        );
+    }
+
+    private static List<TypeTreeDifference> diff(ControllerInfo oldEndpoint, ControllerInfo newEndpoint,
+                                                 Function<ControllerInfo, VisitableType> typeTreeGetter) {
+        return TypeTreeDiff.diff(typeTree(oldEndpoint, typeTreeGetter), typeTree(newEndpoint, typeTreeGetter));
+    }
+
+    private static VisitableType typeTree(ControllerInfo endpoint,
+                                          Function<ControllerInfo, VisitableType> typeTreeGetter) {
+        return endpoint == null ? null : typeTreeGetter.apply(endpoint);
+    }
+}
@@ -21,7 +21,7 @@ final class ArrayType extends CollectionOrArrayType {
      * @param elementType type of child element of this object
      */
     ArrayType(VisitableType elementType) {
-        super(elementType);
+        super(elementType, StructuralHasher.ARRAY_TAG);
     }
 
     @Override
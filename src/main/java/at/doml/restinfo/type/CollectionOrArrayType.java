@@ -8,20 +8,26 @@ package at.doml.restinfo.type;
  * @see TypeVisitor
  * @see TypeTreeGenerator
  */
-abstract class CollectionOrArrayType implements VisitableType {
+abstract class CollectionOrArrayType extends CompoundType {
 
     /**
      * Child element type of this object.
      */
     final VisitableType elementType;
+    /**
+     * Structural hash of this object.
+     */
+    private final long structuralHash;
 
     /**
      * Constructs an object with specified child element type.
      *
-     * @param elementType type of child element of this object
+     * @param elementType       type of child element of this object
+     * @param structuralHashTag tag which distinguishes structural hashes of arrays and collections
      */
-    CollectionOrArrayType(VisitableType elementType) {
+    CollectionOrArrayType(VisitableType elementType, long structuralHashTag) {
         this.elementType = elementType;
+        this.structuralHash = StructuralHasher.combine(structuralHashTag, elementType.structuralHash());
     }
 
     @Override
@@ -34,6 +40,11 @@ abstract class CollectionOrArrayType implements VisitableType {
         );
     }
 
+    @Override
+    public final long structuralHash() {
+        return this.structuralHash;
+    }
+
     /**
      * Action to perform before visiting child element.
      *
@@ -21,7 +21,7 @@ final class CollectionType extends CollectionOrArrayType {
      * @param elementType type of child element of this object
      */
     CollectionType(VisitableType elementType) {
-        super(elementType);
+        super(elementType, StructuralHasher.COLLECTION_TAG);
     }
 
     @Override
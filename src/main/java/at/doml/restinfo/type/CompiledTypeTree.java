@@ -0,0 +1,309 @@
+package at.doml.restinfo.type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Class which represents a type tree compiled into a flat instruction array. Every instruction corresponds to a single
+ * <code>TypeVisitor</code> method call, and its operands are indices into tables of field names, enumeration
+ * constants and type information, or jump targets. When visited by a <code>TypeVisitor</code>, the instructions are
+ * replayed in a single loop instead of walking the type tree, so repeated visits of the same type tree avoid pointer
+ * chasing and per-node virtual dispatch. Instructions which depend on <code>shouldVisit*</code> methods jump over the
+ * instructions of the child nodes when the visitor declines to visit them.<br/>
+ * <br/>
+ * Visiting an object of this class calls the same <code>TypeVisitor</code> methods in the same order as visiting the
+ * type tree it was compiled from. Since compiled type tree is a snapshot, changes made to the original type tree after
+ * compilation are not reflected in the compiled type tree. Instances of this class are immutable and can be visited
+ * concurrently from multiple threads.<br/>
+ * <br/>
+ * Type trees can be compiled explicitly using {@link #compile(VisitableType)}, or implicitly by traversing them with
+ * {@link TypeTreeTraversal#COMPILED}, which compiles every type tree only once.
+ *
+ * @author Domagoj Latečki
+ * @version 1.0.0
+ * @see TypeVisitor
+ * @see TypeTreeCursor
+ * @see TypeTreeTraversal#COMPILED
+ */
+public final class CompiledTypeTree implements VisitableType {
+
+    //
+    // CONSTANTS
+    //
+    private static final String TYPE_TREE_NOT_NULL = "typeTree must not be null";
+    private static final SimpleType[] SIMPLE_TYPES = SimpleType.values();
+    private static final int SIMPLE = 0;
+    private static final int ENUM = 1;
+    private static final int CUSTOM = 2;
+    private static final int UNKNOWN = 3;
+    private static final int OTHER = 4;
+    private static final int START_ARRAY = 5;
+    private static final int END_ARRAY = 6;
+    private static final int START_COLLECTION = 7;
+    private static final int END_COLLECTION = 8;
+    private static final int START_MAP_KEY = 9;
+    private static final int END_MAP_KEY = 10;
+    private static final int START_MAP_VALUE = 11;
+    private static final int END_MAP_VALUE = 12;
+    private static final int START_COMPLEX = 13;
+    private static final int START_FIELD = 14;
+    private static final int END_FIELD = 15;
+    private static final int END_COMPLEX = 16;
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final int[] instructions;
+    private final String[] fieldNames;
+    private final Enum<?>[][] enumConstants;
+    private final TypeInformation[] typeInformations;
+    private final VisitableType[] otherTypes;
+    private final long structuralHash;
+
+    private CompiledTypeTree(Compiler compiler, long structuralHash) {
+        this.instructions = Arrays.copyOf(compiler.instructions, compiler.length);
+        this.fieldNames = compiler.fieldNames.toArray(new String[0]);
+        this.enumConstants = compiler.enumConstants.toArray(new Enum<?>[0][]);
+        this.typeInformations = compiler.typeInformations.toArray(new TypeInformation[0]);
+        this.otherTypes = compiler.otherTypes.toArray(new VisitableType[0]);
+        this.structuralHash = structuralHash;
+    }
+
+    //
+    // FACTORY METHODS
+    //
+
+    /**
+     * Compiles provided type tree into a flat instruction array. The type tree is traversed only once, during
+     * compilation.
+     *
+     * @param typeTree root node of the type tree to compile (must not be <code>null</code>)
+     * @return compiled type tree
+     * @throws NullPointerException if provided parameter is <code>null</code>
+     */
+    public static CompiledTypeTree compile(VisitableType typeTree) {
+        Objects.requireNonNull(typeTree, TYPE_TREE_NOT_NULL);
+        return new CompiledTypeTree(new Compiler().compile(typeTree), typeTree.structuralHash());
+    }
+
+    //
+    // UTIL CLASSES AND INTERFACES
+    //
+
+    /**
+     * Builds instruction array and operand tables while traversing the type tree with a {@link TypeTreeCursor}.
+     */
+    private static final class Compiler {
+
+        private int[] instructions = new int[64];
+        private int length;
+        private int[] openJumps = new int[16];
+        private int openJumpCount;
+        private final List<String> fieldNames = new ArrayList<>();
+        private final Map<String, Integer> fieldNameIndices = new HashMap<>();
+        private final List<Enum<?>[]> enumConstants = new ArrayList<>();
+        private final List<TypeInformation> typeInformations = new ArrayList<>();
+        private final List<VisitableType> otherTypes = new ArrayList<>();
+
+        private Compiler compile(VisitableType typeTree) {
+            TypeTreeCursor cursor = new TypeTreeCursor(typeTree);
+
+            while (cursor.hasNext()) {
+                switch (cursor.next()) {
+                    case SIMPLE:
+                        this.emit(SIMPLE, cursor.getSimpleType().ordinal());
+                        break;
+                    case ENUM:
+                        this.emit(ENUM, this.enumConstants.size());
+                        this.enumConstants.add(cursor.getEnumConstants());
+                        break;
+                    case CUSTOM:
+                        this.emit(CUSTOM, this.typeInformations.size());
+                        this.typeInformations.add(cursor.getTypeInformation());
+                        break;
+                    case UNKNOWN:
+                        this.emit(UNKNOWN, this.typeInformations.size());
+                        this.typeInformations.add(cursor.getTypeInformation());
+                        break;
+                    case OTHER:
+                        this.emit(OTHER, this.otherTypes.size());
+                        this.otherTypes.add(cursor.getType());
+                        break;
+                    case START_ARRAY:
+                        this.emitStart(START_ARRAY);
+                        break;
+                    case END_ARRAY:
+                        this.emitEnd(END_ARRAY);
+                        break;
+                    case START_COLLECTION:
+                        this.emitStart(START_COLLECTION);
+                        break;
+                    case END_COLLECTION:
+                        this.emitEnd(END_COLLECTION);
+                        break;
+                    case START_MAP_KEY:
+                        this.emitStart(START_MAP_KEY);
+                        break;
+                    case END_MAP_KEY:
+                        this.emitEnd(END_MAP_KEY);
+                        break;
+                    case START_MAP_VALUE:
+                        this.emitStart(START_MAP_VALUE);
+                        break;
+                    case END_MAP_VALUE:
+                        this.emitEnd(END_MAP_VALUE);
+                        break;
+                    case START_COMPLEX:
+                        this.emitStart(START_COMPLEX);
+                        break;
+                    case START_FIELD:
+                        this.emitStart(START_FIELD);
+                        this.emit(this.fieldNameIndex(cursor.getFieldName()));
+                        break;
+                    case END_FIELD:
+                        this.emitEnd(END_FIELD);
+                        this.emit(this.fieldNameIndex(cursor.getFieldName()));
+                        break;
+                    default:
+                        this.emitEnd(END_COMPLEX);
+                        break;
+                }
+            }
+
+            return this;
+        }
+
+        private int fieldNameIndex(String fieldName) {
+            return this.fieldNameIndices.computeIfAbsent(fieldName, name -> {
+                this.fieldNames.add(name);
+                return this.fieldNames.size() - 1;
+            });
+        }
+
+        private void emitStart(int opcode) {
+            this.emit(opcode);
+
+            if (this.openJumpCount == this.openJumps.length) {
+                this.openJumps = Arrays.copyOf(this.openJumps, this.openJumps.length * 2);
+            }
+
+            this.openJumps[this.openJumpCount] = this.length;
+            this.openJumpCount += 1;
+            this.emit(-1);
+        }
+
+        private void emitEnd(int opcode) {
+            this.openJumpCount -= 1;
+            this.instructions[this.openJumps[this.openJumpCount]] = this.length;
+            this.emit(opcode);
+        }
+
+        private void emit(int opcode, int operand) {
+            this.emit(opcode);
+            this.emit(operand);
+        }
+
+        private void emit(int value) {
+            if (this.length == this.instructions.length) {
+                this.instructions = Arrays.copyOf(this.instructions, this.instructions.length * 2);
+            }
+
+            this.instructions[this.length] = value;
+            this.length += 1;
+        }
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    @Override
+    public void accept(TypeVisitor visitor) {
+        int[] code = this.instructions;
+        int length = code.length;
+        int pc = 0;
+
+        while (pc < length) {
+            switch (code[pc]) {
+                case SIMPLE:
+                    visitor.visitSimple(SIMPLE_TYPES[code[pc + 1]]);
+                    pc += 2;
+                    break;
+                case ENUM:
+                    visitor.visitEnum(this.enumConstants[code[pc + 1]].clone());
+                    pc += 2;
+                    break;
+                case CUSTOM:
+                    visitor.visitCustom(this.typeInformations[code[pc + 1]]);
+                    pc += 2;
+                    break;
+                case UNKNOWN:
+                    visitor.visitUnknown(this.typeInformations[code[pc + 1]]);
+                    pc += 2;
+                    break;
+                case OTHER:
+                    this.otherTypes[code[pc + 1]].accept(visitor);
+                    pc += 2;
+                    break;
+                case START_ARRAY:
+                    visitor.visitBeforeArrayElementType();
+                    pc = visitor.shouldVisitArrayElementType() ? pc + 2 : code[pc + 1];
+                    break;
+                case END_ARRAY:
+                    visitor.visitAfterArrayElementType();
+                    pc += 1;
+                    break;
+                case START_COLLECTION:
+                    visitor.visitBeforeCollectionElementType();
+                    pc = visitor.shouldVisitCollectionElementType() ? pc + 2 : code[pc + 1];
+                    break;
+                case END_COLLECTION:
+                    visitor.visitAfterCollectionElementType();
+                    pc += 1;
+                    break;
+                case START_MAP_KEY:
+                    visitor.visitBeforeMapKeyType();
+                    pc = visitor.shouldVisitMapKeyType() ? pc + 2 : code[pc + 1];
+                    break;
+                case END_MAP_KEY:
+                    visitor.visitAfterMapKeyType();
+                    pc += 1;
+                    break;
+                case START_MAP_VALUE:
+                    visitor.visitBeforeMapValueType();
+                    pc = visitor.shouldVisitMapValueType() ? pc + 2 : code[pc + 1];
+                    break;
+                case END_MAP_VALUE:
+                    visitor.visitAfterMapValueType();
+                    pc += 1;
+                    break;
+                case START_COMPLEX:
+                    visitor.visitBeforeAllComplexFields();
+                    pc = visitor.shouldVisitComplexFields() ? pc + 2 : code[pc + 1];
+                    break;
+                case START_FIELD: {
+                    String fieldName = this.fieldNames[code[pc + 2]];
+                    visitor.visitBeforeComplexField(fieldName);
+                    pc = visitor.shouldVisitComplexFieldType(fieldName) ? pc + 3 : code[pc + 1];
+                    break;
+                }
+                case END_FIELD:
+                    visitor.visitAfterComplexField(this.fieldNames[code[pc + 1]]);
+                    pc += 2;
+                    break;
+                default:
+                    visitor.visitAfterAllComplexFields();
+                    pc += 1;
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public long structuralHash() {
+        return this.structuralHash;
+    }
+}
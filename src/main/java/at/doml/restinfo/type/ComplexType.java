@@ -1,5 +1,6 @@
 package at.doml.restinfo.type;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -14,28 +15,58 @@ import java.util.Map;
  * <code>visitAfterComplexField</code> methods is the name of the child field visited. If
  * {@link TypeVisitor#shouldVisitComplexFieldType(String)} returns <code>true</code>, then each child field will be
  * visited by calling {@link VisitableType#accept(TypeVisitor)} on the child type passing the reference to the visitor
- * object.
+ * object.<br/>
+ * <br/>
+ * Instances of this class are immutable: fields are copied when the object is constructed and cannot be modified
+ * afterwards.
  *
  * @author Domagoj Latečki
  * @version 1.0.0
  * @see TypeVisitor
  * @see TypeTreeGenerator
  */
-final class ComplexType implements VisitableType {
+final class ComplexType extends CompoundType {
 
     /**
-     * Fields of this complex type.
+     * Unmodifiable map of fields of this complex type.
      */
-    final Map<String, VisitableType> fields = new HashMap<>();
+    final Map<String, VisitableType> fields;
+    /**
+     * Names of fields of this complex type, in iteration order of {@link ComplexType#fields}. Must not be modified.
+     */
+    final String[] fieldNames;
+    /**
+     * Types of fields of this complex type, at the same indices as their names in {@link ComplexType#fieldNames}. Must
+     * not be modified.
+     */
+    final VisitableType[] fieldTypes;
+    /**
+     * Structural hash of this object.
+     */
+    private final long structuralHash;
 
     /**
-     * Adds a field to this complex type. Field is composed of its name and child element.
+     * Constructs an object with specified fields. Each field is composed of its name and child element. Provided map is
+     * copied, so later changes to it are not reflected in the constructed object.
      *
-     * @param fieldName name of the field
-     * @param fieldType type of field child element
+     * @param fields map of field names and types of field child elements
      */
-    void addField(String fieldName, VisitableType fieldType) {
-        this.fields.put(fieldName, fieldType);
+    ComplexType(Map<String, VisitableType> fields) {
+        this.fields = Collections.unmodifiableMap(new HashMap<>(fields));
+        this.fieldNames = new String[this.fields.size()];
+        this.fieldTypes = new VisitableType[this.fields.size()];
+
+        long fieldSum = 0L;
+        int index = 0;
+
+        for (Map.Entry<String, VisitableType> field : this.fields.entrySet()) {
+            this.fieldNames[index] = field.getKey();
+            this.fieldTypes[index] = field.getValue();
+            fieldSum += StructuralHasher.hashField(field.getKey(), field.getValue().structuralHash());
+            index++;
+        }
+
+        this.structuralHash = StructuralHasher.combine(StructuralHasher.COMPLEX_TAG, fieldSum);
     }
 
     @Override
@@ -49,6 +80,11 @@ final class ComplexType implements VisitableType {
         );
     }
 
+    @Override
+    public long structuralHash() {
+        return this.structuralHash;
+    }
+
     private void visitFields(TypeVisitor visitor) {
         this.fields.forEach((fieldName, fieldType) ->
                 PackageUtils.conditionalVisitForType(
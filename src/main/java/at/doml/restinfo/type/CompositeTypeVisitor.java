@@ -0,0 +1,229 @@
+package at.doml.restinfo.type;
+
+import java.util.Objects;
+
+/**
+ * Class which broadcasts each visited node to multiple delegate visitors, so several visitors can visit the same type
+ * tree in a single traversal. Delegates are called in the order in which they were provided.<br/>
+ * <br/>
+ * Delegates may give different answers to <code>shouldVisit*</code> methods. A delegate which declines to visit some
+ * child node does not receive any calls for that child node, while other delegates continue to visit it. Calls made
+ * before and after the child node (for example {@link TypeVisitor#visitAfterArrayElementType()}) are still received
+ * by the declining delegate, exactly as they would be if that delegate visited the type tree alone. In order to
+ * achieve this, suppression depth is tracked for each delegate. <code>shouldVisit*</code> methods of this visitor
+ * return <code>true</code> if at least one delegate which is not suppressed wants to visit the child node.<br/>
+ * <br/>
+ * Instances of this class are not thread-safe.
+ *
+ * @author Domagoj Latečki
+ * @version 1.0.0
+ * @see TypeVisitor
+ */
+public final class CompositeTypeVisitor implements TypeVisitor {
+
+    //
+    // CONSTANTS
+    //
+    private static final String NOT_NULL = " must not be null";
+    private static final String DELEGATES_NOT_NULL = "delegates" + NOT_NULL;
+    private static final String DELEGATE_NOT_NULL = "delegate" + NOT_NULL;
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final TypeVisitor[] delegates;
+    private final int[] suppressionDepths;
+
+    /**
+     * Constructs a visitor which will broadcast each call to provided delegates.
+     *
+     * @param delegates visitors to which calls will be broadcast (must not be <code>null</code> or contain
+     *                  <code>null</code> elements)
+     * @throws NullPointerException if provided array or any of its elements is <code>null</code>
+     */
+    public CompositeTypeVisitor(TypeVisitor... delegates) {
+        this.delegates = Objects.requireNonNull(delegates, DELEGATES_NOT_NULL).clone();
+
+        for (TypeVisitor delegate : this.delegates) {
+            Objects.requireNonNull(delegate, DELEGATE_NOT_NULL);
+        }
+
+        this.suppressionDepths = new int[this.delegates.length];
+    }
+
+    //
+    // UTIL CLASSES AND INTERFACES
+    //
+    @FunctionalInterface
+    private interface VisitCondition {
+        boolean test(TypeVisitor visitor);
+    }
+
+    @FunctionalInterface
+    private interface VisitAction {
+        void visit(TypeVisitor visitor);
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    @Override
+    public void visitSimple(SimpleType type) {
+        this.forEachActive(v -> v.visitSimple(type));
+    }
+
+    @Override
+    public void visitEnum(Enum<?>[] enumConstants) {
+        for (int i = 0; i < this.delegates.length; i++) {
+            if (this.suppressionDepths[i] == 0) {
+                this.delegates[i].visitEnum(enumConstants.clone());
+            }
+        }
+    }
+
+    @Override
+    public void visitBeforeArrayElementType() {
+        this.forEachActive(TypeVisitor::visitBeforeArrayElementType);
+    }
+
+    @Override
+    public boolean shouldVisitArrayElementType() {
+        return this.enterChild(TypeVisitor::shouldVisitArrayElementType);
+    }
+
+    @Override
+    public void visitAfterArrayElementType() {
+        this.exitChild();
+        this.forEachActive(TypeVisitor::visitAfterArrayElementType);
+    }
+
+    @Override
+    public void visitBeforeCollectionElementType() {
+        this.forEachActive(TypeVisitor::visitBeforeCollectionElementType);
+    }
+
+    @Override
+    public boolean shouldVisitCollectionElementType() {
+        return this.enterChild(TypeVisitor::shouldVisitCollectionElementType);
+    }
+
+    @Override
+    public void visitAfterCollectionElementType() {
+        this.exitChild();
+        this.forEachActive(TypeVisitor::visitAfterCollectionElementType);
+    }
+
+    @Override
+    public void visitBeforeMapKeyType() {
+        this.forEachActive(TypeVisitor::visitBeforeMapKeyType);
+    }
+
+    @Override
+    public boolean shouldVisitMapKeyType() {
+        return this.enterChild(TypeVisitor::shouldVisitMapKeyType);
+    }
+
+    @Override
+    public void visitAfterMapKeyType() {
+        this.exitChild();
+        this.forEachActive(TypeVisitor::visitAfterMapKeyType);
+    }
+
+    @Override
+    public void visitBeforeMapValueType() {
+        this.forEachActive(TypeVisitor::visitBeforeMapValueType);
+    }
+
+    @Override
+    public boolean shouldVisitMapValueType() {
+        return this.enterChild(TypeVisitor::shouldVisitMapValueType);
+    }
+
+    @Override
+    public void visitAfterMapValueType() {
+        this.exitChild();
+        this.forEachActive(TypeVisitor::visitAfterMapValueType);
+    }
+
+    @Override
+    public void visitBeforeAllComplexFields() {
+        this.forEachActive(TypeVisitor::visitBeforeAllComplexFields);
+    }
+
+    @Override
+    public boolean shouldVisitComplexFields() {
+        return this.enterChild(TypeVisitor::shouldVisitComplexFields);
+    }
+
+    @Override
+    public void visitBeforeComplexField(String fieldName) {
+        this.forEachActive(v -> v.visitBeforeComplexField(fieldName));
+    }
+
+    @Override
+    public boolean shouldVisitComplexFieldType(String fieldName) {
+        return this.enterChild(v -> v.shouldVisitComplexFieldType(fieldName));
+    }
+
+    @Override
+    public void visitAfterComplexField(String fieldName) {
+        this.exitChild();
+        this.forEachActive(v -> v.visitAfterComplexField(fieldName));
+    }
+
+    @Override
+    public void visitAfterAllComplexFields() {
+        this.exitChild();
+        this.forEachActive(TypeVisitor::visitAfterAllComplexFields);
+    }
+
+    @Override
+    public void visitCustom(TypeInformation customTypeInformation) {
+        this.forEachActive(v -> v.visitCustom(customTypeInformation));
+    }
+
+    @Override
+    public void visitUnknown(TypeInformation unknownTypeInformation) {
+        this.forEachActive(v -> v.visitUnknown(unknownTypeInformation));
+    }
+
+    //
+    // PRIVATE METHODS
+    //
+    private void forEachActive(VisitAction action) {
+        for (int i = 0; i < this.delegates.length; i++) {
+            if (this.suppressionDepths[i] == 0) {
+                action.visit(this.delegates[i]);
+            }
+        }
+    }
+
+    /**
+     * Called for every <code>shouldVisit*</code> method. Every call is eventually followed by exactly one call to
+     * {@link CompositeTypeVisitor#exitChild()}, regardless of the returned value, so already suppressed delegates
+     * only need to track nesting depth, while active delegates become suppressed if they decline to visit the child.
+     */
+    private boolean enterChild(VisitCondition condition) {
+        boolean shouldVisit = false;
+
+        for (int i = 0; i < this.delegates.length; i++) {
+            if (this.suppressionDepths[i] > 0) {
+                this.suppressionDepths[i] += 1;
+            } else if (condition.test(this.delegates[i])) {
+                shouldVisit = true;
+            } else {
+                this.suppressionDepths[i] = 1;
+            }
+        }
+
+        return shouldVisit;
+    }
+
+    private void exitChild() {
+        for (int i = 0; i < this.suppressionDepths.length; i++) {
+            if (this.suppressionDepths[i] > 0) {
+                this.suppressionDepths[i] -= 1;
+            }
+        }
+    }
+}
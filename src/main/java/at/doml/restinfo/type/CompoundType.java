@@ -0,0 +1,37 @@
+package at.doml.restinfo.type;
+
+/**
+ * Abstract class which represents a node of type tree which contains other nodes, i.e. a complex type, a map, an array
+ * or a collection. Such node keeps the compiled form of the type tree rooted at it, so that
+ * {@link TypeTreeTraversal#COMPILED} compiles every type tree only once.
+ *
+ * @author Domagoj Latečki
+ * @version 1.0.0
+ * @see CompiledTypeTree
+ * @see TypeTreeTraversal
+ */
+abstract class CompoundType implements VisitableType {
+
+    /**
+     * Compiled type tree rooted at this object, or <code>null</code> if it was not compiled yet.
+     */
+    private CompiledTypeTree compiledTypeTree;
+
+    /**
+     * Returns the compiled type tree rooted at this object, compiling it on the first call. Type tree rooted at this
+     * object is immutable, so concurrent first calls compile equal type trees and any of them can be kept. Compiled
+     * type tree is immutable and safely published through its final fields, so no locking is needed.
+     *
+     * @return compiled type tree rooted at this object
+     */
+    final CompiledTypeTree compiled() {
+        CompiledTypeTree compiled = this.compiledTypeTree;
+
+        if (compiled == null) {
+            compiled = CompiledTypeTree.compile(this);
+            this.compiledTypeTree = compiled;
+        }
+
+        return compiled;
+    }
+}
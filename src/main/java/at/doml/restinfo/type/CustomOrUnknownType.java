@@ -14,13 +14,24 @@ abstract class CustomOrUnknownType implements VisitableType {
      * Objects which contains additional information about this type.
      */
     final TypeInformation typeInformation;
+    /**
+     * Structural hash of this object.
+     */
+    private final long structuralHash;
 
     /**
      * Constructs an object with specified type information.
      *
-     * @param typeInformation additional type information about this type
+     * @param typeInformation   additional type information about this type
+     * @param structuralHashTag tag which distinguishes structural hashes of custom and unknown types
      */
-    CustomOrUnknownType(TypeInformation typeInformation) {
+    CustomOrUnknownType(TypeInformation typeInformation, long structuralHashTag) {
         this.typeInformation = typeInformation;
+        this.structuralHash = StructuralHasher.hashTypeInformation(structuralHashTag, typeInformation);
+    }
+
+    @Override
+    public final long structuralHash() {
+        return this.structuralHash;
     }
 }
@@ -19,7 +19,7 @@ final class CustomType extends CustomOrUnknownType {
      * @param customTypeInformation additional type information about this type
      */
     CustomType(TypeInformation customTypeInformation) {
-        super(customTypeInformation);
+        super(customTypeInformation, StructuralHasher.CUSTOM_TAG);
     }
 
     @Override
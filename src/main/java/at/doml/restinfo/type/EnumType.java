@@ -16,6 +16,10 @@ final class EnumType implements VisitableType {
      * Constants of the enum.
      */
     final Enum<?>[] constants;
+    /**
+     * Structural hash of this object.
+     */
+    private final long structuralHash;
 
     /**
      * Constructs an object with specified enum constants.
@@ -24,10 +28,16 @@ final class EnumType implements VisitableType {
      */
     EnumType(Enum<?>[] constants) {
         this.constants = constants.clone();
+        this.structuralHash = StructuralHasher.hashEnum(this.constants);
     }
 
     @Override
     public void accept(TypeVisitor visitor) {
         visitor.visitEnum(this.constants.clone());
     }
+
+    @Override
+    public long structuralHash() {
+        return this.structuralHash;
+    }
 }
@@ -16,7 +16,7 @@ package at.doml.restinfo.type;
  * @see TypeVisitor
  * @see TypeTreeGenerator
  */
-final class MapType implements VisitableType {
+final class MapType extends CompoundType {
 
     /**
      * Key element type of this map.
@@ -26,6 +26,10 @@ final class MapType implements VisitableType {
      * Value element type of this map.
      */
     final VisitableType valueType;
+    /**
+     * Structural hash of this object.
+     */
+    private final long structuralHash;
 
     /**
      * Constructs an object with specified key and value element types.
@@ -36,6 +40,10 @@ final class MapType implements VisitableType {
     MapType(VisitableType keyType, VisitableType valueType) {
         this.keyType = keyType;
         this.valueType = valueType;
+        this.structuralHash = StructuralHasher.combine(
+                StructuralHasher.combine(StructuralHasher.MAP_TAG, keyType.structuralHash()),
+                valueType.structuralHash()
+        );
     }
 
     @Override
@@ -53,4 +61,9 @@ final class MapType implements VisitableType {
                 TypeVisitor::visitAfterMapValueType
         );
     }
+
+    @Override
+    public long structuralHash() {
+        return this.structuralHash;
+    }
 }
@@ -106,8 +106,27 @@ public enum SimpleType implements VisitableType {
      */
     BOXED_VOID;
 
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final long structuralHash;
+
+    SimpleType() {
+        this.structuralHash = StructuralHasher.combine(
+                StructuralHasher.SIMPLE_TAG, StructuralHasher.hashString(this.name())
+        );
+    }
+
+    //
+    // INSTANCE METHODS
+    //
     @Override
     public void accept(TypeVisitor visitor) {
         visitor.visitSimple(this);
     }
+
+    @Override
+    public long structuralHash() {
+        return this.structuralHash;
+    }
 }
@@ -0,0 +1,269 @@
+package at.doml.restinfo.type;
+
+import java.util.Arrays;
+
+/**
+ * Internal class which computes structural hashes of type trees. Structural hash of a node covers the kind of the
+ * node, simple type, enumeration constants, custom or unknown type information, field names and structural hashes of
+ * all child nodes. Fields of complex types are combined in an order-independent manner, so two complex types with
+ * same fields have the same structural hash regardless of the iteration order of their fields.<br/>
+ * <br/>
+ * Static methods of this class are used by nodes generated by {@link TypeTreeGenerator} to compute their own
+ * structural hashes from cached structural hashes of their child nodes. Instances of this class are visitors which
+ * compute the same structural hash from <code>TypeVisitor</code> method calls, and are used for nodes which are not
+ * generated by {@link TypeTreeGenerator}.
+ *
+ * @author Domagoj Latečki
+ * @version 1.0.0
+ * @see VisitableType#structuralHash()
+ */
+final class StructuralHasher implements TypeVisitor {
+
+    //
+    // CONSTANTS
+    //
+    static final long SIMPLE_TAG = 0x5349_4D50_4C45_0001L;
+    static final long ENUM_TAG = 0x454E_554D_0000_0002L;
+    static final long CUSTOM_TAG = 0x4355_5354_4F4D_0003L;
+    static final long UNKNOWN_TAG = 0x554E_4B4E_4F57_0004L;
+    static final long ARRAY_TAG = 0x4152_5241_5900_0005L;
+    static final long COLLECTION_TAG = 0x434F_4C4C_0000_0006L;
+    static final long MAP_TAG = 0x4D41_5000_0000_0007L;
+    static final long COMPLEX_TAG = 0x434F_4D50_4C58_0008L;
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+    private static final long FNV_OFFSET_BASIS = 0xCBF2_9CE4_8422_2325L;
+    private static final long FNV_PRIME = 0x0000_0100_0000_01B3L;
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private long[] pendingHashes = new long[16];
+    private int pendingHashCount;
+    private long result;
+
+    private StructuralHasher() {
+    }
+
+    //
+    // HELPER METHODS
+    //
+
+    /**
+     * Computes structural hash of provided type tree by visiting it.
+     *
+     * @param typeTree root node of the type tree
+     * @return structural hash of the type tree
+     */
+    static long hash(VisitableType typeTree) {
+        StructuralHasher hasher = new StructuralHasher();
+        typeTree.accept(hasher);
+        return hasher.result;
+    }
+
+    /**
+     * Combines two hash values into one. Order of the values is significant.
+     *
+     * @param seed  hash value accumulated so far
+     * @param value hash value to combine with the accumulated value
+     * @return combined hash value
+     */
+    static long combine(long seed, long value) {
+        return mix(seed ^ (value + GOLDEN_GAMMA + (seed << 6) + (seed >>> 2)));
+    }
+
+    /**
+     * Computes the hash value of provided string.
+     *
+     * @param string string to compute hash value for
+     * @return hash value of the string
+     */
+    static long hashString(String string) {
+        long hash = FNV_OFFSET_BASIS;
+
+        for (int i = 0; i < string.length(); i++) {
+            hash = (hash ^ string.charAt(i)) * FNV_PRIME;
+        }
+
+        return mix(hash);
+    }
+
+    /**
+     * Computes the structural hash of an enumeration with provided constants.
+     *
+     * @param constants constants of the enumeration
+     * @return structural hash of the enumeration
+     */
+    static long hashEnum(Enum<?>[] constants) {
+        long hash = ENUM_TAG;
+
+        if (constants.length > 0) {
+            hash = combine(hash, hashString(constants[0].getDeclaringClass().getName()));
+        }
+
+        for (Enum<?> constant : constants) {
+            hash = combine(hash, hashString(constant.name()));
+        }
+
+        return hash;
+    }
+
+    /**
+     * Computes the structural hash of a custom or unknown type with provided type information.
+     *
+     * @param tag             {@link StructuralHasher#CUSTOM_TAG} or {@link StructuralHasher#UNKNOWN_TAG}
+     * @param typeInformation type information of the custom or unknown type
+     * @return structural hash of the custom or unknown type
+     */
+    static long hashTypeInformation(long tag, TypeInformation typeInformation) {
+        return combine(tag, hashString(typeInformation.toString()));
+    }
+
+    /**
+     * Computes the contribution of a single field to the structural hash of a complex type. Contributions of all
+     * fields are summed, which makes the structural hash of a complex type independent of field order.
+     *
+     * @param fieldName name of the field
+     * @param fieldHash structural hash of the field type
+     * @return contribution of the field
+     */
+    static long hashField(String fieldName, long fieldHash) {
+        return combine(hashString(fieldName), fieldHash);
+    }
+
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    @Override
+    public void visitSimple(SimpleType type) {
+        this.result = type.structuralHash();
+    }
+
+    @Override
+    public void visitEnum(Enum<?>[] enumConstants) {
+        this.result = hashEnum(enumConstants);
+    }
+
+    @Override
+    public void visitBeforeArrayElementType() {
+        // hash is computed after element type is visited
+    }
+
+    @Override
+    public boolean shouldVisitArrayElementType() {
+        return true;
+    }
+
+    @Override
+    public void visitAfterArrayElementType() {
+        this.result = combine(ARRAY_TAG, this.result);
+    }
+
+    @Override
+    public void visitBeforeCollectionElementType() {
+        // hash is computed after element type is visited
+    }
+
+    @Override
+    public boolean shouldVisitCollectionElementType() {
+        return true;
+    }
+
+    @Override
+    public void visitAfterCollectionElementType() {
+        this.result = combine(COLLECTION_TAG, this.result);
+    }
+
+    @Override
+    public void visitBeforeMapKeyType() {
+        // hash is computed after key type is visited
+    }
+
+    @Override
+    public boolean shouldVisitMapKeyType() {
+        return true;
+    }
+
+    @Override
+    public void visitAfterMapKeyType() {
+        this.push(combine(MAP_TAG, this.result));
+    }
+
+    @Override
+    public void visitBeforeMapValueType() {
+        // hash is computed after value type is visited
+    }
+
+    @Override
+    public boolean shouldVisitMapValueType() {
+        return true;
+    }
+
+    @Override
+    public void visitAfterMapValueType() {
+        this.result = combine(this.pop(), this.result);
+    }
+
+    @Override
+    public void visitBeforeAllComplexFields() {
+        this.push(0L);
+    }
+
+    @Override
+    public boolean shouldVisitComplexFields() {
+        return true;
+    }
+
+    @Override
+    public void visitBeforeComplexField(String fieldName) {
+        // hash is computed after field type is visited
+    }
+
+    @Override
+    public boolean shouldVisitComplexFieldType(String fieldName) {
+        return true;
+    }
+
+    @Override
+    public void visitAfterComplexField(String fieldName) {
+        this.pendingHashes[this.pendingHashCount - 1] += hashField(fieldName, this.result);
+    }
+
+    @Override
+    public void visitAfterAllComplexFields() {
+        this.result = combine(COMPLEX_TAG, this.pop());
+    }
+
+    @Override
+    public void visitCustom(TypeInformation customTypeInformation) {
+        this.result = hashTypeInformation(CUSTOM_TAG, customTypeInformation);
+    }
+
+    @Override
+    public void visitUnknown(TypeInformation unknownTypeInformation) {
+        this.result = hashTypeInformation(UNKNOWN_TAG, unknownTypeInformation);
+    }
+
+    //
+    // PRIVATE METHODS
+    //
+    private void push(long value) {
+        if (this.pendingHashCount == this.pendingHashes.length) {
+            this.pendingHashes = Arrays.copyOf(this.pendingHashes, this.pendingHashes.length * 2);
+        }
+
+        this.pendingHashes[this.pendingHashCount] = value;
+        this.pendingHashCount += 1;
+    }
+
+    private long pop() {
+        this.pendingHashCount -= 1;
+        return this.pendingHashes[this.pendingHashCount];
+    }
+}
@@ -0,0 +1,463 @@
+package at.doml.restinfo.type;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Class which provides pull-based traversal of type trees generated by {@link TypeTreeGenerator}. Unlike
+ * {@link TypeVisitor}, which is called by the type tree, the cursor is advanced by its user by calling
+ * {@link TypeTreeCursor#next()}, which returns the next traversal {@link Event}. This makes it possible to pause,
+ * resume and interleave traversals of multiple type trees. Additional information about the current event (for
+ * example field name or simple type) is fetched from the cursor itself, which is the only event holder, so iterating
+ * over the type tree does not allocate a new object for every event.<br/>
+ * <br/>
+ * Every <code>START_*</code> event is eventually followed by the matching <code>END_*</code> event. Children of the
+ * node entered by the <code>START_*</code> event can be skipped by calling {@link TypeTreeCursor#skipChildren()}
+ * immediately after the event, in which case the next event will be the matching <code>END_*</code> event. Events
+ * generated by the cursor correspond to <code>TypeVisitor</code> methods as follows:<ul>
+ * <li>{@link Event#SIMPLE} - {@link TypeVisitor#visitSimple(SimpleType)}</li>
+ * <li>{@link Event#ENUM} - {@link TypeVisitor#visitEnum(Enum[])}</li>
+ * <li>{@link Event#CUSTOM} - {@link TypeVisitor#visitCustom(TypeInformation)}</li>
+ * <li>{@link Event#UNKNOWN} - {@link TypeVisitor#visitUnknown(TypeInformation)}</li>
+ * <li>{@link Event#START_ARRAY} and {@link Event#END_ARRAY} - {@link TypeVisitor#visitBeforeArrayElementType()} and
+ * {@link TypeVisitor#visitAfterArrayElementType()}</li>
+ * <li>{@link Event#START_COLLECTION} and {@link Event#END_COLLECTION} -
+ * {@link TypeVisitor#visitBeforeCollectionElementType()} and {@link TypeVisitor#visitAfterCollectionElementType()}
+ * </li>
+ * <li>{@link Event#START_MAP_KEY} and {@link Event#END_MAP_KEY} - {@link TypeVisitor#visitBeforeMapKeyType()} and
+ * {@link TypeVisitor#visitAfterMapKeyType()}</li>
+ * <li>{@link Event#START_MAP_VALUE} and {@link Event#END_MAP_VALUE} - {@link TypeVisitor#visitBeforeMapValueType()}
+ * and {@link TypeVisitor#visitAfterMapValueType()}</li>
+ * <li>{@link Event#START_COMPLEX} and {@link Event#END_COMPLEX} - {@link TypeVisitor#visitBeforeAllComplexFields()}
+ * and {@link TypeVisitor#visitAfterAllComplexFields()}</li>
+ * <li>{@link Event#START_FIELD} and {@link Event#END_FIELD} - {@link TypeVisitor#visitBeforeComplexField(String)} and
+ * {@link TypeVisitor#visitAfterComplexField(String)}</li>
+ * </ul>
+ * Nodes which are not generated by <code>TypeTreeGenerator</code> cannot be decomposed by the cursor, so they
+ * produce a single {@link Event#OTHER} event.<br/>
+ * <br/>
+ * Instances of this class are not thread-safe.
+ *
+ * @author Domagoj Latečki
+ * @version 1.0.0
+ * @see TypeVisitor
+ * @see TypeTreeTraversal
+ */
+public final class TypeTreeCursor {
+
+    //
+    // CONSTANTS
+    //
+    private static final String TYPE_TREE_NOT_NULL = "typeTree must not be null";
+    private static final int INITIAL_STACK_SIZE = 16;
+    private static final int BEFORE_CHILD = 0;
+    private static final int AFTER_CHILD = 1;
+    private static final int AFTER_KEY = 1;
+    private static final int BEFORE_VALUE = 2;
+    private static final int AFTER_VALUE = 3;
+    private static final int NEXT_FIELD = 1;
+    private static final int AFTER_FIELD = 2;
+    private static final int AFTER_ALL_FIELDS = 3;
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private Frame[] frames = new Frame[INITIAL_STACK_SIZE];
+    private int depth;
+    private Event event;
+    private VisitableType type;
+    private String fieldName;
+    private Frame skippableFrame;
+    private VisitableType pendingChild;
+
+    /**
+     * Constructs a cursor positioned before the first event of provided type tree.
+     *
+     * @param typeTree root node of the type tree to traverse (must not be <code>null</code>)
+     * @throws NullPointerException if provided parameter is <code>null</code>
+     */
+    public TypeTreeCursor(VisitableType typeTree) {
+        this.push(Objects.requireNonNull(typeTree, TYPE_TREE_NOT_NULL));
+    }
+
+    //
+    // UTIL CLASSES AND INTERFACES
+    //
+
+    /**
+     * An enumeration which defines events produced by {@link TypeTreeCursor}.
+     *
+     * @author Domagoj Latečki
+     * @version 1.0.0
+     */
+    public enum Event {
+        /**
+         * Simple type was visited. The type is available through {@link TypeTreeCursor#getSimpleType()}.
+         */
+        SIMPLE,
+        /**
+         * Enumeration was visited. Enumeration constants are available through
+         * {@link TypeTreeCursor#getEnumConstants()}.
+         */
+        ENUM,
+        /**
+         * Custom type was visited. Type information is available through
+         * {@link TypeTreeCursor#getTypeInformation()}.
+         */
+        CUSTOM,
+        /**
+         * Unknown type was visited. Type information is available through
+         * {@link TypeTreeCursor#getTypeInformation()}.
+         */
+        UNKNOWN,
+        /**
+         * Node which was not generated by {@link TypeTreeGenerator} was visited. The node is available through
+         * {@link TypeTreeCursor#getType()}.
+         */
+        OTHER,
+        /**
+         * Array was entered, element type follows unless skipped.
+         */
+        START_ARRAY,
+        /**
+         * Array was exited.
+         */
+        END_ARRAY,
+        /**
+         * Collection was entered, element type follows unless skipped.
+         */
+        START_COLLECTION,
+        /**
+         * Collection was exited.
+         */
+        END_COLLECTION,
+        /**
+         * Map was entered, key type follows unless skipped.
+         */
+        START_MAP_KEY,
+        /**
+         * Map key type was exited.
+         */
+        END_MAP_KEY,
+        /**
+         * Map value type was entered, value type follows unless skipped.
+         */
+        START_MAP_VALUE,
+        /**
+         * Map was exited.
+         */
+        END_MAP_VALUE,
+        /**
+         * Complex type was entered, its fields follow unless skipped.
+         */
+        START_COMPLEX,
+        /**
+         * Field of complex type was entered, field type follows unless skipped. Field name is available through
+         * {@link TypeTreeCursor#getFieldName()}.
+         */
+        START_FIELD,
+        /**
+         * Field of complex type was exited. Field name is available through {@link TypeTreeCursor#getFieldName()}.
+         */
+        END_FIELD,
+        /**
+         * Complex type was exited.
+         */
+        END_COMPLEX
+    }
+
+    /**
+     * Holds traversal state of a single type tree node. Frames are reused between nodes to avoid allocation during
+     * traversal.
+     */
+    private static final class Frame {
+        private VisitableType type;
+        private int state;
+        private int fieldIndex;
+        private String fieldName;
+        private VisitableType fieldType;
+
+        private void clear() {
+            this.type = null;
+            this.fieldName = null;
+            this.fieldType = null;
+        }
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+
+    /**
+     * Checks if there are more events in the type tree.
+     *
+     * @return <code>true</code> if calling {@link TypeTreeCursor#next()} will produce an event, <code>false</code>
+     * otherwise
+     */
+    public boolean hasNext() {
+        return this.depth > 0;
+    }
+
+    /**
+     * Advances the cursor to the next event.
+     *
+     * @return the next event
+     * @throws NoSuchElementException if there are no more events
+     */
+    public Event next() {
+        if (this.depth == 0) {
+            throw new NoSuchElementException("no more events in type tree");
+        }
+
+        this.skippableFrame = null;
+
+        if (this.pendingChild != null) {
+            VisitableType child = this.pendingChild;
+            this.pendingChild = null;
+            this.push(child);
+        }
+
+        Frame frame = this.frames[this.depth - 1];
+        VisitableType current = frame.type;
+
+        if (current instanceof ComplexType) {
+            this.stepComplex(frame);
+        } else if (current instanceof CollectionOrArrayType) {
+            this.stepCollectionOrArray(frame, (CollectionOrArrayType) current);
+        } else if (current instanceof MapType) {
+            this.stepMap(frame, (MapType) current);
+        } else {
+            this.pop();
+            this.emit(leafEvent(current), current, null);
+        }
+
+        return this.event;
+    }
+
+    /**
+     * Skips children of the node entered by the current <code>START_*</code> event. After calling this method, next
+     * call to {@link TypeTreeCursor#next()} will return the matching <code>END_*</code> event.
+     *
+     * @throws IllegalStateException if current event is not a <code>START_*</code> event
+     */
+    public void skipChildren() {
+        if (this.skippableFrame == null) {
+            throw new IllegalStateException("current event has no children to skip: " + this.event);
+        }
+
+        if (this.event == Event.START_COMPLEX) {
+            this.skippableFrame.state = AFTER_ALL_FIELDS;
+        } else {
+            this.pendingChild = null;
+        }
+
+        this.skippableFrame = null;
+    }
+
+    /**
+     * Fetches the current event.
+     *
+     * @return the current event, or <code>null</code> if {@link TypeTreeCursor#next()} was not called yet
+     */
+    public Event getEvent() {
+        return this.event;
+    }
+
+    /**
+     * Fetches the type tree node which the current event describes. For leaf events and for array, collection and
+     * complex type events this is the visited node itself. For map key and map value events this is the key and value
+     * type respectively, and for field events this is the type of the field.
+     *
+     * @return the type tree node which the current event describes
+     */
+    public VisitableType getType() {
+        return this.type;
+    }
+
+    /**
+     * Fetches the simple type of the current {@link Event#SIMPLE} event.
+     *
+     * @return the visited simple type
+     * @throws IllegalStateException if current event is not {@link Event#SIMPLE}
+     */
+    public SimpleType getSimpleType() {
+        this.requireEvent(Event.SIMPLE);
+        return (SimpleType) this.type;
+    }
+
+    /**
+     * Fetches the enumeration constants of the current {@link Event#ENUM} event. Returned array is shared with the type
+     * tree rather than copied, so that traversal does not allocate; callers must not modify it.
+     *
+     * @return constants of the visited enumeration
+     * @throws IllegalStateException if current event is not {@link Event#ENUM}
+     */
+    public Enum<?>[] getEnumConstants() {
+        this.requireEvent(Event.ENUM);
+        return ((EnumType) this.type).constants;
+    }
+
+    /**
+     * Fetches the type information of the current {@link Event#CUSTOM} or {@link Event#UNKNOWN} event.
+     *
+     * @return information about the visited custom or unknown type
+     * @throws IllegalStateException if current event is not {@link Event#CUSTOM} or {@link Event#UNKNOWN}
+     */
+    public TypeInformation getTypeInformation() {
+        if (this.event != Event.CUSTOM && this.event != Event.UNKNOWN) {
+            throw new IllegalStateException("no type information for event: " + this.event);
+        }
+
+        return ((CustomOrUnknownType) this.type).typeInformation;
+    }
+
+    /**
+     * Fetches the field name of the current {@link Event#START_FIELD} or {@link Event#END_FIELD} event.
+     *
+     * @return name of the visited field
+     * @throws IllegalStateException if current event is not {@link Event#START_FIELD} or {@link Event#END_FIELD}
+     */
+    public String getFieldName() {
+        if (this.event != Event.START_FIELD && this.event != Event.END_FIELD) {
+            throw new IllegalStateException("no field name for event: " + this.event);
+        }
+
+        return this.fieldName;
+    }
+
+    //
+    // PRIVATE METHODS
+    //
+    private static Event leafEvent(VisitableType type) {
+        if (type instanceof SimpleType) {
+            return Event.SIMPLE;
+        }
+
+        if (type instanceof EnumType) {
+            return Event.ENUM;
+        }
+
+        if (type instanceof CustomType) {
+            return Event.CUSTOM;
+        }
+
+        if (type instanceof UnknownType) {
+            return Event.UNKNOWN;
+        }
+
+        return Event.OTHER;
+    }
+
+    private void stepComplex(Frame frame) {
+        VisitableType current = frame.type;
+
+        switch (frame.state) {
+            case BEFORE_CHILD:
+                frame.fieldIndex = 0;
+                frame.state = NEXT_FIELD;
+                this.emitSkippable(Event.START_COMPLEX, current, null, frame);
+                break;
+            case NEXT_FIELD:
+                ComplexType complexType = (ComplexType) current;
+
+                if (frame.fieldIndex < complexType.fieldNames.length) {
+                    frame.fieldName = complexType.fieldNames[frame.fieldIndex];
+                    frame.fieldType = complexType.fieldTypes[frame.fieldIndex];
+                    frame.fieldIndex += 1;
+                    frame.state = AFTER_FIELD;
+                    this.pendingChild = frame.fieldType;
+                    this.emitSkippable(Event.START_FIELD, frame.fieldType, frame.fieldName, frame);
+                } else {
+                    this.pop();
+                    this.emit(Event.END_COMPLEX, current, null);
+                }
+
+                break;
+            case AFTER_FIELD:
+                frame.state = NEXT_FIELD;
+                this.emit(Event.END_FIELD, frame.fieldType, frame.fieldName);
+                break;
+            default:
+                this.pop();
+                this.emit(Event.END_COMPLEX, current, null);
+                break;
+        }
+    }
+
+    private void stepCollectionOrArray(Frame frame, CollectionOrArrayType current) {
+        boolean isArray = current instanceof ArrayType;
+
+        if (frame.state == BEFORE_CHILD) {
+            frame.state = AFTER_CHILD;
+            this.pendingChild = current.elementType;
+            this.emitSkippable(isArray ? Event.START_ARRAY : Event.START_COLLECTION, current, null, frame);
+        } else {
+            this.pop();
+            this.emit(isArray ? Event.END_ARRAY : Event.END_COLLECTION, current, null);
+        }
+    }
+
+    private void stepMap(Frame frame, MapType current) {
+        switch (frame.state) {
+            case BEFORE_CHILD:
+                frame.state = AFTER_KEY;
+                this.pendingChild = current.keyType;
+                this.emitSkippable(Event.START_MAP_KEY, current.keyType, null, frame);
+                break;
+            case AFTER_KEY:
+                frame.state = BEFORE_VALUE;
+                this.emit(Event.END_MAP_KEY, current.keyType, null);
+                break;
+            case BEFORE_VALUE:
+                frame.state = AFTER_VALUE;
+                this.pendingChild = current.valueType;
+                this.emitSkippable(Event.START_MAP_VALUE, current.valueType, null, frame);
+                break;
+            default:
+                this.pop();
+                this.emit(Event.END_MAP_VALUE, current.valueType, null);
+                break;
+        }
+    }
+
+    private void emit(Event newEvent, VisitableType newType, String newFieldName) {
+        this.event = newEvent;
+        this.type = newType;
+        this.fieldName = newFieldName;
+    }
+
+    private void emitSkippable(Event newEvent, VisitableType newType, String newFieldName, Frame frame) {
+        this.emit(newEvent, newType, newFieldName);
+        this.skippableFrame = frame;
+    }
+
+    private void requireEvent(Event expected) {
+        if (this.event != expected) {
+            throw new IllegalStateException("expected event " + expected + ", but current event is: " + this.event);
+        }
+    }
+
+    private void push(VisitableType newType) {
+        if (this.depth == this.frames.length) {
+            Frame[] newFrames = new Frame[this.frames.length * 2];
+            System.arraycopy(this.frames, 0, newFrames, 0, this.frames.length);
+            this.frames = newFrames;
+        }
+
+        Frame frame = this.frames[this.depth];
+
+        if (frame == null) {
+            frame = new Frame();
+            this.frames[this.depth] = frame;
+        }
+
+        frame.type = newType;
+        frame.state = BEFORE_CHILD;
+        this.depth += 1;
+    }
+
+    private void pop() {
+        this.depth -= 1;
+        this.frames[this.depth].clear();
+    }
+}
@@ -0,0 +1,141 @@
+package at.doml.restinfo.type;
+
+import at.doml.restinfo.type.TypeTreeDifference.Kind;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Class which computes structural differences between two type trees, for example between type trees generated for
+ * two versions of the same API. Reported differences include added and removed fields, changed types and added and
+ * removed enumeration constants, each with the path at which it was found (see {@link TypeTreeDifference}).<br/>
+ * <br/>
+ * Subtrees are compared using their structural hashes (see {@link VisitableType#structuralHash()}) before they are
+ * compared node by node, so identical subtrees are skipped in constant time and the cost of computing the differences
+ * is proportional to the size of the changed parts of the type trees. Differences within nodes which are not generated
+ * by {@link TypeTreeGenerator} are reported as {@link Kind#TYPE_CHANGED} at the path of such node.
+ *
+ * @author Domagoj Latečki
+ * @version 1.0.0
+ * @see TypeTreeDifference
+ */
+public final class TypeTreeDiff {
+
+    private TypeTreeDiff() {
+        // No instances of this class are possible
+    }
+
+    //
+    // HELPER METHODS
+    //
+
+    /**
+     * Computes differences between provided type trees. Either of the type trees can be <code>null</code>, in which
+     * case it is considered to be absent: if only the old type tree is absent, a single {@link Kind#ADDED} difference is
+     * reported for the root node, and if only the new type tree is absent, a single {@link Kind#REMOVED} difference is
+     * reported for the root node. Fields of complex types are compared in the order of their names.
+     *
+     * @param oldTypeTree root node of the old type tree, may be <code>null</code>
+     * @param newTypeTree root node of the new type tree, may be <code>null</code>
+     * @return unmodifiable list of differences, which is empty if the type trees are structurally equal
+     */
+    public static List<TypeTreeDifference> diff(VisitableType oldTypeTree, VisitableType newTypeTree) {
+        List<TypeTreeDifference> differences = new ArrayList<>();
+        diff(TypeTreePath.ROOT_PATH, oldTypeTree, newTypeTree, differences);
+        return Collections.unmodifiableList(differences);
+    }
+
+    private static void diff(String path, VisitableType oldType, VisitableType newType,
+                             List<TypeTreeDifference> differences) {
+        if (oldType == null || newType == null) {
+            if (oldType != newType) {
+                differences.add(new TypeTreeDifference(
+                        oldType == null ? Kind.ADDED : Kind.REMOVED, path, oldType, newType, null
+                ));
+            }
+
+            return;
+        }
+
+        if (oldType.structuralHash() == newType.structuralHash()) {
+            return;
+        }
+
+        if (oldType instanceof ComplexType && newType instanceof ComplexType) {
+            diffComplexTypes(path, (ComplexType) oldType, (ComplexType) newType, differences);
+        } else if (oldType instanceof CollectionOrArrayType && oldType.getClass() == newType.getClass()) {
+            diff(
+                    path + TypeTreePath.ELEMENT_PATH_SEGMENT,
+                    ((CollectionOrArrayType) oldType).elementType,
+                    ((CollectionOrArrayType) newType).elementType,
+                    differences
+            );
+        } else if (oldType instanceof MapType && newType instanceof MapType
+                && ((MapType) oldType).keyType.structuralHash() == ((MapType) newType).keyType.structuralHash()) {
+            diff(
+                    path + TypeTreePath.MAP_VALUE_PATH_SEGMENT,
+                    ((MapType) oldType).valueType,
+                    ((MapType) newType).valueType,
+                    differences
+            );
+        } else if (oldType instanceof EnumType && newType instanceof EnumType
+                && sameEnumClass((EnumType) oldType, (EnumType) newType)) {
+            diffEnumTypes(path, (EnumType) oldType, (EnumType) newType, differences);
+        } else {
+            differences.add(new TypeTreeDifference(Kind.TYPE_CHANGED, path, oldType, newType, null));
+        }
+    }
+
+    private static void diffComplexTypes(String path, ComplexType oldType, ComplexType newType,
+                                         List<TypeTreeDifference> differences) {
+        SortedSet<String> fieldNames = new TreeSet<>(oldType.fields.keySet());
+        fieldNames.addAll(newType.fields.keySet());
+
+        for (String fieldName : fieldNames) {
+            diff(
+                    path + TypeTreePath.FIELD_PATH_SEGMENT_PREFIX + fieldName,
+                    oldType.fields.get(fieldName),
+                    newType.fields.get(fieldName),
+                    differences
+            );
+        }
+    }
+
+    private static boolean sameEnumClass(EnumType oldType, EnumType newType) {
+        return oldType.constants.length == 0 || newType.constants.length == 0
+                || oldType.constants[0].getDeclaringClass().getName()
+                .equals(newType.constants[0].getDeclaringClass().getName());
+    }
+
+    private static void diffEnumTypes(String path, EnumType oldType, EnumType newType,
+                                      List<TypeTreeDifference> differences) {
+        Set<String> oldConstants = constantNames(oldType);
+        Set<String> newConstants = constantNames(newType);
+
+        for (String constant : oldConstants) {
+            if (!newConstants.contains(constant)) {
+                differences.add(new TypeTreeDifference(Kind.ENUM_CONSTANT_REMOVED, path, oldType, newType, constant));
+            }
+        }
+
+        for (String constant : newConstants) {
+            if (!oldConstants.contains(constant)) {
+                differences.add(new TypeTreeDifference(Kind.ENUM_CONSTANT_ADDED, path, oldType, newType, constant));
+            }
+        }
+    }
+
+    private static Set<String> constantNames(EnumType type) {
+        Set<String> names = new LinkedHashSet<>();
+
+        for (Enum<?> constant : type.constants) {
+            names.add(constant.name());
+        }
+
+        return names;
+    }
+}
@@ -0,0 +1,131 @@
+package at.doml.restinfo.type;
+
+/**
+ * Class which describes a single difference between two type trees, as reported by {@link TypeTreeDiff}. Each
+ * difference has a kind, a path to the node at which the difference was found and references to the old and new node
+ * at that path. The path uses the syntax described in {@link TypeTreePath}, so it can be parsed and resolved against
+ * either type tree. Instances of this class are immutable.
+ *
+ * @author Domagoj Latečki
+ * @version 1.0.0
+ * @see TypeTreeDiff
+ */
+public final class TypeTreeDifference {
+
+    /**
+     * An enumeration which defines kinds of differences between two type trees.<br/>
+     * Available kinds are as follows:<ul>
+     * <li>{@link Kind#ADDED} - node exists only in the new type tree</li>
+     * <li>{@link Kind#REMOVED} - node exists only in the old type tree</li>
+     * <li>{@link Kind#TYPE_CHANGED} - node exists in both type trees, but its type has changed</li>
+     * <li>{@link Kind#ENUM_CONSTANT_ADDED} - enumeration constant exists only in the new type tree</li>
+     * <li>{@link Kind#ENUM_CONSTANT_REMOVED} - enumeration constant exists only in the old type tree</li>
+     * </ul>
+     */
+    public enum Kind {
+        /**
+         * Node exists only in the new type tree. Old node is <code>null</code>.
+         */
+        ADDED,
+        /**
+         * Node exists only in the old type tree. New node is <code>null</code>.
+         */
+        REMOVED,
+        /**
+         * Node exists in both type trees, but its type has changed. For example, a field which was an array in the old
+         * type tree is a collection in the new type tree, or a map whose key type has changed.
+         */
+        TYPE_CHANGED,
+        /**
+         * Enumeration at the path exists in both type trees, but the constant returned by
+         * {@link TypeTreeDifference#getEnumConstant()} exists only in the new type tree.
+         */
+        ENUM_CONSTANT_ADDED,
+        /**
+         * Enumeration at the path exists in both type trees, but the constant returned by
+         * {@link TypeTreeDifference#getEnumConstant()} exists only in the old type tree.
+         */
+        ENUM_CONSTANT_REMOVED
+    }
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final Kind kind;
+    private final String path;
+    private final VisitableType oldType;
+    private final VisitableType newType;
+    private final String enumConstant;
+
+    TypeTreeDifference(Kind kind, String path, VisitableType oldType, VisitableType newType, String enumConstant) {
+        this.kind = kind;
+        this.path = path;
+        this.oldType = oldType;
+        this.newType = newType;
+        this.enumConstant = enumConstant;
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+
+    /**
+     * Fetches the kind of this difference.
+     *
+     * @return kind of this difference
+     */
+    public Kind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Fetches the path to the node at which this difference was found, in the syntax described in
+     * {@link TypeTreePath}.
+     *
+     * @return path to the node at which this difference was found
+     */
+    public String getPath() {
+        return this.path;
+    }
+
+    /**
+     * Fetches the node at the path of this difference in the old type tree.
+     *
+     * @return node in the old type tree, or <code>null</code> for differences of kind {@link Kind#ADDED}
+     */
+    public VisitableType getOldType() {
+        return this.oldType;
+    }
+
+    /**
+     * Fetches the node at the path of this difference in the new type tree.
+     *
+     * @return node in the new type tree, or <code>null</code> for differences of kind {@link Kind#REMOVED}
+     */
+    public VisitableType getNewType() {
+        return this.newType;
+    }
+
+    /**
+     * Fetches the name of the enumeration constant which was added or removed.
+     *
+     * @return name of the enumeration constant for differences of kind {@link Kind#ENUM_CONSTANT_ADDED} and
+     * {@link Kind#ENUM_CONSTANT_REMOVED}, <code>null</code> otherwise
+     */
+    public String getEnumConstant() {
+        return this.enumConstant;
+    }
+
+    /**
+     * Returns a string representation of this object, which contains the kind and the path of this difference, and the
+     * name of the enumeration constant if there is one.
+     *
+     * @return a string representation of this object
+     */
+    @Override
+    public String toString() {
+        return this.enumConstant == null
+                ? this.kind + " " + this.path
+                : this.kind + " " + this.path + " " + this.enumConstant;
+    }
+}
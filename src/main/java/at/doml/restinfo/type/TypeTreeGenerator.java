@@ -65,7 +65,11 @@ import java.util.regex.Pattern;
  * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;generator.generateTree(type);<br/>
  * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;generator.registerCustomType(type);<br/>
  * &nbsp;&nbsp;&nbsp;&nbsp;}).start();<br/>
- * }</code>
+ * }</code><br/>
+ * <br/>
+ * Type trees generated by this class are deeply immutable: all nodes have only <code>final</code> fields and all
+ * collections contained in the nodes are unmodifiable. Therefore, generated type trees are safely published to all
+ * threads and can be visited by any number of threads concurrently, without synchronization or defensive copies.
  *
  * @author Domagoj Latečki
  * @version 1.0.0
@@ -203,24 +207,14 @@ public final class TypeTreeGenerator {
         return types;
     }
 
-    private static ComplexType mapToComplexType(Map.Entry<String, VisitableType> entry) {
-        String fieldName = entry.getKey();
+    private static void addRootField(Map<String, VisitableType> fields, Map.Entry<String, VisitableType> entry) {
         VisitableType fieldType = entry.getValue();
 
         if (fieldType instanceof ComplexType) {
-            return (ComplexType) fieldType;
+            fields.putAll(((ComplexType) fieldType).fields);
+        } else {
+            fields.put(entry.getKey(), fieldType);
         }
-
-        ComplexType complexType = new ComplexType();
-
-        complexType.addField(fieldName, fieldType);
-
-        return complexType;
-    }
-
-    private static ComplexType mergeComplexTypes(ComplexType left, ComplexType right) {
-        left.fields.putAll(right.fields);
-        return left;
     }
 
     //
@@ -549,12 +543,13 @@ public final class TypeTreeGenerator {
      *                                  {@link UnknownTypeHandling#THROW_EXCEPTION}
      */
     public VisitableType generateTree(Map<String, Type> types) {
-        return requireTypesNonEmpty(Objects.requireNonNull(types, TYPES_NOT_NULL))
-                .entrySet()
-                .stream()
-                .map(this::generateTree)
-                .map(TypeTreeGenerator::mapToComplexType)
-                .reduce(new ComplexType(), TypeTreeGenerator::mergeComplexTypes);
+        return new ComplexType(
+                requireTypesNonEmpty(Objects.requireNonNull(types, TYPES_NOT_NULL))
+                        .entrySet()
+                        .stream()
+                        .map(this::generateTree)
+                        .collect(HashMap::new, TypeTreeGenerator::addRootField, Map::putAll)
+        );
     }
 
     //
@@ -630,13 +625,13 @@ public final class TypeTreeGenerator {
     }
 
     private VisitableType generateTreeForComplexClass(Class<?> clazz, TypeInformation typeInformation) {
-        ComplexType complexType = new ComplexType();
+        Map<String, VisitableType> fields = new HashMap<>();
         Map<String, String> typeNameMappings = createTypeNameMappings(clazz, typeInformation);
 
-        this.addFieldsToComplexType(clazz, typeNameMappings, complexType);
-        this.addFieldsFromMethodsToComplexType(clazz, typeNameMappings, complexType);
+        this.addFieldsToComplexType(clazz, typeNameMappings, fields);
+        this.addFieldsFromMethodsToComplexType(clazz, typeNameMappings, fields);
 
-        return complexType;
+        return new ComplexType(fields);
     }
 
     private static Map<String, String> createTypeNameMappings(Class<?> clazz, TypeInformation typeInformation) {
@@ -652,24 +647,25 @@ public final class TypeTreeGenerator {
         return typeNameMappings;
     }
 
-    private void addFieldsToComplexType(Class<?> clazz, Map<String, String> typeNameMappings, ComplexType complexType) {
+    private void addFieldsToComplexType(Class<?> clazz, Map<String, String> typeNameMappings,
+                                        Map<String, VisitableType> fields) {
         Field[] publicFields = clazz.getFields();
 
         for (Field publicField : publicFields) {
-            complexType.addField(publicField.getName(), this.generateTree(
+            fields.put(publicField.getName(), this.generateTree(
                     new TypeInformation(publicField.getGenericType(), typeNameMappings)
             ));
         }
     }
 
     private void addFieldsFromMethodsToComplexType(Class<?> clazz, Map<String, String> typeNameMappings,
-                                                   ComplexType complexType) {
+                                                   Map<String, VisitableType> fields) {
         Method[] publicMethods = clazz.getMethods();
 
         for (Method publicMethod : publicMethods) {
             for (ClassFieldFetcher fetcher : this.methodFieldExtraction.fetchers) {
                 if (fetcher.canFetchFrom(publicMethod)) {
-                    complexType.addField(getFieldName(publicMethod.getName()), this.generateTree(
+                    fields.put(getFieldName(publicMethod.getName()), this.generateTree(
                             fetcher.fetchField(publicMethod, typeNameMappings)
                     ));
                 }
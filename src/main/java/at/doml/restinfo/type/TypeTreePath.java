@@ -0,0 +1,240 @@
+package at.doml.restinfo.type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Class which represents a path to a node in type tree, similar to a <code>JSONPath</code> expression. Each path starts
+ * with <code>$</code>, which denotes the root node, and is followed by zero or more segments:<ul>
+ * <li><code>.name</code> - selects field with specified name of a complex type</li>
+ * <li><code>[]</code> - selects element type of an array or a collection</li>
+ * <li><code>.*</code> - selects value type of a map</li>
+ * </ul>
+ * For example, path <code>$.order.lines[].price</code> selects type of the <code>price</code> field of the element
+ * type of the <code>lines</code> field, which is a field of the <code>order</code> field of the root node.<br/>
+ * <br/>
+ * Paths are resolved by following child references of the nodes, so resolving a path takes time proportional to the
+ * number of its segments, regardless of the size of the type tree. Fields of complex types are looked up in a hash
+ * based index. Only nodes generated by {@link TypeTreeGenerator} can be resolved through; if a path passes through a
+ * node of any other implementation of {@link VisitableType}, it is not resolved. Instances of this class are immutable.
+ *
+ * @author Domagoj Latečki
+ * @version 1.0.0
+ * @see TypeTreeGenerator
+ */
+public final class TypeTreePath {
+
+    //
+    // CONSTANTS
+    //
+    private static final String NOT_NULL = " must not be null";
+    private static final String PATH_NOT_NULL = "path" + NOT_NULL;
+    private static final String PATHS_NOT_NULL = "paths" + NOT_NULL;
+    private static final String TYPE_TREE_NOT_NULL = "typeTree" + NOT_NULL;
+    private static final String INVALID_PATH = "invalid type tree path: ";
+    private static final char ROOT = '$';
+    private static final char FIELD_SEPARATOR = '.';
+    private static final char ELEMENT_START = '[';
+    private static final char ELEMENT_END = ']';
+    private static final String ELEMENT = "[]";
+    private static final String MAP_VALUE = "*";
+    static final String ROOT_PATH = String.valueOf(ROOT);
+    static final String ELEMENT_PATH_SEGMENT = ELEMENT;
+    static final String MAP_VALUE_PATH_SEGMENT = FIELD_SEPARATOR + MAP_VALUE;
+    static final String FIELD_PATH_SEGMENT_PREFIX = String.valueOf(FIELD_SEPARATOR);
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final String path;
+    private final String[] segments;
+
+    private TypeTreePath(String path, String[] segments) {
+        this.path = path;
+        this.segments = segments;
+    }
+
+    //
+    // FACTORY METHODS
+    //
+
+    /**
+     * Parses provided string into a type tree path. See {@link TypeTreePath} for the syntax of the path.
+     *
+     * @param path string to parse (must not be <code>null</code>)
+     * @return parsed type tree path
+     * @throws NullPointerException     if provided parameter is <code>null</code>
+     * @throws IllegalArgumentException if provided string is not a valid type tree path
+     */
+    public static TypeTreePath parse(String path) {
+        Objects.requireNonNull(path, PATH_NOT_NULL);
+
+        if (path.isEmpty() || path.charAt(0) != ROOT) {
+            throw new IllegalArgumentException(INVALID_PATH + path);
+        }
+
+        List<String> segments = new ArrayList<>();
+        int index = 1;
+
+        while (index < path.length()) {
+            char current = path.charAt(index);
+
+            if (current == ELEMENT_START) {
+                if (index + 1 == path.length() || path.charAt(index + 1) != ELEMENT_END) {
+                    throw new IllegalArgumentException(INVALID_PATH + path);
+                }
+
+                segments.add(ELEMENT);
+                index += 2;
+            } else if (current == FIELD_SEPARATOR) {
+                int end = index + 1;
+
+                while (end < path.length() && !isSegmentStart(path.charAt(end))) {
+                    end++;
+                }
+
+                if (end == index + 1) {
+                    throw new IllegalArgumentException(INVALID_PATH + path);
+                }
+
+                segments.add(path.substring(index + 1, end));
+                index = end;
+            } else {
+                throw new IllegalArgumentException(INVALID_PATH + path);
+            }
+        }
+
+        return new TypeTreePath(path, segments.toArray(new String[0]));
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static boolean isSegmentStart(char c) {
+        return c == FIELD_SEPARATOR || c == ELEMENT_START || c == ELEMENT_END;
+    }
+
+    private static VisitableType child(VisitableType type, String segment) {
+        if (ELEMENT.equals(segment)) {
+            return type instanceof CollectionOrArrayType ? ((CollectionOrArrayType) type).elementType : null;
+        }
+
+        if (MAP_VALUE.equals(segment)) {
+            return type instanceof MapType ? ((MapType) type).valueType : null;
+        }
+
+        return type instanceof ComplexType ? ((ComplexType) type).fields.get(segment) : null;
+    }
+
+    /**
+     * Resolves all provided paths against provided type tree in a single pass. Paths which share a common prefix
+     * resolve that prefix only once, so resolving many paths does not require traversing the type tree many times.
+     * Paths which cannot be resolved are not contained in the returned map.
+     *
+     * @param typeTree root node of the type tree (must not be <code>null</code>)
+     * @param paths    paths to resolve (must not be <code>null</code> or contain <code>null</code> elements)
+     * @return map of resolved paths and nodes which they select
+     * @throws NullPointerException if any of provided parameters is <code>null</code> or if provided collection
+     *                              contains <code>null</code> elements
+     */
+    public static Map<TypeTreePath, VisitableType> resolveAll(VisitableType typeTree,
+                                                              Collection<TypeTreePath> paths) {
+        Objects.requireNonNull(typeTree, TYPE_TREE_NOT_NULL);
+        Objects.requireNonNull(paths, PATHS_NOT_NULL);
+
+        PathTrie root = new PathTrie();
+
+        for (TypeTreePath path : paths) {
+            root.add(Objects.requireNonNull(path, PATH_NOT_NULL));
+        }
+
+        Map<TypeTreePath, VisitableType> resolved = new HashMap<>();
+        root.resolve(typeTree, resolved);
+        return resolved;
+    }
+
+    //
+    // UTIL CLASSES AND INTERFACES
+    //
+
+    /**
+     * Prefix tree of path segments, used to resolve multiple paths in a single pass.
+     */
+    private static final class PathTrie {
+
+        private final Map<String, PathTrie> children = new HashMap<>();
+        private final List<TypeTreePath> paths = new ArrayList<>(1);
+
+        private void add(TypeTreePath path) {
+            PathTrie node = this;
+
+            for (String segment : path.segments) {
+                node = node.children.computeIfAbsent(segment, s -> new PathTrie());
+            }
+
+            node.paths.add(path);
+        }
+
+        private void resolve(VisitableType type, Map<TypeTreePath, VisitableType> resolved) {
+            for (TypeTreePath path : this.paths) {
+                resolved.put(path, type);
+            }
+
+            this.children.forEach((segment, node) -> {
+                VisitableType child = child(type, segment);
+
+                if (child != null) {
+                    node.resolve(child, resolved);
+                }
+            });
+        }
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+
+    /**
+     * Resolves this path against provided type tree.
+     *
+     * @param typeTree root node of the type tree (must not be <code>null</code>)
+     * @return node selected by this path, or empty optional if there is no such node in the type tree
+     * @throws NullPointerException if provided parameter is <code>null</code>
+     */
+    public Optional<VisitableType> resolve(VisitableType typeTree) {
+        VisitableType current = Objects.requireNonNull(typeTree, TYPE_TREE_NOT_NULL);
+
+        for (int i = 0; i < this.segments.length && current != null; i++) {
+            current = child(current, this.segments[i]);
+        }
+
+        return Optional.ofNullable(current);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof TypeTreePath
+                && Arrays.equals(this.segments, ((TypeTreePath) other).segments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.segments);
+    }
+
+    /**
+     * Returns a string representation of this object, which is the string from which this path was parsed.
+     *
+     * @return a string representation of this object
+     */
+    @Override
+    public String toString() {
+        return this.path;
+    }
+}
@@ -0,0 +1,155 @@
+package at.doml.restinfo.type;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * An enumeration which defines available strategies for traversing type trees generated by {@link TypeTreeGenerator}.
+ * All strategies call the same <code>TypeVisitor</code> methods in the same order, including the calls to
+ * <code>shouldVisit*</code> methods, so any visitor can be used with any of the strategies.<br/>
+ * Available strategies are as follows:<ul>
+ * <li>{@link TypeTreeTraversal#RECURSIVE} - type tree is traversed by calling
+ * {@link VisitableType#accept(TypeVisitor)} on the root node</li>
+ * <li>{@link TypeTreeTraversal#ITERATIVE} - type tree is traversed using an explicit stack allocated on the heap</li>
+ * <li>{@link TypeTreeTraversal#COMPILED} - type tree is compiled into a {@link CompiledTypeTree} once, and the
+ * compiled instructions are replayed on every traversal</li>
+ * </ul>
+ *
+ * @author Domagoj Latečki
+ * @version 1.0.0
+ * @see TypeVisitor
+ * @see VisitableType
+ * @see CompiledTypeTree
+ */
+public enum TypeTreeTraversal {
+    /**
+     * Type tree is traversed by calling {@link VisitableType#accept(TypeVisitor)} on the root node. Each level of the
+     * type tree uses several frames of the call stack, so very deep type trees may cause a
+     * {@link StackOverflowError} on threads with small stacks.
+     */
+    RECURSIVE(VisitableType::accept),
+    /**
+     * Type tree is traversed using an explicit stack allocated on the heap, so depth of the type tree is not limited by
+     * the size of the call stack. Nodes which are not generated by {@link TypeTreeGenerator} are visited by calling
+     * {@link VisitableType#accept(TypeVisitor)} on them.
+     */
+    ITERATIVE(TypeTreeTraversal::traverseIteratively),
+    /**
+     * Type tree is compiled into a {@link CompiledTypeTree} when it is traversed for the first time, and the compiled
+     * type tree is visited on this and every following traversal. Compiled type trees are cached for as long as the
+     * original type tree is reachable, so this strategy is best suited for type trees which are traversed repeatedly,
+     * e.g. when the same API documentation is rendered many times. Since compilation and visiting do not use the call
+     * stack, depth of the type tree is not limited by the size of the call stack. Compiled type tree is kept by the
+     * root node of the type tree, so no shared state is involved and traversals on multiple threads do not contend.
+     * Nodes which are not generated by {@link TypeTreeGenerator} are visited by calling
+     * {@link VisitableType#accept(TypeVisitor)} on them.
+     */
+    COMPILED(TypeTreeTraversal::traverseCompiled);
+
+    //
+    // CONSTANTS
+    //
+    private static final String NOT_NULL = " must not be null";
+    private static final String TYPE_TREE_NOT_NULL = "typeTree" + NOT_NULL;
+    private static final String VISITOR_NOT_NULL = "visitor" + NOT_NULL;
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final BiConsumer<VisitableType, TypeVisitor> traverser;
+
+    TypeTreeTraversal(BiConsumer<VisitableType, TypeVisitor> traverser) {
+        this.traverser = traverser;
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static void traverseIteratively(VisitableType typeTree, TypeVisitor visitor) {
+        TypeTreeCursor cursor = new TypeTreeCursor(typeTree);
+
+        while (cursor.hasNext()) {
+            switch (cursor.next()) {
+                case START_ARRAY:
+                    visitor.visitBeforeArrayElementType();
+                    skipChildrenUnless(cursor, visitor.shouldVisitArrayElementType());
+                    break;
+                case END_ARRAY:
+                    visitor.visitAfterArrayElementType();
+                    break;
+                case START_COLLECTION:
+                    visitor.visitBeforeCollectionElementType();
+                    skipChildrenUnless(cursor, visitor.shouldVisitCollectionElementType());
+                    break;
+                case END_COLLECTION:
+                    visitor.visitAfterCollectionElementType();
+                    break;
+                case START_MAP_KEY:
+                    visitor.visitBeforeMapKeyType();
+                    skipChildrenUnless(cursor, visitor.shouldVisitMapKeyType());
+                    break;
+                case END_MAP_KEY:
+                    visitor.visitAfterMapKeyType();
+                    break;
+                case START_MAP_VALUE:
+                    visitor.visitBeforeMapValueType();
+                    skipChildrenUnless(cursor, visitor.shouldVisitMapValueType());
+                    break;
+                case END_MAP_VALUE:
+                    visitor.visitAfterMapValueType();
+                    break;
+                case START_COMPLEX:
+                    visitor.visitBeforeAllComplexFields();
+                    skipChildrenUnless(cursor, visitor.shouldVisitComplexFields());
+                    break;
+                case START_FIELD:
+                    visitor.visitBeforeComplexField(cursor.getFieldName());
+                    skipChildrenUnless(cursor, visitor.shouldVisitComplexFieldType(cursor.getFieldName()));
+                    break;
+                case END_FIELD:
+                    visitor.visitAfterComplexField(cursor.getFieldName());
+                    break;
+                case END_COMPLEX:
+                    visitor.visitAfterAllComplexFields();
+                    break;
+                default:
+                    cursor.getType().accept(visitor);
+                    break;
+            }
+        }
+    }
+
+    private static void traverseCompiled(VisitableType typeTree, TypeVisitor visitor) {
+        // compiled type tree is kept by the root node itself, single nodes and foreign nodes are visited directly
+        if (typeTree instanceof CompoundType) {
+            ((CompoundType) typeTree).compiled().accept(visitor);
+        } else {
+            typeTree.accept(visitor);
+        }
+    }
+
+    private static void skipChildrenUnless(TypeTreeCursor cursor, boolean shouldVisitChildren) {
+        if (!shouldVisitChildren) {
+            cursor.skipChildren();
+        }
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+
+    /**
+     * Traverses provided type tree using this strategy, calling appropriate methods of the <code>visitor</code> object
+     * for each visited node.
+     *
+     * @param typeTree root node of the type tree to traverse (must not be <code>null</code>)
+     * @param visitor  visitor which will visit the type tree (must not be <code>null</code>)
+     * @throws NullPointerException if any of provided parameters is <code>null</code>
+     */
+    public void traverse(VisitableType typeTree, TypeVisitor visitor) {
+        this.traverser.accept(
+                Objects.requireNonNull(typeTree, TYPE_TREE_NOT_NULL),
+                Objects.requireNonNull(visitor, VISITOR_NOT_NULL)
+        );
+    }
+}
@@ -19,7 +19,7 @@ final class UnknownType extends CustomOrUnknownType {
      * @param unknownTypeInformation additional type information about this type
      */
     UnknownType(TypeInformation unknownTypeInformation) {
-        super(unknownTypeInformation);
+        super(unknownTypeInformation, StructuralHasher.UNKNOWN_TAG);
     }
 
     @Override
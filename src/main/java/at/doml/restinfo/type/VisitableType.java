@@ -6,7 +6,11 @@ import java.util.function.Consumer;
  * Interface which defines an element in type tree which can be visited by <code>TypeVisitor</code>. In the
  * <a href="https://en.wikipedia.org/wiki/Visitor_pattern">visitor design pattern</a>, this interface represents the
  * <code>Element</code> and <code>TypeVisitor</code> interface represents the <code>Visitor</code>. As such, this
- * interface defines a single method: <code>accept(TypeVisitor)</code>.
+ * interface defines a single method: <code>accept(TypeVisitor)</code>.<br/>
+ * <br/>
+ * All implementations of this interface provided by this library are immutable, so the same type tree can be visited
+ * by any number of threads concurrently. Implementations provided by users of this library should follow the same
+ * contract.
  *
  * @author Domagoj Latečki
  * @version 1.0.0
@@ -25,4 +29,22 @@ public interface VisitableType extends Consumer<TypeVisitor> {
      */
     @Override
     void accept(TypeVisitor typeVisitor);
+
+    /**
+     * Computes the structural hash of the type tree rooted at this object. Structural hash covers the kind of each
+     * node, simple types, enumeration constants, custom and unknown type information, field names and structural
+     * hashes of all child nodes. Type trees which are visited by the same sequence of <code>TypeVisitor</code> method
+     * calls, up to the order of complex type fields, always have the same structural hash, so the structural hash can
+     * be used as a cheap pre-check for equality of type trees, or as a key for caching data derived from type trees.
+     * Different type trees may have the same structural hash, but that is very unlikely.<br/>
+     * <br/>
+     * Nodes generated by {@link TypeTreeGenerator} compute their structural hash only once and cache it, so calling this
+     * method repeatedly is cheap. The default implementation computes the structural hash by visiting this object
+     * every time this method is called.
+     *
+     * @return structural hash of the type tree rooted at this object
+     */
+    default long structuralHash() {
+        return StructuralHasher.hash(this);
+    }
 }
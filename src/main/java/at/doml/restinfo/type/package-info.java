@@ -6,6 +6,12 @@
  * <li>{@link at.doml.restinfo.type.VisitableType}</li>
  * <li>{@link at.doml.restinfo.type.TypeInformation}</li>
  * <li>{@link at.doml.restinfo.type.TypeTreeGenerator}</li>
+ * <li>{@link at.doml.restinfo.type.TypeTreeTraversal}</li>
+ * <li>{@link at.doml.restinfo.type.TypeTreeCursor}</li>
+ * <li>{@link at.doml.restinfo.type.CompiledTypeTree}</li>
+ * <li>{@link at.doml.restinfo.type.CompositeTypeVisitor}</li>
+ * <li>{@link at.doml.restinfo.type.TypeTreePath}</li>
+ * <li>{@link at.doml.restinfo.type.TypeTreeDiff}</li>
  * </ul>
  *
  * @author Domagoj Latečki
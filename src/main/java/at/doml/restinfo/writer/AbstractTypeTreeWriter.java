@@ -3,6 +3,7 @@ package at.doml.restinfo.writer;
 import at.doml.restinfo.type.SimpleType;
 import at.doml.restinfo.type.TypeInformation;
 import at.doml.restinfo.type.TypeVisitor;
+import java.io.Flushable;
 import java.io.IOException;
 import java.util.Objects;
 
@@ -12,33 +13,42 @@ public abstract class AbstractTypeTreeWriter implements TypeVisitor {
     // CONSTANTS
     //
     private static final String STRING_APPENDER_NOT_NULL = "stringAppender must not be null";
+    private static final Appendable DETACHED_TARGET = new DetachedAppendable();
 
     //
     // CONSTRUCTORS AND MEMBER VARIABLES
     //
-    protected final Appendable stringAppender;
+    protected Appendable stringAppender;
+    private Appendable target;
+    private HtmlEscapingAppendable escapingTarget;
+    private boolean ownsTarget;
+    private int depth;
 
     protected AbstractTypeTreeWriter(Appendable stringAppender) {
-        this.stringAppender = Objects.requireNonNull(stringAppender, STRING_APPENDER_NOT_NULL);
+        this.target = Objects.requireNonNull(stringAppender, STRING_APPENDER_NOT_NULL);
+        this.stringAppender = BufferedAppendable.wrap(this.target);
     }
 
     //
-    // HELPER METHODS
+    // UTIL CLASSES AND INTERFACES
     //
-    private static void tryCall(IOCallable callable) {
-        try {
-            callable.call();
-        } catch (IOException exception) {
-            throw new TypeWriterException(exception);
+    // discards everything, writer has to be reset before its output is used again
+    private static final class DetachedAppendable implements Appendable {
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            return this;
         }
-    }
 
-    //
-    // UTIL CLASSES AND INTERFACES
-    //
-    @FunctionalInterface
-    private interface IOCallable {
-        void call() throws IOException;
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            return this;
+        }
     }
 
     //
@@ -46,82 +56,262 @@ public abstract class AbstractTypeTreeWriter implements TypeVisitor {
     //
     @Override
     public final void visitSimple(SimpleType type) {
-        tryCall(() -> this.writeSimple(type));
+        try {
+            this.writeSimple(type);
+            this.flushIfOutermost();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitEnum(Enum<?>[] enumConstants) {
-        tryCall(() -> this.writeEnum(enumConstants));
+        try {
+            this.writeEnum(enumConstants);
+            this.flushIfOutermost();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitBeforeArrayElementType() {
-        tryCall(this::writeBeforeArrayElementType);
+        this.depth += 1;
+
+        try {
+            this.writeBeforeArrayElementType();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitAfterArrayElementType() {
-        tryCall(this::writeAfterArrayElementType);
+        this.depth -= 1;
+
+        try {
+            this.writeAfterArrayElementType();
+            this.flushIfOutermost();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitBeforeCollectionElementType() {
-        tryCall(this::writeBeforeCollectionElementType);
+        this.depth += 1;
+
+        try {
+            this.writeBeforeCollectionElementType();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitAfterCollectionElementType() {
-        tryCall(this::writeAfterCollectionElementType);
+        this.depth -= 1;
+
+        try {
+            this.writeAfterCollectionElementType();
+            this.flushIfOutermost();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitBeforeMapKeyType() {
-        tryCall(this::writeBeforeMapKeyType);
+        // map is open from the start of its key until the end of its value
+        this.depth += 1;
+
+        try {
+            this.writeBeforeMapKeyType();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitAfterMapKeyType() {
-        tryCall(this::writeAfterMapKeyType);
+        try {
+            this.writeAfterMapKeyType();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitBeforeMapValueType() {
-        tryCall(this::writeBeforeMapValueType);
+        try {
+            this.writeBeforeMapValueType();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitAfterMapValueType() {
-        tryCall(this::writeAfterMapValueType);
+        this.depth -= 1;
+
+        try {
+            this.writeAfterMapValueType();
+            this.flushIfOutermost();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitBeforeAllComplexFields() {
-        tryCall(this::writeBeforeAllComplexFields);
+        this.depth += 1;
+
+        try {
+            this.writeBeforeAllComplexFields();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitBeforeComplexField(String fieldName) {
-        tryCall(() -> this.writeBeforeComplexField(fieldName));
+        try {
+            this.writeBeforeComplexField(fieldName);
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitAfterComplexField(String fieldName) {
-        tryCall(() -> this.writeAfterComplexField(fieldName));
+        try {
+            this.writeAfterComplexField(fieldName);
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitAfterAllComplexFields() {
-        tryCall(this::writeAfterAllComplexFields);
+        this.depth -= 1;
+
+        try {
+            this.writeAfterAllComplexFields();
+            this.flushIfOutermost();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitCustom(TypeInformation customTypeInformation) {
-        tryCall(() -> this.writeCustom(customTypeInformation));
+        try {
+            this.writeCustom(customTypeInformation);
+            this.flushIfOutermost();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
     }
 
     @Override
     public final void visitUnknown(TypeInformation unknownTypeInformation) {
-        tryCall(() -> this.writeUnknown(unknownTypeInformation));
+        try {
+            this.writeUnknown(unknownTypeInformation);
+            this.flushIfOutermost();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
+    }
+
+    public final void reset(Appendable stringAppender) {
+        Objects.requireNonNull(stringAppender, STRING_APPENDER_NOT_NULL);
+
+        try {
+            // only a buffer created by this writer can be retargeted, a provided one may still be used elsewhere
+            if (this.stringAppender != this.target && !BufferedAppendable.isBuffered(stringAppender)) {
+                ((BufferedAppendable) this.stringAppender).retarget(stringAppender);
+            } else {
+                this.flushOwnBuffers();
+                this.stringAppender = BufferedAppendable.wrap(stringAppender);
+            }
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
+
+        this.target = stringAppender;
+        this.ownsTarget = false;
+        this.depth = 0;
+        this.resetState();
+    }
+
+    public final void flush() {
+        try {
+            if (this.stringAppender instanceof Flushable) {
+                ((Flushable) this.stringAppender).flush();
+            }
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
+    }
+
+    protected boolean writesHtml() {
+        // output is plain text by default and has to be escaped before it is embedded into HTML
+        return false;
+    }
+
+    protected void resetState() {
+        // No state to reset by default
+    }
+
+    final void detach() {
+        // idle writer keeps only its own buffer, output of the previous document can be garbage collected
+        try {
+            if (this.stringAppender != this.target) {
+                ((BufferedAppendable) this.stringAppender).retarget(DETACHED_TARGET);
+            } else {
+                this.stringAppender = DETACHED_TARGET;
+            }
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
+
+        this.target = DETACHED_TARGET;
+        this.ownsTarget = false;
+        this.depth = 0;
+        this.resetState();
+    }
+
+    final void resetEscaped(Appendable stringAppender) {
+        // escaping wrapper is kept with the writer, so that reusing the writer does not create a new one
+        if (this.escapingTarget == null) {
+            this.escapingTarget = new HtmlEscapingAppendable(stringAppender);
+        } else {
+            this.escapingTarget.retarget(stringAppender);
+        }
+
+        this.reset(this.escapingTarget);
+    }
+
+    final void markTargetOwned() {
+        // target created by the writer itself has no other owner which would flush it
+        this.ownsTarget = true;
+    }
+
+    final void flushOwnBuffers() {
+        // buffers provided by the caller are flushed by the caller at its own boundaries, e.g. once per document
+        if (this.stringAppender != this.target || this.ownsTarget) {
+            this.flush();
+        }
+    }
+
+    //
+    // PRIVATE METHODS
+    //
+    private void flushIfOutermost() {
+        // buffered output is handed to the target appendable once the whole type tree has been written
+        if (this.depth == 0) {
+            this.flushOwnBuffers();
+        }
     }
 
     //
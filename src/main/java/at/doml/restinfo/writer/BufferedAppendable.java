@@ -0,0 +1,113 @@
+package at.doml.restinfo.writer;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+final class BufferedAppendable implements Appendable, Flushable {
+
+    //
+    // CONSTANTS
+    //
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final String NULL_STRING = "null";
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private Appendable target;
+    private final char[] buffer;
+    private int length;
+
+    BufferedAppendable(Appendable target) {
+        this(target, DEFAULT_BUFFER_SIZE);
+    }
+
+    BufferedAppendable(Appendable target, int bufferSize) {
+        this.target = target;
+        this.buffer = new char[bufferSize];
+    }
+
+    //
+    // HELPER METHODS
+    //
+    static Appendable wrap(Appendable target) {
+        return isBuffered(target) ? target : new BufferedAppendable(target);
+    }
+
+    static boolean isBuffered(Appendable target) {
+        // in-memory builders and already buffered appendables gain nothing from another buffer, only an extra copy
+        return target instanceof StringBuilder || target instanceof BufferedAppendable
+                || target instanceof Utf8Appendable;
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        CharSequence sequence = csq == null ? NULL_STRING : csq;
+        return this.append(sequence, 0, sequence.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        CharSequence sequence = csq == null ? NULL_STRING : csq;
+        int count = end - start;
+
+        if (count > this.buffer.length - this.length) {
+            this.flush();
+
+            if (count >= this.buffer.length) {
+                this.target.append(sequence, start, end);
+                return this;
+            }
+        }
+
+        if (sequence instanceof String) {
+            ((String) sequence).getChars(start, end, this.buffer, this.length);
+        } else {
+            for (int i = start; i < end; i++) {
+                this.buffer[this.length + i - start] = sequence.charAt(i);
+            }
+        }
+
+        this.length += count;
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        if (this.length == this.buffer.length) {
+            this.flush();
+        }
+
+        this.buffer[this.length] = c;
+        this.length += 1;
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (this.length == 0) {
+            return;
+        }
+
+        if (this.target instanceof Writer) {
+            ((Writer) this.target).write(this.buffer, 0, this.length);
+        } else if (this.target instanceof StringBuffer) {
+            ((StringBuffer) this.target).append(this.buffer, 0, this.length);
+        } else {
+            this.target.append(CharBuffer.wrap(this.buffer, 0, this.length));
+        }
+
+        this.length = 0;
+    }
+
+    void retarget(Appendable target) throws IOException {
+        // buffered content belongs to the previous target, buffer itself is kept for the new one
+        this.flush();
+        this.target = target;
+    }
+}
@@ -0,0 +1,118 @@
+package at.doml.restinfo.writer;
+
+import org.springframework.web.HttpRequestHandler;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+
+public final class ContentHashedStylesheetProvider implements StylesheetProvider, HttpRequestHandler {
+
+    //
+    // CONSTANTS
+    //
+    private static final String NOT_NULL = " must not be null";
+    private static final String BASE_PATH_NOT_NULL = "basePath" + NOT_NULL;
+    private static final String CSS_NOT_NULL = "css" + NOT_NULL;
+    private static final String RENDERING_MODE_NOT_NULL = "renderingMode" + NOT_NULL;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int HASH_LENGTH = 8;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final String FILE_NAME_PREFIX = "restinfo-";
+    private static final String FILE_NAME_SUFFIX = ".css";
+    private static final char PATH_SEPARATOR = '/';
+    private static final char ENTITY_TAG_QUOTATION = '"';
+    private static final String CONTENT_TYPE = "text/css;charset=UTF-8";
+    private static final String CACHE_CONTROL_HEADER = "Cache-Control";
+    // file name changes with the content, so a cached stylesheet never has to be revalidated
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String ENTITY_TAG_HEADER = "ETag";
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final byte[] css;
+    private final String fileName;
+    private final String path;
+    private final String entityTag;
+    private final StylesheetProvider linkProvider;
+
+    public ContentHashedStylesheetProvider(String basePath) {
+        this(basePath, RestApiInfoHtmlWriterSettings.RenderingMode.PRETTY);
+    }
+
+    public ContentHashedStylesheetProvider(String basePath, RestApiInfoHtmlWriterSettings.RenderingMode renderingMode) {
+        this(basePath, Objects.requireNonNull(renderingMode, RENDERING_MODE_NOT_NULL).getCss());
+    }
+
+    public ContentHashedStylesheetProvider(String basePath, String css) {
+        Objects.requireNonNull(basePath, BASE_PATH_NOT_NULL);
+        this.css = Objects.requireNonNull(css, CSS_NOT_NULL).getBytes(StandardCharsets.UTF_8);
+
+        String hash = hash(this.css);
+
+        this.fileName = FILE_NAME_PREFIX + hash + FILE_NAME_SUFFIX;
+        this.path = basePath.endsWith(String.valueOf(PATH_SEPARATOR))
+                ? basePath + this.fileName
+                : basePath + PATH_SEPARATOR + this.fileName;
+        this.entityTag = ENTITY_TAG_QUOTATION + hash + ENTITY_TAG_QUOTATION;
+        this.linkProvider = new ExternalStyleSheetProvider(this.path);
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+            char[] hex = new char[HASH_LENGTH * 2];
+
+            for (int i = 0; i < HASH_LENGTH; i++) {
+                hex[2 * i] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+                hex[2 * i + 1] = HEX_DIGITS[digest[i] & 0xF];
+            }
+
+            return new String(hex);
+        } catch (NoSuchAlgorithmException exception) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    public String getPath() {
+        return this.path;
+    }
+
+    @Override
+    public void writeStylesheet(Appendable stringAppender) throws IOException {
+        this.linkProvider.writeStylesheet(stringAppender);
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // requests for stylesheets with another hash are outdated, serving current content under them would be cached
+        if (!request.getRequestURI().endsWith(this.fileName)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader(CACHE_CONTROL_HEADER, CACHE_CONTROL);
+        response.setHeader(ENTITY_TAG_HEADER, this.entityTag);
+
+        if (this.entityTag.equals(request.getHeader(IF_NONE_MATCH_HEADER))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(this.css.length);
+        response.getOutputStream().write(this.css);
+    }
+}
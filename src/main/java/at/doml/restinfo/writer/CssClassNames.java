@@ -0,0 +1,63 @@
+package at.doml.restinfo.writer;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class CssClassNames {
+
+    //
+    // CONSTANTS
+    //
+    static final String KEYWORD = "keyword";
+    static final String NUMBER = "number";
+    static final String STRING = "string";
+    static final String PROPERTY = "property";
+    private static final Map<String, String> COMPACT_NAMES;
+    private static final Pattern CLASS_SELECTOR;
+    private static final Pattern SPACE_AROUND_PUNCTUATION = Pattern.compile("\\s*([{};:,>])\\s*");
+    private static final Pattern SPACE = Pattern.compile("\\s+");
+    private static final String LAST_DECLARATION_SEPARATOR = ";}";
+    private static final String BLOCK_END = "}";
+
+    static {
+        Map<String, String> compactNames = new LinkedHashMap<>();
+        compactNames.put(KEYWORD, "k");
+        compactNames.put(NUMBER, "n");
+        compactNames.put(STRING, "s");
+        compactNames.put(PROPERTY, "p");
+        COMPACT_NAMES = Collections.unmodifiableMap(compactNames);
+        CLASS_SELECTOR = Pattern.compile("\\.(" + String.join("|", COMPACT_NAMES.keySet()) + ")(?![\\w-])");
+    }
+
+    private CssClassNames() {
+        // No instances of this class are possible
+    }
+
+    //
+    // HELPER METHODS
+    //
+    static String compact(String className) {
+        return COMPACT_NAMES.getOrDefault(className, className);
+    }
+
+    static String compactStylesheet(String css) {
+        // class names are replaced with the same names the compact type tree writer uses
+        Matcher matcher = CLASS_SELECTOR.matcher(css);
+        StringBuffer renamed = new StringBuffer(css.length());
+
+        while (matcher.find()) {
+            matcher.appendReplacement(renamed, '.' + compact(matcher.group(1)));
+        }
+
+        matcher.appendTail(renamed);
+
+        String collapsed = SPACE.matcher(renamed).replaceAll(" ");
+        return SPACE_AROUND_PUNCTUATION.matcher(collapsed)
+                .replaceAll("$1")
+                .replace(LAST_DECLARATION_SEPARATOR, BLOCK_END)
+                .trim();
+    }
+}
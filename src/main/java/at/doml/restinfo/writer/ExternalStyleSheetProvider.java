@@ -5,7 +5,7 @@ public final class ExternalStyleSheetProvider extends TemplateBasedStylesheetPro
     static final String TEMPLATE = "<link rel=\"stylesheet\" type=\"text/css\" href=\"%s\">\n";
 
     public ExternalStyleSheetProvider(String link) {
-        super(link);
+        super(HtmlEscaper.escape(link));
     }
 
     @Override
@@ -0,0 +1,83 @@
+package at.doml.restinfo.writer;
+
+import java.io.IOException;
+
+final class HtmlEscaper {
+
+    //
+    // CONSTANTS
+    //
+    private static final String[] ESCAPES = new String[128];
+
+    static {
+        ESCAPES['&'] = "&amp;";
+        ESCAPES['<'] = "&lt;";
+        ESCAPES['>'] = "&gt;";
+        ESCAPES['"'] = "&quot;";
+        ESCAPES['\''] = "&#39;";
+    }
+
+    private HtmlEscaper() {
+        // No instances of this class are possible
+    }
+
+    //
+    // HELPER METHODS
+    //
+    static void appendEscaped(Appendable appendable, String value) throws IOException {
+        appendEscaped(appendable, value, 0, value.length());
+    }
+
+    static void appendEscaped(Appendable appendable, CharSequence value, int start, int end) throws IOException {
+        int runStart = start;
+
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+
+            if (c < ESCAPES.length && ESCAPES[c] != null) {
+                // safe characters are copied in runs, not one by one
+                appendable.append(value, runStart, i);
+                appendable.append(ESCAPES[c]);
+                runStart = i + 1;
+            }
+        }
+
+        appendable.append(value, runStart, end);
+    }
+
+    static void appendEscaped(Appendable appendable, char c) throws IOException {
+        if (c < ESCAPES.length && ESCAPES[c] != null) {
+            appendable.append(ESCAPES[c]);
+        } else {
+            appendable.append(c);
+        }
+    }
+
+    static String escape(String value) {
+        if (indexOfEscapable(value) < 0) {
+            return value;
+        }
+
+        StringBuilder builder = new StringBuilder(value.length() + 16);
+
+        try {
+            appendEscaped(builder, value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // StringBuilder never throws IOException
+        }
+
+        return builder.toString();
+    }
+
+    private static int indexOfEscapable(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c < ESCAPES.length && ESCAPES[c] != null) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
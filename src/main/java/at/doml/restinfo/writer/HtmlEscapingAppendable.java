@@ -0,0 +1,49 @@
+package at.doml.restinfo.writer;
+
+import java.io.IOException;
+import java.util.Objects;
+
+// lets writers of plain text, e.g. JSON examples, be embedded into HTML documents
+final class HtmlEscapingAppendable implements Appendable {
+
+    //
+    // CONSTANTS
+    //
+    private static final String TARGET_NOT_NULL = "target must not be null";
+    private static final String NULL_STRING = "null";
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private Appendable target;
+
+    HtmlEscapingAppendable(Appendable target) {
+        this.target = Objects.requireNonNull(target, TARGET_NOT_NULL);
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        CharSequence sequence = csq == null ? NULL_STRING : csq;
+        return this.append(sequence, 0, sequence.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        HtmlEscaper.appendEscaped(this.target, csq == null ? NULL_STRING : csq, start, end);
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        HtmlEscaper.appendEscaped(this.target, c);
+        return this;
+    }
+
+    void retarget(Appendable target) {
+        // nothing is buffered, so the wrapper can be pointed at the next target right away
+        this.target = Objects.requireNonNull(target, TARGET_NOT_NULL);
+    }
+}
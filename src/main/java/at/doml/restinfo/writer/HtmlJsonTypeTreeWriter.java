@@ -3,6 +3,10 @@ package at.doml.restinfo.writer;
 import at.doml.restinfo.type.SimpleType;
 import at.doml.restinfo.type.TypeInformation;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
 
@@ -12,71 +16,143 @@ public class HtmlJsonTypeTreeWriter extends AbstractTypeTreeWriter {
     // CONSTANTS
     //
     private static final int DEFAULT_INDENT_SPACING = 4;
-    private static final String OBJECT_STRING = "{}";
-    private static final String NOTHING_STRING = "<b class=\"keyword\">null</b>";
-    private static final String NUMBER_STRING = "<b class=\"number\">0</b>";
-    private static final String DECIMAL_STRING = "<b class=\"number\">0.0</b>";
-    private static final String BOOLEAN_STRING = "<b class=\"keyword\">true</b> | <b class=\"keyword\">false</b>";
-    private static final String STRING_STRING = "<b class=\"string\">\"string\"</b>";
-    private static final String CHARACTER_STRING = "<b class=\"string\">'c'</b>";
-    private static final String NEWLINE = "\n";
-    private static final String SEPARATOR = ",";
-    private static final String INDENT_SPACE = " ";
-    private static final String COMPLEX_FIELD_QUOTATION = "\"";
-    private static final String MORE_ELEMENTS_ELEMENT = "...";
-    private static final String SEPARATOR_SPACE = SEPARATOR + ' ';
-    private static final String SEPARATOR_NEWLINE = SEPARATOR + NEWLINE;
-    private static final String ENUM_OPENING_ELEMENT = "<b class=\"keyword\">enum</b>(";
-    private static final String ENUM_CLOSING_ELEMENT = ")";
-    private static final String ARRAY_OPENING_ELEMENT = "[";
-    private static final String ARRAY_CLOSING_ELEMENT = SEPARATOR_SPACE + MORE_ELEMENTS_ELEMENT + ']';
-    private static final String COLLECTION_OPENING_ELEMENT = ARRAY_OPENING_ELEMENT;
-    private static final String COLLECTION_CLOSING_ELEMENT = ARRAY_CLOSING_ELEMENT;
-    private static final String KEY_VALUE_SEPARATOR = ": ";
-    private static final String COMPLEX_OPENING_ELEMENT = "{";
-    private static final String COMPLEX_CLOSING_ELEMENT = "}";
-    private static final String MAP_OPENING_ELEMENT = COMPLEX_OPENING_ELEMENT;
-    private static final String MAP_CLOSING_ELEMENT = COMPLEX_CLOSING_ELEMENT;
-    private static final Map<SimpleType, String> SIMPLE_TYPE_MAPPINGS = new EnumMap<>(SimpleType.class);
-
-    static {
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BYTE, NUMBER_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.SHORT, NUMBER_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.INT, NUMBER_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.LONG, NUMBER_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BIGINT, NUMBER_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.FLOAT, DECIMAL_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.DOUBLE, DECIMAL_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.DECIMAL, DECIMAL_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.CHAR, CHARACTER_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.STRING, STRING_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOOLEAN, BOOLEAN_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.OBJECT, OBJECT_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.VOID, NOTHING_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_BYTE, NUMBER_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_SHORT, NUMBER_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_INT, NUMBER_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_LONG, NUMBER_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_FLOAT, DECIMAL_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_DOUBLE, DECIMAL_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_CHAR, CHARACTER_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_BOOLEAN, BOOLEAN_STRING);
-        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_VOID, NOTHING_STRING);
-    }
+    private static final String INDENT_SPACES = String.join("", Collections.nCopies(256, " "));
+    private static final Markup PRETTY_MARKUP = new Markup(false);
+    private static final Markup COMPACT_MARKUP = new Markup(true);
+    private static final Map<String, byte[]> UTF8_FRAGMENTS = Utf8Appendable.encodeFragments(
+            PRETTY_MARKUP.fragments(COMPACT_MARKUP.fragments())
+    );
 
     //
     // CONSTRUCTORS AND MEMBER VARIABLES
     //
     protected int indentLevel;
     private final int indentSpacing;
+    private final Markup markup;
+    private final BitSet levelsWithFields = new BitSet();
 
     public HtmlJsonTypeTreeWriter(Appendable stringAppender) {
         this(stringAppender, DEFAULT_INDENT_SPACING);
     }
 
     public HtmlJsonTypeTreeWriter(Appendable stringAppender, int indentSpacing) {
+        this(stringAppender, indentSpacing, false);
+    }
+
+    public HtmlJsonTypeTreeWriter(Appendable stringAppender, int indentSpacing, boolean compact) {
         super(stringAppender);
-        this.indentSpacing = PackageUtils.requireNonNegativeIndentSpacing(indentSpacing);
+        PackageUtils.requireNonNegativeIndentSpacing(indentSpacing);
+        // compact output has no insignificant whitespace, so there is nothing to indent
+        this.indentSpacing = compact ? 0 : indentSpacing;
+        this.markup = compact ? COMPACT_MARKUP : PRETTY_MARKUP;
+    }
+
+    public HtmlJsonTypeTreeWriter(OutputStream outputStream) {
+        this(outputStream, DEFAULT_INDENT_SPACING);
+    }
+
+    public HtmlJsonTypeTreeWriter(OutputStream outputStream, int indentSpacing) {
+        this(outputStream, indentSpacing, false);
+    }
+
+    public HtmlJsonTypeTreeWriter(OutputStream outputStream, int indentSpacing, boolean compact) {
+        this(new Utf8Appendable(outputStream, UTF8_FRAGMENTS), indentSpacing, compact);
+        this.markTargetOwned();
+    }
+
+    //
+    // UTIL CLASSES AND INTERFACES
+    //
+    private static final class Markup {
+
+        private final String object = "{}";
+        private final String nothing;
+        private final String number;
+        private final String decimal;
+        private final String bool;
+        private final String string;
+        private final String character;
+        private final String newline;
+        private final String fieldSeparator;
+        private final String complexFieldQuotation = "\"";
+        private final String moreElements = "...";
+        private final String separatorSpace;
+        private final String separatorNewline;
+        private final String enumOpening;
+        private final String enumClosing = ")";
+        private final String arrayOpening = "[";
+        private final String arrayClosing;
+        private final String keyValueSeparator;
+        private final String complexOpening = "{";
+        private final String complexClosing = "}";
+        private final Map<SimpleType, String> simpleTypes = new EnumMap<>(SimpleType.class);
+
+        private Markup(boolean compact) {
+            String space = compact ? "" : " ";
+            String keyword = bold(CssClassNames.KEYWORD, compact);
+
+            this.nothing = keyword + "null</b>";
+            this.number = bold(CssClassNames.NUMBER, compact) + "0</b>";
+            this.decimal = bold(CssClassNames.NUMBER, compact) + "0.0</b>";
+            this.bool = keyword + "true</b>" + space + '|' + space + keyword + "false</b>";
+            this.string = bold(CssClassNames.STRING, compact) + "\"string\"</b>";
+            this.character = bold(CssClassNames.STRING, compact) + "'c'</b>";
+            this.newline = compact ? "" : "\n";
+            this.fieldSeparator = compact ? "," : "";
+            this.separatorSpace = "," + space;
+            this.separatorNewline = "," + this.newline;
+            this.enumOpening = keyword + "enum</b>(";
+            this.arrayClosing = this.separatorSpace + this.moreElements + ']';
+            this.keyValueSeparator = ":" + space;
+
+            this.simpleTypes.put(SimpleType.BYTE, this.number);
+            this.simpleTypes.put(SimpleType.SHORT, this.number);
+            this.simpleTypes.put(SimpleType.INT, this.number);
+            this.simpleTypes.put(SimpleType.LONG, this.number);
+            this.simpleTypes.put(SimpleType.BIGINT, this.number);
+            this.simpleTypes.put(SimpleType.FLOAT, this.decimal);
+            this.simpleTypes.put(SimpleType.DOUBLE, this.decimal);
+            this.simpleTypes.put(SimpleType.DECIMAL, this.decimal);
+            this.simpleTypes.put(SimpleType.CHAR, this.character);
+            this.simpleTypes.put(SimpleType.STRING, this.string);
+            this.simpleTypes.put(SimpleType.BOOLEAN, this.bool);
+            this.simpleTypes.put(SimpleType.OBJECT, this.object);
+            this.simpleTypes.put(SimpleType.VOID, this.nothing);
+            this.simpleTypes.put(SimpleType.BOXED_BYTE, this.number);
+            this.simpleTypes.put(SimpleType.BOXED_SHORT, this.number);
+            this.simpleTypes.put(SimpleType.BOXED_INT, this.number);
+            this.simpleTypes.put(SimpleType.BOXED_LONG, this.number);
+            this.simpleTypes.put(SimpleType.BOXED_FLOAT, this.decimal);
+            this.simpleTypes.put(SimpleType.BOXED_DOUBLE, this.decimal);
+            this.simpleTypes.put(SimpleType.BOXED_CHAR, this.character);
+            this.simpleTypes.put(SimpleType.BOXED_BOOLEAN, this.bool);
+            this.simpleTypes.put(SimpleType.BOXED_VOID, this.nothing);
+        }
+
+        private static String bold(String cssClass, boolean compact) {
+            return "<b class=\"" + (compact ? CssClassNames.compact(cssClass) : cssClass) + "\">";
+        }
+
+        private String[] fragments(String... other) {
+            String[] own = {
+                    this.object, this.nothing, this.number, this.decimal, this.bool, this.string, this.character,
+                    this.newline, this.fieldSeparator, this.complexFieldQuotation, this.moreElements,
+                    this.separatorSpace, this.separatorNewline, this.enumOpening, this.enumClosing,
+                    this.arrayOpening, this.arrayClosing, this.keyValueSeparator, this.complexOpening,
+                    this.complexClosing
+            };
+            String[] all = Arrays.copyOf(own, own.length + other.length);
+            System.arraycopy(other, 0, all, own.length, other.length);
+            return all;
+        }
+    }
+
+    //
+    // HELPER METHODS
+    //
+    static String[] markupFragments(String... other) {
+        // lets writers sharing their output with this one serve its markup pre-encoded as well
+        return PRETTY_MARKUP.fragments(COMPACT_MARKUP.fragments(other));
     }
 
     //
@@ -84,30 +160,30 @@ public class HtmlJsonTypeTreeWriter extends AbstractTypeTreeWriter {
     //
     @Override
     protected void writeSimple(SimpleType type) throws IOException {
-        this.stringAppender.append(SIMPLE_TYPE_MAPPINGS.get(type));
+        this.stringAppender.append(this.markup.simpleTypes.get(type));
     }
 
     @Override
     protected void writeEnum(Enum<?>[] enumConstants) throws IOException {
-        this.stringAppender.append(ENUM_OPENING_ELEMENT);
+        this.stringAppender.append(this.markup.enumOpening);
 
         if (enumConstants.length > 0) {
             int length = enumConstants.length - 1;
 
             for (int i = 0; i < length; i++) {
-                this.stringAppender.append(enumConstants[i].toString());
-                this.stringAppender.append(SEPARATOR_SPACE);
+                HtmlEscaper.appendEscaped(this.stringAppender, enumConstants[i].toString());
+                this.stringAppender.append(this.markup.separatorSpace);
             }
 
-            this.stringAppender.append(enumConstants[length].toString());
+            HtmlEscaper.appendEscaped(this.stringAppender, enumConstants[length].toString());
         }
 
-        this.stringAppender.append(ENUM_CLOSING_ELEMENT);
+        this.stringAppender.append(this.markup.enumClosing);
     }
 
     @Override
     protected void writeBeforeArrayElementType() throws IOException {
-        this.stringAppender.append(ARRAY_OPENING_ELEMENT);
+        this.stringAppender.append(this.markup.arrayOpening);
     }
 
     @Override
@@ -117,12 +193,12 @@ public class HtmlJsonTypeTreeWriter extends AbstractTypeTreeWriter {
 
     @Override
     protected void writeAfterArrayElementType() throws IOException {
-        this.stringAppender.append(ARRAY_CLOSING_ELEMENT);
+        this.stringAppender.append(this.markup.arrayClosing);
     }
 
     @Override
     protected void writeBeforeCollectionElementType() throws IOException {
-        this.stringAppender.append(COLLECTION_OPENING_ELEMENT);
+        this.stringAppender.append(this.markup.arrayOpening);
     }
 
     @Override
@@ -132,13 +208,13 @@ public class HtmlJsonTypeTreeWriter extends AbstractTypeTreeWriter {
 
     @Override
     protected void writeAfterCollectionElementType() throws IOException {
-        this.stringAppender.append(COLLECTION_CLOSING_ELEMENT);
+        this.stringAppender.append(this.markup.arrayClosing);
     }
 
     @Override
     protected void writeBeforeMapKeyType() throws IOException {
-        this.stringAppender.append(MAP_OPENING_ELEMENT);
-        this.stringAppender.append(NEWLINE);
+        this.stringAppender.append(this.markup.complexOpening);
+        this.stringAppender.append(this.markup.newline);
         this.indentLevel += 1;
         this.indent();
     }
@@ -150,7 +226,7 @@ public class HtmlJsonTypeTreeWriter extends AbstractTypeTreeWriter {
 
     @Override
     protected void writeAfterMapKeyType() throws IOException {
-        this.stringAppender.append(KEY_VALUE_SEPARATOR);
+        this.stringAppender.append(this.markup.keyValueSeparator);
     }
 
     @Override
@@ -165,20 +241,21 @@ public class HtmlJsonTypeTreeWriter extends AbstractTypeTreeWriter {
 
     @Override
     protected void writeAfterMapValueType() throws IOException {
-        this.stringAppender.append(SEPARATOR_NEWLINE);
+        this.stringAppender.append(this.markup.separatorNewline);
         this.indent();
         this.indentLevel -= 1;
-        this.stringAppender.append(MORE_ELEMENTS_ELEMENT);
-        this.stringAppender.append(NEWLINE);
+        this.stringAppender.append(this.markup.moreElements);
+        this.stringAppender.append(this.markup.newline);
         this.indent();
-        this.stringAppender.append(MAP_CLOSING_ELEMENT);
+        this.stringAppender.append(this.markup.complexClosing);
     }
 
     @Override
     protected void writeBeforeAllComplexFields() throws IOException {
-        this.stringAppender.append(COMPLEX_OPENING_ELEMENT);
-        this.stringAppender.append(NEWLINE);
+        this.stringAppender.append(this.markup.complexOpening);
+        this.stringAppender.append(this.markup.newline);
         this.indentLevel += 1;
+        this.levelsWithFields.clear(this.indentLevel);
     }
 
     @Override
@@ -188,11 +265,17 @@ public class HtmlJsonTypeTreeWriter extends AbstractTypeTreeWriter {
 
     @Override
     protected void writeBeforeComplexField(String fieldName) throws IOException {
+        if (this.levelsWithFields.get(this.indentLevel)) {
+            this.stringAppender.append(this.markup.fieldSeparator);
+        } else {
+            this.levelsWithFields.set(this.indentLevel);
+        }
+
         this.indent();
-        this.stringAppender.append(COMPLEX_FIELD_QUOTATION);
-        this.stringAppender.append(fieldName);
-        this.stringAppender.append(COMPLEX_FIELD_QUOTATION);
-        this.stringAppender.append(KEY_VALUE_SEPARATOR);
+        this.stringAppender.append(this.markup.complexFieldQuotation);
+        HtmlEscaper.appendEscaped(this.stringAppender, fieldName);
+        this.stringAppender.append(this.markup.complexFieldQuotation);
+        this.stringAppender.append(this.markup.keyValueSeparator);
     }
 
     @Override
@@ -202,30 +285,44 @@ public class HtmlJsonTypeTreeWriter extends AbstractTypeTreeWriter {
 
     @Override
     protected void writeAfterComplexField(String fieldName) throws IOException {
-        this.stringAppender.append(NEWLINE);
+        this.stringAppender.append(this.markup.newline);
     }
 
     @Override
     protected void writeAfterAllComplexFields() throws IOException {
         this.indentLevel -= 1;
         this.indent();
-        this.stringAppender.append(COMPLEX_CLOSING_ELEMENT);
+        this.stringAppender.append(this.markup.complexClosing);
     }
 
     @Override
     protected void writeCustom(TypeInformation customTypeInformation) throws IOException {
-        this.stringAppender.append(customTypeInformation.toString());
+        HtmlEscaper.appendEscaped(this.stringAppender, customTypeInformation.toString());
     }
 
     @Override
     protected void writeUnknown(TypeInformation unknownTypeInformation) throws IOException {
-        this.stringAppender.append(unknownTypeInformation.toString());
+        HtmlEscaper.appendEscaped(this.stringAppender, unknownTypeInformation.toString());
+    }
+
+    @Override
+    protected boolean writesHtml() {
+        return true;
+    }
+
+    @Override
+    protected void resetState() {
+        this.indentLevel = 0;
+        this.levelsWithFields.clear();
     }
 
     protected final void indent() throws IOException {
         int indent = this.indentLevel * this.indentSpacing;
-        for (int i = 0; i < indent; i++) {
-            this.stringAppender.append(INDENT_SPACE);
+
+        while (indent > 0) {
+            int length = Math.min(indent, INDENT_SPACES.length());
+            this.stringAppender.append(INDENT_SPACES, 0, length);
+            indent -= length;
         }
     }
 }
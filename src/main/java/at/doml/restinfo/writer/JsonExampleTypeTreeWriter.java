@@ -0,0 +1,278 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.type.SimpleType;
+import at.doml.restinfo.type.TypeInformation;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class JsonExampleTypeTreeWriter extends AbstractTypeTreeWriter {
+
+    //
+    // CONSTANTS
+    //
+    private static final int COMPACT_INDENT_SPACING = 0;
+    private static final String OBJECT_STRING = "{}";
+    private static final String NOTHING_STRING = "null";
+    private static final String NUMBER_STRING = "0";
+    private static final String DECIMAL_STRING = "0.0";
+    private static final String BOOLEAN_STRING = "true";
+    private static final String STRING_STRING = "\"string\"";
+    private static final String CHARACTER_STRING = "\"c\"";
+    private static final String MAP_KEY_STRING = "\"key\"";
+    private static final String NEWLINE = "\n";
+    private static final String SEPARATOR = ",";
+    private static final String INDENT_SPACES = String.join("", Collections.nCopies(256, " "));
+    private static final String COMPACT_KEY_VALUE_SEPARATOR = ":";
+    private static final String PRETTY_KEY_VALUE_SEPARATOR = ": ";
+    private static final String ARRAY_OPENING_ELEMENT = "[";
+    private static final String ARRAY_CLOSING_ELEMENT = "]";
+    private static final String COMPLEX_OPENING_ELEMENT = "{";
+    private static final String COMPLEX_CLOSING_ELEMENT = "}";
+    private static final Map<SimpleType, String> SIMPLE_TYPE_MAPPINGS = new EnumMap<>(SimpleType.class);
+    private static final Map<String, byte[]> UTF8_FRAGMENTS = Utf8Appendable.encodeFragments(
+            OBJECT_STRING, NOTHING_STRING, NUMBER_STRING, DECIMAL_STRING, BOOLEAN_STRING, STRING_STRING,
+            CHARACTER_STRING, MAP_KEY_STRING, NEWLINE, SEPARATOR, COMPACT_KEY_VALUE_SEPARATOR,
+            PRETTY_KEY_VALUE_SEPARATOR, ARRAY_OPENING_ELEMENT, ARRAY_CLOSING_ELEMENT, COMPLEX_OPENING_ELEMENT,
+            COMPLEX_CLOSING_ELEMENT
+    );
+
+    static {
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BYTE, NUMBER_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.SHORT, NUMBER_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.INT, NUMBER_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.LONG, NUMBER_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BIGINT, NUMBER_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.FLOAT, DECIMAL_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.DOUBLE, DECIMAL_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.DECIMAL, DECIMAL_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.CHAR, CHARACTER_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.STRING, STRING_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOOLEAN, BOOLEAN_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.OBJECT, OBJECT_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.VOID, NOTHING_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_BYTE, NUMBER_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_SHORT, NUMBER_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_INT, NUMBER_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_LONG, NUMBER_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_FLOAT, DECIMAL_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_DOUBLE, DECIMAL_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_CHAR, CHARACTER_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_BOOLEAN, BOOLEAN_STRING);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_VOID, NOTHING_STRING);
+    }
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    protected int indentLevel;
+    private final int indentSpacing;
+    private final String keyValueSeparator;
+    private final BitSet levelsWithFields = new BitSet();
+
+    public JsonExampleTypeTreeWriter(Appendable stringAppender) {
+        this(stringAppender, COMPACT_INDENT_SPACING);
+    }
+
+    public JsonExampleTypeTreeWriter(Appendable stringAppender, int indentSpacing) {
+        super(stringAppender);
+        this.indentSpacing = PackageUtils.requireNonNegativeIndentSpacing(indentSpacing);
+        this.keyValueSeparator = this.isCompact() ? COMPACT_KEY_VALUE_SEPARATOR : PRETTY_KEY_VALUE_SEPARATOR;
+    }
+
+    public JsonExampleTypeTreeWriter(OutputStream outputStream) {
+        this(outputStream, COMPACT_INDENT_SPACING);
+    }
+
+    public JsonExampleTypeTreeWriter(OutputStream outputStream, int indentSpacing) {
+        this(new Utf8Appendable(outputStream, UTF8_FRAGMENTS), indentSpacing);
+        this.markTargetOwned();
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    @Override
+    protected void writeSimple(SimpleType type) throws IOException {
+        this.stringAppender.append(SIMPLE_TYPE_MAPPINGS.get(type));
+    }
+
+    @Override
+    protected void writeEnum(Enum<?>[] enumConstants) throws IOException {
+        if (enumConstants.length == 0) {
+            this.stringAppender.append(NOTHING_STRING);
+        } else {
+            this.writeString(enumConstants[0].toString());
+        }
+    }
+
+    @Override
+    protected void writeBeforeArrayElementType() throws IOException {
+        this.stringAppender.append(ARRAY_OPENING_ELEMENT);
+        this.openLine();
+    }
+
+    @Override
+    public boolean shouldVisitArrayElementType() {
+        return true;
+    }
+
+    @Override
+    protected void writeAfterArrayElementType() throws IOException {
+        this.closeLine();
+        this.stringAppender.append(ARRAY_CLOSING_ELEMENT);
+    }
+
+    @Override
+    protected void writeBeforeCollectionElementType() throws IOException {
+        this.stringAppender.append(ARRAY_OPENING_ELEMENT);
+        this.openLine();
+    }
+
+    @Override
+    public boolean shouldVisitCollectionElementType() {
+        return true;
+    }
+
+    @Override
+    protected void writeAfterCollectionElementType() throws IOException {
+        this.closeLine();
+        this.stringAppender.append(ARRAY_CLOSING_ELEMENT);
+    }
+
+    @Override
+    protected void writeBeforeMapKeyType() throws IOException {
+        // JSON object keys are always strings, so key type is not visited and a placeholder key is written instead
+        this.stringAppender.append(COMPLEX_OPENING_ELEMENT);
+        this.openLine();
+        this.stringAppender.append(MAP_KEY_STRING);
+    }
+
+    @Override
+    public boolean shouldVisitMapKeyType() {
+        return false;
+    }
+
+    @Override
+    protected void writeAfterMapKeyType() throws IOException {
+        this.stringAppender.append(this.keyValueSeparator);
+    }
+
+    @Override
+    protected void writeBeforeMapValueType() throws IOException {
+        // No action required before visiting value type
+    }
+
+    @Override
+    public boolean shouldVisitMapValueType() {
+        return true;
+    }
+
+    @Override
+    protected void writeAfterMapValueType() throws IOException {
+        this.closeLine();
+        this.stringAppender.append(COMPLEX_CLOSING_ELEMENT);
+    }
+
+    @Override
+    protected void writeBeforeAllComplexFields() throws IOException {
+        this.stringAppender.append(COMPLEX_OPENING_ELEMENT);
+        this.indentLevel += 1;
+        this.levelsWithFields.clear(this.indentLevel);
+    }
+
+    @Override
+    public boolean shouldVisitComplexFields() {
+        return true;
+    }
+
+    @Override
+    protected void writeBeforeComplexField(String fieldName) throws IOException {
+        if (this.levelsWithFields.get(this.indentLevel)) {
+            this.stringAppender.append(SEPARATOR);
+        } else {
+            this.levelsWithFields.set(this.indentLevel);
+        }
+
+        this.newLine();
+        this.writeString(fieldName);
+        this.stringAppender.append(this.keyValueSeparator);
+    }
+
+    @Override
+    public boolean shouldVisitComplexFieldType(String fieldName) {
+        return true;
+    }
+
+    @Override
+    protected void writeAfterComplexField(String fieldName) throws IOException {
+        // No action required after visiting field type, separator is written before the next field
+    }
+
+    @Override
+    protected void writeAfterAllComplexFields() throws IOException {
+        boolean hasFields = this.levelsWithFields.get(this.indentLevel);
+        this.indentLevel -= 1;
+
+        if (hasFields) {
+            this.newLine();
+        }
+
+        this.stringAppender.append(COMPLEX_CLOSING_ELEMENT);
+    }
+
+    @Override
+    protected void writeCustom(TypeInformation customTypeInformation) throws IOException {
+        this.writeString(customTypeInformation.toString());
+    }
+
+    @Override
+    protected void writeUnknown(TypeInformation unknownTypeInformation) throws IOException {
+        this.writeString(unknownTypeInformation.toString());
+    }
+
+    protected final void writeString(String value) throws IOException {
+        PackageUtils.appendJsonString(this.stringAppender, value);
+    }
+
+    @Override
+    protected void resetState() {
+        this.indentLevel = 0;
+        this.levelsWithFields.clear();
+    }
+
+    protected final boolean isCompact() {
+        return this.indentSpacing == COMPACT_INDENT_SPACING;
+    }
+
+    //
+    // PRIVATE METHODS
+    //
+    private void openLine() throws IOException {
+        this.indentLevel += 1;
+        this.newLine();
+    }
+
+    private void closeLine() throws IOException {
+        this.indentLevel -= 1;
+        this.newLine();
+    }
+
+    private void newLine() throws IOException {
+        if (this.isCompact()) {
+            return;
+        }
+
+        this.stringAppender.append(NEWLINE);
+        int indent = this.indentLevel * this.indentSpacing;
+
+        while (indent > 0) {
+            int length = Math.min(indent, INDENT_SPACES.length());
+            this.stringAppender.append(INDENT_SPACES, 0, length);
+            indent -= length;
+        }
+    }
+}
@@ -0,0 +1,523 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.type.SimpleType;
+import at.doml.restinfo.type.TypeInformation;
+import at.doml.restinfo.type.TypeTreeCursor;
+import at.doml.restinfo.type.VisitableType;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public class JsonSchemaTypeTreeWriter extends AbstractTypeTreeWriter {
+
+    //
+    // CONSTANTS
+    //
+    private static final String TYPE_TREE_NOT_NULL = "typeTree must not be null";
+    private static final String SCHEMA_HEADER = "\"$schema\":\"http://json-schema.org/draft-07/schema#\"";
+    // plain name fragments of draft-07 must start with a letter
+    private static final String ANCHOR_REFERENCE_PREFIX = "#type";
+    private static final String ANCHOR_MEMBERS = "\"$id\":\"" + ANCHOR_REFERENCE_PREFIX;
+    private static final String ANCHOR_CLOSING_ELEMENT = "\",";
+    private static final String INTEGER_MEMBERS = "\"type\":\"integer\"";
+    private static final String NUMBER_MEMBERS = "\"type\":\"number\"";
+    private static final String CHARACTER_MEMBERS = "\"type\":\"string\",\"minLength\":1,\"maxLength\":1";
+    private static final String STRING_MEMBERS = "\"type\":\"string\"";
+    private static final String BOOLEAN_MEMBERS = "\"type\":\"boolean\"";
+    private static final String ANY_MEMBERS = "";
+    private static final String NOTHING_MEMBERS = "\"type\":\"null\"";
+    private static final String NULLABLE_MEMBERS = "\"nullable\":true";
+    private static final String ENUM_MEMBERS = "\"type\":\"string\",\"enum\":[";
+    private static final String EMPTY_ENUM_MEMBERS = "\"not\":{}";
+    private static final String ARRAY_MEMBERS = "\"type\":\"array\",\"items\":";
+    private static final String MAP_MEMBERS = "\"type\":\"object\",\"additionalProperties\":";
+    private static final String COMPLEX_MEMBERS = "\"type\":\"object\",\"properties\":{";
+    private static final String TITLE_MEMBERS = "\"title\":";
+    private static final String REFERENCE_OPENING_ELEMENT = "{\"$ref\":\"";
+    private static final String REFERENCE_CLOSING_ELEMENT = "\"}";
+    private static final String DEFINITION_NAME_SUFFIX_SEPARATOR = "_";
+    private static final char SCHEMA_OPENING_ELEMENT = '{';
+    private static final char SCHEMA_CLOSING_ELEMENT = '}';
+    private static final char ENUM_CLOSING_ELEMENT = ']';
+    private static final char PROPERTIES_CLOSING_ELEMENT = '}';
+    private static final char SEPARATOR = ',';
+    private static final char KEY_VALUE_SEPARATOR = ':';
+    private static final Map<SimpleType, String> SIMPLE_TYPE_MAPPINGS = new EnumMap<>(SimpleType.class);
+    private static final Map<String, byte[]> UTF8_FRAGMENTS = Utf8Appendable.encodeFragments(
+            SCHEMA_HEADER, ANCHOR_MEMBERS, ANCHOR_CLOSING_ELEMENT, INTEGER_MEMBERS, NUMBER_MEMBERS, CHARACTER_MEMBERS,
+            STRING_MEMBERS, BOOLEAN_MEMBERS, NOTHING_MEMBERS, NULLABLE_MEMBERS, ENUM_MEMBERS, EMPTY_ENUM_MEMBERS,
+            ARRAY_MEMBERS, MAP_MEMBERS, COMPLEX_MEMBERS, TITLE_MEMBERS, REFERENCE_OPENING_ELEMENT,
+            REFERENCE_CLOSING_ELEMENT
+    );
+
+    static {
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BYTE, INTEGER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.SHORT, INTEGER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.INT, INTEGER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.LONG, INTEGER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BIGINT, INTEGER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.FLOAT, NUMBER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.DOUBLE, NUMBER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.DECIMAL, NUMBER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.CHAR, CHARACTER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.STRING, STRING_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOOLEAN, BOOLEAN_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.OBJECT, ANY_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.VOID, NOTHING_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_BYTE, INTEGER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_SHORT, INTEGER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_INT, INTEGER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_LONG, INTEGER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_FLOAT, NUMBER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_DOUBLE, NUMBER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_CHAR, CHARACTER_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_BOOLEAN, BOOLEAN_MEMBERS);
+        SIMPLE_TYPE_MAPPINGS.put(SimpleType.BOXED_VOID, NOTHING_MEMBERS);
+    }
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final String definitionsReferencePrefix;
+    private final boolean embedded;
+    private final List<StringBuilder> definitionBuffers = new ArrayList<>();
+    private final List<Long> definitionStructuralHashes = new ArrayList<>();
+    private final Map<String, String> definitions = new LinkedHashMap<>();
+    private final Map<Long, String> namesByStructuralHash = new HashMap<>();
+    private final Set<Long> countedStructuralHashes = new HashSet<>();
+    private final Set<Long> repeatedStructuralHashes = new HashSet<>();
+    private final BitSet levelsWithFields = new BitSet();
+    private Appendable output;
+    private Long pendingStructuralHash;
+    private String pendingAnchor;
+    private int definitionDepth;
+    private int schemaDepth;
+    private boolean separatorPending;
+
+    public JsonSchemaTypeTreeWriter(Appendable stringAppender) {
+        this(stringAppender, ANCHOR_REFERENCE_PREFIX, false);
+    }
+
+    public JsonSchemaTypeTreeWriter(OutputStream outputStream) {
+        this(new Utf8Appendable(outputStream, UTF8_FRAGMENTS));
+        this.markTargetOwned();
+    }
+
+    // embedded writers omit the schema header and keep counted types and definitions until those are written out
+    JsonSchemaTypeTreeWriter(Appendable stringAppender, String definitionsReferencePrefix, boolean embedded) {
+        super(stringAppender);
+        this.output = this.stringAppender;
+        this.definitionsReferencePrefix = definitionsReferencePrefix;
+        this.embedded = embedded;
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    public final void write(VisitableType typeTree) {
+        // same as visiting, except that complex types repeated within the tree are written once and referenced
+        Objects.requireNonNull(typeTree, TYPE_TREE_NOT_NULL);
+
+        if (!this.embedded) {
+            this.clearStructuralHashes();
+            this.countComplexTypes(typeTree);
+        }
+
+        TypeTreeCursor cursor = new TypeTreeCursor(typeTree);
+
+        while (cursor.hasNext()) {
+            switch (cursor.next()) {
+                case START_ARRAY:
+                    this.visitBeforeArrayElementType();
+                    break;
+                case END_ARRAY:
+                    this.visitAfterArrayElementType();
+                    break;
+                case START_COLLECTION:
+                    this.visitBeforeCollectionElementType();
+                    break;
+                case END_COLLECTION:
+                    this.visitAfterCollectionElementType();
+                    break;
+                case START_MAP_KEY:
+                    this.visitBeforeMapKeyType();
+                    cursor.skipChildren();
+                    break;
+                case END_MAP_KEY:
+                    this.visitAfterMapKeyType();
+                    break;
+                case START_MAP_VALUE:
+                    this.visitBeforeMapValueType();
+                    break;
+                case END_MAP_VALUE:
+                    this.visitAfterMapValueType();
+                    break;
+                case START_COMPLEX:
+                    this.startComplex(cursor);
+                    break;
+                case START_FIELD:
+                    this.visitBeforeComplexField(cursor.getFieldName());
+                    break;
+                case END_FIELD:
+                    this.visitAfterComplexField(cursor.getFieldName());
+                    break;
+                case END_COMPLEX:
+                    this.visitAfterAllComplexFields();
+                    break;
+                default:
+                    cursor.getType().accept(this);
+                    break;
+            }
+        }
+    }
+
+    @Override
+    protected void writeSimple(SimpleType type) throws IOException {
+        String members = SIMPLE_TYPE_MAPPINGS.get(type);
+
+        this.openSchema();
+        // OpenAPI schemas have no null type
+        this.writeMembers(this.embedded && NOTHING_MEMBERS.equals(members) ? NULLABLE_MEMBERS : members);
+        this.closeSchema();
+    }
+
+    @Override
+    protected void writeEnum(Enum<?>[] enumConstants) throws IOException {
+        this.openSchema();
+
+        if (enumConstants.length == 0) {
+            this.writeMembers(EMPTY_ENUM_MEMBERS);
+        } else {
+            this.writeMembers(ENUM_MEMBERS);
+            PackageUtils.appendJsonString(this.output, enumConstants[0].toString());
+
+            for (int i = 1; i < enumConstants.length; i++) {
+                this.output.append(SEPARATOR);
+                PackageUtils.appendJsonString(this.output, enumConstants[i].toString());
+            }
+
+            this.output.append(ENUM_CLOSING_ELEMENT);
+        }
+
+        this.closeSchema();
+    }
+
+    @Override
+    protected void writeBeforeArrayElementType() throws IOException {
+        this.openSchema();
+        this.writeMembers(ARRAY_MEMBERS);
+    }
+
+    @Override
+    public boolean shouldVisitArrayElementType() {
+        return true;
+    }
+
+    @Override
+    protected void writeAfterArrayElementType() throws IOException {
+        this.closeSchema();
+    }
+
+    @Override
+    protected void writeBeforeCollectionElementType() throws IOException {
+        this.openSchema();
+        this.writeMembers(ARRAY_MEMBERS);
+    }
+
+    @Override
+    public boolean shouldVisitCollectionElementType() {
+        return true;
+    }
+
+    @Override
+    protected void writeAfterCollectionElementType() throws IOException {
+        this.closeSchema();
+    }
+
+    @Override
+    protected void writeBeforeMapKeyType() throws IOException {
+        // JSON object keys are always strings, so only the value type is described by the schema
+        this.openSchema();
+        this.writeMembers(MAP_MEMBERS);
+    }
+
+    @Override
+    public boolean shouldVisitMapKeyType() {
+        return false;
+    }
+
+    @Override
+    protected void writeAfterMapKeyType() throws IOException {
+        // No action required after key type
+    }
+
+    @Override
+    protected void writeBeforeMapValueType() throws IOException {
+        // No action required before visiting value type
+    }
+
+    @Override
+    public boolean shouldVisitMapValueType() {
+        return true;
+    }
+
+    @Override
+    protected void writeAfterMapValueType() throws IOException {
+        this.closeSchema();
+    }
+
+    @Override
+    protected void writeBeforeAllComplexFields() throws IOException {
+        if (this.pendingStructuralHash != null) {
+            // complex types are written into their own buffer and referenced from definitions once complete
+            this.output = this.nextDefinitionBuffer(this.pendingStructuralHash);
+            this.pendingStructuralHash = null;
+        }
+
+        this.openSchema();
+
+        if (this.pendingAnchor != null) {
+            this.writeMembers(ANCHOR_MEMBERS);
+            this.output.append(this.pendingAnchor);
+            this.output.append(ANCHOR_CLOSING_ELEMENT);
+            this.pendingAnchor = null;
+        }
+
+        this.writeMembers(COMPLEX_MEMBERS);
+        this.levelsWithFields.clear(this.schemaDepth);
+    }
+
+    @Override
+    public boolean shouldVisitComplexFields() {
+        return true;
+    }
+
+    @Override
+    protected void writeBeforeComplexField(String fieldName) throws IOException {
+        if (this.levelsWithFields.get(this.schemaDepth)) {
+            this.output.append(SEPARATOR);
+        } else {
+            this.levelsWithFields.set(this.schemaDepth);
+        }
+
+        PackageUtils.appendJsonString(this.output, fieldName);
+        this.output.append(KEY_VALUE_SEPARATOR);
+    }
+
+    @Override
+    public boolean shouldVisitComplexFieldType(String fieldName) {
+        return true;
+    }
+
+    @Override
+    protected void writeAfterComplexField(String fieldName) throws IOException {
+        // No action required after visiting field type, separator is written before the next field
+    }
+
+    @Override
+    protected void writeAfterAllComplexFields() throws IOException {
+        this.output.append(PROPERTIES_CLOSING_ELEMENT);
+        this.closeSchema();
+
+        if (this.definitionDepth > 0) {
+            String definition = this.output.toString();
+            long structuralHash = this.definitionStructuralHashes.get(this.definitionDepth - 1);
+            this.definitionDepth -= 1;
+            this.output = this.definitionDepth > 0
+                    ? this.definitionBuffers.get(this.definitionDepth - 1)
+                    : this.stringAppender;
+            this.writeReference(this.defineSchema(structuralHash, definition));
+        }
+    }
+
+    @Override
+    protected void writeCustom(TypeInformation customTypeInformation) throws IOException {
+        this.writeTitled(customTypeInformation.toString());
+    }
+
+    @Override
+    protected void writeUnknown(TypeInformation unknownTypeInformation) throws IOException {
+        this.writeTitled(unknownTypeInformation.toString());
+    }
+
+    @Override
+    protected void resetState() {
+        this.output = this.stringAppender;
+        this.pendingStructuralHash = null;
+        this.pendingAnchor = null;
+        this.definitionDepth = 0;
+        this.schemaDepth = 0;
+        this.separatorPending = false;
+        this.levelsWithFields.clear();
+        this.definitions.clear();
+        this.clearStructuralHashes();
+    }
+
+    void countComplexTypes(VisitableType typeTree) {
+        TypeTreeCursor cursor = new TypeTreeCursor(typeTree);
+
+        while (cursor.hasNext()) {
+            TypeTreeCursor.Event event = cursor.next();
+
+            if (event == TypeTreeCursor.Event.START_MAP_KEY) {
+                // map keys are not written
+                cursor.skipChildren();
+            } else if (event == TypeTreeCursor.Event.START_COMPLEX) {
+                long structuralHash = cursor.getType().structuralHash();
+
+                if (!this.countedStructuralHashes.add(structuralHash)) {
+                    // types nested in a repeated type are written only once, together with it
+                    this.repeatedStructuralHashes.add(structuralHash);
+                    cursor.skipChildren();
+                }
+            }
+        }
+    }
+
+    boolean hasDefinitions() {
+        return !this.definitions.isEmpty();
+    }
+
+    void writeDefinitionEntries() throws IOException {
+        boolean first = true;
+
+        for (Map.Entry<String, String> definition : this.definitions.entrySet()) {
+            if (!first) {
+                this.output.append(SEPARATOR);
+            }
+
+            first = false;
+            PackageUtils.appendJsonString(this.output, definition.getKey());
+            this.output.append(KEY_VALUE_SEPARATOR);
+            this.output.append(definition.getValue());
+        }
+
+        this.definitions.clear();
+        this.clearStructuralHashes();
+    }
+
+    //
+    // PRIVATE METHODS
+    //
+    private void clearStructuralHashes() {
+        this.namesByStructuralHash.clear();
+        this.countedStructuralHashes.clear();
+        this.repeatedStructuralHashes.clear();
+    }
+
+    private void startComplex(TypeTreeCursor cursor) {
+        long structuralHash = cursor.getType().structuralHash();
+
+        // complex types written only once are written in place
+        if (this.repeatedStructuralHashes.contains(structuralHash)) {
+            String name = this.namesByStructuralHash.get(structuralHash);
+
+            if (name != null) {
+                cursor.skipChildren();
+                cursor.next();
+
+                try {
+                    this.writeReference(name);
+                } catch (IOException exception) {
+                    throw new TypeWriterException(exception);
+                }
+
+                return;
+            }
+
+            if (this.embedded) {
+                // OpenAPI 3.0 schemas cannot declare an $id, so repeated types are moved into components
+                this.pendingStructuralHash = structuralHash;
+            } else {
+                // the first occurrence is written in place and later ones reference it by its anchor
+                this.pendingAnchor = Long.toHexString(structuralHash);
+                this.namesByStructuralHash.put(structuralHash, this.pendingAnchor);
+            }
+        }
+
+        this.visitBeforeAllComplexFields();
+    }
+
+    private void openSchema() throws IOException {
+        this.output.append(SCHEMA_OPENING_ELEMENT);
+
+        if (this.schemaDepth == 0 && !this.embedded) {
+            this.output.append(SCHEMA_HEADER);
+            this.separatorPending = true;
+        }
+
+        this.schemaDepth += 1;
+    }
+
+    private void writeMembers(String members) throws IOException {
+        if (this.separatorPending && !members.isEmpty()) {
+            this.output.append(SEPARATOR);
+            this.separatorPending = false;
+        }
+
+        this.output.append(members);
+    }
+
+    private void closeSchema() throws IOException {
+        this.schemaDepth -= 1;
+
+        if (this.schemaDepth == 0) {
+            this.separatorPending = false;
+        }
+
+        this.output.append(SCHEMA_CLOSING_ELEMENT);
+    }
+
+    private void writeTitled(String title) throws IOException {
+        this.openSchema();
+        this.writeMembers(TITLE_MEMBERS);
+        PackageUtils.appendJsonString(this.output, title);
+        this.closeSchema();
+    }
+
+    private void writeReference(String definitionName) throws IOException {
+        this.output.append(REFERENCE_OPENING_ELEMENT);
+        this.output.append(this.definitionsReferencePrefix);
+        this.output.append(definitionName);
+        this.output.append(REFERENCE_CLOSING_ELEMENT);
+    }
+
+    private StringBuilder nextDefinitionBuffer(long structuralHash) {
+        if (this.definitionDepth == this.definitionBuffers.size()) {
+            this.definitionBuffers.add(new StringBuilder());
+            this.definitionStructuralHashes.add(null);
+        }
+
+        StringBuilder buffer = this.definitionBuffers.get(this.definitionDepth);
+        buffer.setLength(0);
+        this.definitionStructuralHashes.set(this.definitionDepth, structuralHash);
+        this.definitionDepth += 1;
+        return buffer;
+    }
+
+    private String defineSchema(long structuralHash, String definition) {
+        String name = this.addDefinition(Long.toHexString(structuralHash), definition);
+        this.namesByStructuralHash.put(structuralHash, name);
+        return name;
+    }
+
+    private String addDefinition(String baseName, String definition) {
+        String name = baseName;
+
+        for (int suffix = 1; this.definitions.containsKey(name); suffix++) {
+            name = baseName + DEFINITION_NAME_SUFFIX_SEPARATOR + suffix;
+        }
+
+        this.definitions.put(name, definition);
+        return name;
+    }
+}
@@ -10,6 +10,20 @@ import java.nio.charset.StandardCharsets;
 final class PackageUtils {
 
     private static final String INDENT_SPACING_NON_NEGATIVE = "indentSpacing must not be negative";
+    private static final char JSON_QUOTATION = '"';
+    private static final String[] JSON_CONTROL_CHARACTER_ESCAPES = new String[0x20];
+
+    static {
+        for (int c = 0; c < JSON_CONTROL_CHARACTER_ESCAPES.length; c++) {
+            JSON_CONTROL_CHARACTER_ESCAPES[c] = String.format("\\u%04x", c);
+        }
+
+        JSON_CONTROL_CHARACTER_ESCAPES['\b'] = "\\b";
+        JSON_CONTROL_CHARACTER_ESCAPES['\t'] = "\\t";
+        JSON_CONTROL_CHARACTER_ESCAPES['\n'] = "\\n";
+        JSON_CONTROL_CHARACTER_ESCAPES['\f'] = "\\f";
+        JSON_CONTROL_CHARACTER_ESCAPES['\r'] = "\\r";
+    }
 
     private PackageUtils() {
         // No instances of this class are possible
@@ -23,6 +37,33 @@ final class PackageUtils {
         return value;
     }
 
+    static void appendJsonString(Appendable appendable, String value) throws IOException {
+        appendable.append(JSON_QUOTATION);
+        int start = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escape;
+
+            if (c < JSON_CONTROL_CHARACTER_ESCAPES.length) {
+                escape = JSON_CONTROL_CHARACTER_ESCAPES[c];
+            } else if (c == '"') {
+                escape = "\\\"";
+            } else if (c == '\\') {
+                escape = "\\\\";
+            } else {
+                continue;
+            }
+
+            appendable.append(value, start, i);
+            appendable.append(escape);
+            start = i + 1;
+        }
+
+        appendable.append(value, start, value.length());
+        appendable.append(JSON_QUOTATION);
+    }
+
     // TODO test if this works correctly in jar
     static String loadResource(String resourceName) {
         String loadFailMessage = "unable to load resource: [" + resourceName + ']';
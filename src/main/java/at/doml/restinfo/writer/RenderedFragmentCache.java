@@ -0,0 +1,166 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.type.VisitableType;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public final class RenderedFragmentCache {
+
+    //
+    // CONSTANTS
+    //
+    private static final String MAX_SIZE_IN_BYTES_NON_NEGATIVE = "maxSizeInBytes must not be negative";
+    private static final int INITIAL_CAPACITY = 256;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final long maxSizeInBytes;
+    // access order makes iteration start at the least recently used fragment
+    private final Map<FragmentKey, String> fragments = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    private long sizeInBytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public RenderedFragmentCache(long maxSizeInBytes) {
+        if (maxSizeInBytes < 0) {
+            throw new IllegalArgumentException(MAX_SIZE_IN_BYTES_NON_NEGATIVE);
+        }
+
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    //
+    // UTIL CLASSES AND INTERFACES
+    //
+    private static final class FragmentKey {
+
+        private final long structuralHash;
+        private final RestApiInfoHtmlWriterSettings.PrintSection printSection;
+        private final int indentSpacing;
+        private final RestApiInfoHtmlWriterSettings.RenderingMode renderingMode;
+        private final Object typeTreeWriterKey;
+
+        private FragmentKey(VisitableType typeTree, RestApiInfoHtmlWriterSettings.PrintSection printSection,
+                            RestApiInfoHtmlWriterSettings settings) {
+            // structurally equal type trees render the same way, so fragments are reused across regenerated api info
+            this.structuralHash = typeTree.structuralHash();
+            this.printSection = printSection;
+            // only settings which change the rendered type tree are part of the key
+            this.indentSpacing = settings.indentSpacing;
+            this.renderingMode = settings.renderingMode;
+            this.typeTreeWriterKey = settings.typeTreeWriterKey;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof FragmentKey)) {
+                return false;
+            }
+
+            FragmentKey that = (FragmentKey) other;
+            return this.structuralHash == that.structuralHash
+                    && this.printSection == that.printSection
+                    && this.indentSpacing == that.indentSpacing
+                    && this.renderingMode == that.renderingMode
+                    && this.typeTreeWriterKey.equals(that.typeTreeWriterKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Long.hashCode(this.structuralHash);
+            hash = 31 * hash + this.printSection.hashCode();
+            hash = 31 * hash + this.indentSpacing;
+            hash = 31 * hash + this.renderingMode.hashCode();
+            return 31 * hash + this.typeTreeWriterKey.hashCode();
+        }
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static long sizeInBytes(String fragment) {
+        return (long) fragment.length() * Character.BYTES;
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    public synchronized long getSizeInBytes() {
+        return this.sizeInBytes;
+    }
+
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    public synchronized void clear() {
+        this.fragments.clear();
+        this.sizeInBytes = 0L;
+    }
+
+    String getOrRender(VisitableType typeTree, RestApiInfoHtmlWriterSettings.PrintSection printSection,
+                       RestApiInfoHtmlWriterSettings settings, Supplier<String> renderer) {
+        FragmentKey key = new FragmentKey(typeTree, printSection, settings);
+
+        synchronized (this) {
+            String fragment = this.fragments.get(key);
+
+            if (fragment != null) {
+                this.hitCount += 1;
+                return fragment;
+            }
+
+            this.missCount += 1;
+        }
+
+        // rendering happens outside of the lock, concurrent misses for the same key render the same fragment
+        String fragment = renderer.get();
+        this.put(key, fragment);
+        return fragment;
+    }
+
+    //
+    // PRIVATE METHODS
+    //
+    private synchronized void put(FragmentKey key, String fragment) {
+        long fragmentSize = sizeInBytes(fragment);
+
+        if (fragmentSize > this.maxSizeInBytes) {
+            return;
+        }
+
+        String previous = this.fragments.put(key, fragment);
+
+        if (previous != null) {
+            this.sizeInBytes -= sizeInBytes(previous);
+        }
+
+        this.sizeInBytes += fragmentSize;
+        Iterator<Map.Entry<FragmentKey, String>> leastRecentlyUsed = this.fragments.entrySet().iterator();
+
+        while (this.sizeInBytes > this.maxSizeInBytes) {
+            Map.Entry<FragmentKey, String> evicted = leastRecentlyUsed.next();
+            this.sizeInBytes -= sizeInBytes(evicted.getValue());
+            this.evictionCount += 1;
+            leastRecentlyUsed.remove();
+        }
+    }
+}
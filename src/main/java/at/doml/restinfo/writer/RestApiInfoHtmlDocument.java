@@ -0,0 +1,148 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.RestApiInfo;
+import org.springframework.web.HttpRequestHandler;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+public final class RestApiInfoHtmlDocument implements HttpRequestHandler {
+
+    //
+    // CONSTANTS
+    //
+    private static final String NOT_NULL = " must not be null";
+    private static final String REST_API_INFO_NOT_NULL = "restApiInfo" + NOT_NULL;
+    private static final String SETTINGS_NOT_NULL = "settings" + NOT_NULL;
+    private static final String OUTPUT_STREAM_NOT_NULL = "outputStream" + NOT_NULL;
+    private static final String CONTENT_TYPE = "text/html;charset=UTF-8";
+    private static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    private static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    private static final String VARY_HEADER = "Vary";
+    private static final String GZIP_ENCODING = "gzip";
+    private static final String ANY_ENCODING = "*";
+    private static final String CODING_SEPARATOR = ",";
+    private static final String PARAMETER_SEPARATOR = ";";
+    private static final String QUALITY_PARAMETER = "q=";
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final byte[] content;
+    private final byte[] gzipContent;
+
+    public RestApiInfoHtmlDocument(RestApiInfo restApiInfo) {
+        this(restApiInfo, RestApiInfoHtmlWriterSettings.DEFAULT);
+    }
+
+    public RestApiInfoHtmlDocument(RestApiInfo restApiInfo, RestApiInfoHtmlWriterSettings settings) {
+        Objects.requireNonNull(restApiInfo, REST_API_INFO_NOT_NULL);
+        Objects.requireNonNull(settings, SETTINGS_NOT_NULL);
+
+        // rest api info does not change, so the document and its compressed variant are produced only once
+        ByteArrayOutputStream contentStream = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        new RestApiInfoHtmlWriter(contentStream, settings).write(restApiInfo);
+        this.content = contentStream.toByteArray();
+        this.gzipContent = gzip(this.content);
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 4 + 64);
+
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressed) {
+            {
+                // compression is paid once, so the best ratio is worth the extra time
+                this.def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzipStream.write(content);
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception); // in-memory streams never throw IOException
+        }
+
+        return compressed.toByteArray();
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        boolean accepted = false;
+
+        for (String coding : acceptEncoding.split(CODING_SEPARATOR)) {
+            String[] parts = coding.split(PARAMETER_SEPARATOR);
+            String name = parts[0].trim();
+
+            if (name.equalsIgnoreCase(GZIP_ENCODING)) {
+                // explicit gzip preference takes precedence over the wildcard
+                return isAcceptable(parts);
+            }
+
+            if (name.equals(ANY_ENCODING)) {
+                accepted = isAcceptable(parts);
+            }
+        }
+
+        return accepted;
+    }
+
+    private static boolean isAcceptable(String[] codingParts) {
+        for (int i = 1; i < codingParts.length; i++) {
+            String parameter = codingParts[i].trim();
+
+            if (parameter.startsWith(QUALITY_PARAMETER)) {
+                try {
+                    return Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length())) > 0.0;
+                } catch (NumberFormatException exception) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    public int getContentLength() {
+        return this.content.length;
+    }
+
+    public int getGzipContentLength() {
+        return this.gzipContent.length;
+    }
+
+    public void writeContent(OutputStream outputStream) throws IOException {
+        Objects.requireNonNull(outputStream, OUTPUT_STREAM_NOT_NULL).write(this.content);
+    }
+
+    public void writeGzipContent(OutputStream outputStream) throws IOException {
+        Objects.requireNonNull(outputStream, OUTPUT_STREAM_NOT_NULL).write(this.gzipContent);
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader(VARY_HEADER, ACCEPT_ENCODING_HEADER);
+
+        if (acceptsGzip(request.getHeader(ACCEPT_ENCODING_HEADER))) {
+            response.setHeader(CONTENT_ENCODING_HEADER, GZIP_ENCODING);
+            response.setContentLength(this.gzipContent.length);
+            response.getOutputStream().write(this.gzipContent);
+        } else {
+            response.setContentLength(this.content.length);
+            response.getOutputStream().write(this.content);
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.ControllerInfo;
+import at.doml.restinfo.RestApiInfo;
+import at.doml.restinfo.type.VisitableType;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinTask;
+
+public final class RestApiInfoHtmlWriter {
+
+    //
+    // CONSTANTS
+    //
+    private static final String NOT_NULL = " must not be null";
+    private static final String OUTPUT_NOT_NULL = "output" + NOT_NULL;
+    private static final String SETTINGS_NOT_NULL = "settings" + NOT_NULL;
+    private static final String REST_API_INFO_NOT_NULL = "restApiInfo" + NOT_NULL;
+    private static final String DEFAULT_PATH = "/";
+    private static final String ANY_REQUEST_METHOD = "ANY";
+    private static final String DOCUMENT_OPENING_ELEMENT =
+            "<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n";
+    private static final String HEAD_CLOSING_ELEMENT = "</head>\n<body>\n";
+    private static final String DOCUMENT_CLOSING_ELEMENT = "</body>\n</html>\n";
+    private static final String API_SECTION_OPENING_ELEMENT = "<div class=\"container\">\n<h1>";
+    private static final String API_SECTION_NAME_CLOSING_ELEMENT = "</h1>\n";
+    private static final String API_SECTION_CLOSING_ELEMENT = "</div>\n";
+    private static final String HEADER_OPENING_ELEMENT = "<div class=\"header\"";
+    private static final String ENDPOINT_ANCHOR_OPENING_ELEMENT = " id=\"endpoint-";
+    private static final String ENDPOINT_ANCHOR_CLOSING_ELEMENT = "\"";
+    private static final String METHOD_OPENING_ELEMENT = "><span class=\"header-field method\">";
+    private static final String URL_OPENING_ELEMENT = "</span><span class=\"header-field url\">";
+    private static final String HEADER_CLOSING_ELEMENT = "</span></div>\n<div class=\"table\">\n";
+    private static final String ROW_OPENING_ELEMENT = "<div class=\"row\"><div class=\"row-field attribute\">";
+    private static final String TYPE_TREE_OPENING_ELEMENT = "</div><div class=\"row-field\"><pre>";
+    private static final String ROW_CLOSING_ELEMENT = "</pre></div></div>\n";
+    private static final String TABLE_CLOSING_ELEMENT = "</div>\n";
+    private static final String SEARCH_INDEX_OPENING_ELEMENT =
+            "<script type=\"application/json\" id=\"restinfo-search-index\">";
+    private static final String SEARCH_SCRIPT_OPENING_ELEMENT = "</script>\n<script>\n";
+    private static final String SEARCH_SCRIPT_CLOSING_ELEMENT = "\n</script>\n";
+    private static final String SCRIPT_END_TAG_START = "</";
+    private static final String ESCAPED_SCRIPT_END_TAG_START = "<\\/";
+    // upper bounds of markup around type trees, used only to presize in-memory output
+    private static final int DOCUMENT_MARKUP_SIZE = 256;
+    private static final int API_SECTION_MARKUP_SIZE = 64;
+    private static final int CONTROLLER_INFO_MARKUP_SIZE = 256;
+    private static final int ROW_MARKUP_SIZE = 128;
+    // type tree writers share the document output, so their markup is part of the same fragment table
+    private static final Map<String, byte[]> UTF8_FRAGMENTS = Utf8Appendable.encodeFragments(
+            HtmlJsonTypeTreeWriter.markupFragments(
+                    DOCUMENT_OPENING_ELEMENT, HEAD_CLOSING_ELEMENT, DOCUMENT_CLOSING_ELEMENT,
+                    API_SECTION_OPENING_ELEMENT, API_SECTION_NAME_CLOSING_ELEMENT, API_SECTION_CLOSING_ELEMENT,
+                    HEADER_OPENING_ELEMENT, ENDPOINT_ANCHOR_OPENING_ELEMENT, ENDPOINT_ANCHOR_CLOSING_ELEMENT,
+                    METHOD_OPENING_ELEMENT, URL_OPENING_ELEMENT, HEADER_CLOSING_ELEMENT, ROW_OPENING_ELEMENT,
+                    TYPE_TREE_OPENING_ELEMENT, ROW_CLOSING_ELEMENT, TABLE_CLOSING_ELEMENT
+            )
+    );
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final Appendable target;
+    private final Appendable output;
+    private final RestApiInfoHtmlWriterSettings settings;
+    private final TypeTreeWriterPool typeTreeWriterPool;
+    private final StylesheetProvider stylesheetProvider;
+    private final boolean embedSearchIndex;
+
+    public RestApiInfoHtmlWriter(Appendable output) {
+        this(output, RestApiInfoHtmlWriterSettings.DEFAULT);
+    }
+
+    public RestApiInfoHtmlWriter(Appendable output, RestApiInfoHtmlWriterSettings settings) {
+        this(output, settings, Objects.requireNonNull(settings, SETTINGS_NOT_NULL).stylesheetProvider,
+                settings.searchIndex);
+    }
+
+    public RestApiInfoHtmlWriter(OutputStream outputStream) {
+        this(outputStream, RestApiInfoHtmlWriterSettings.DEFAULT);
+    }
+
+    public RestApiInfoHtmlWriter(OutputStream outputStream, RestApiInfoHtmlWriterSettings settings) {
+        this(new Utf8Appendable(outputStream, UTF8_FRAGMENTS), settings);
+    }
+
+    RestApiInfoHtmlWriter(OutputStream outputStream, RestApiInfoHtmlWriterSettings settings,
+                          StylesheetProvider stylesheetProvider, boolean embedSearchIndex) {
+        this(new Utf8Appendable(outputStream, UTF8_FRAGMENTS), settings, stylesheetProvider, embedSearchIndex);
+    }
+
+    private RestApiInfoHtmlWriter(Appendable output, RestApiInfoHtmlWriterSettings settings,
+                                  StylesheetProvider stylesheetProvider, boolean embedSearchIndex) {
+        this.target = Objects.requireNonNull(output, OUTPUT_NOT_NULL);
+        // type tree writers share the buffered output, so the document is streamed through a single bounded buffer
+        this.output = BufferedAppendable.wrap(this.target);
+        this.settings = Objects.requireNonNull(settings, SETTINGS_NOT_NULL);
+        this.typeTreeWriterPool = new TypeTreeWriterPool(settings);
+        this.stylesheetProvider = stylesheetProvider;
+        this.embedSearchIndex = embedSearchIndex;
+    }
+
+    //
+    // UTIL CLASSES AND INTERFACES
+    //
+    static final class ApiSection {
+
+        private final String name;
+        private final int firstEndpoint;
+        private final List<ControllerInfo> controllerInfos = new ArrayList<>();
+
+        private ApiSection(String name, int firstEndpoint) {
+            this.name = name;
+            this.firstEndpoint = firstEndpoint;
+        }
+
+        String getName() {
+            return this.name;
+        }
+
+        List<ControllerInfo> getControllerInfos() {
+            return this.controllerInfos;
+        }
+    }
+
+    //
+    // HELPER METHODS
+    //
+    static List<ApiSection> collectApiSections(RestApiInfo restApiInfo) {
+        // only references are collected, so that sections can be rendered independently of each other
+        List<ApiSection> apiSections = new ArrayList<>(restApiInfo.getNumberOfApiSections());
+
+        restApiInfo.forEachApiSection(
+                apiSectionName -> apiSections.add(new ApiSection(apiSectionName, countEndpoints(apiSections))),
+                (apiSectionName, controllerInfo) -> apiSections.get(apiSections.size() - 1)
+                        .controllerInfos.add(controllerInfo),
+                apiSectionName -> {}
+        );
+
+        return apiSections;
+    }
+
+    private static int countEndpoints(List<ApiSection> apiSections) {
+        if (apiSections.isEmpty()) {
+            return 0;
+        }
+
+        ApiSection lastApiSection = apiSections.get(apiSections.size() - 1);
+        return lastApiSection.firstEndpoint + lastApiSection.controllerInfos.size();
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    public void write(RestApiInfo restApiInfo) {
+        this.write(collectApiSections(Objects.requireNonNull(restApiInfo, REST_API_INFO_NOT_NULL)));
+    }
+
+    void write(List<ApiSection> apiSections) {
+        if (this.target instanceof StringBuilder) {
+            ((StringBuilder) this.target).ensureCapacity(this.estimateCapacity(apiSections, DOCUMENT_MARKUP_SIZE));
+        }
+
+        try {
+            this.output.append(DOCUMENT_OPENING_ELEMENT);
+            this.stylesheetProvider.writeStylesheet(this.output);
+            this.output.append(HEAD_CLOSING_ELEMENT);
+
+            if (this.embedSearchIndex) {
+                this.output.append(SearchIndex.SEARCH_BOX_ELEMENT);
+            }
+
+            if (this.settings.renderingPool == null) {
+                for (ApiSection apiSection : apiSections) {
+                    this.writeApiSection(this.output, this.typeTreeWriterPool, apiSection);
+                }
+            } else {
+                this.writeApiSectionsInParallel(apiSections);
+            }
+
+            if (this.embedSearchIndex) {
+                this.writeSearchIndex(apiSections);
+            }
+
+            this.output.append(DOCUMENT_CLOSING_ELEMENT);
+            this.flush();
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
+    }
+
+    //
+    // PRIVATE METHODS
+    //
+    private int estimateCapacity(List<ApiSection> apiSections, long additionalSize) {
+        List<VisitableType> typeTrees = new ArrayList<>();
+        long markupSize = additionalSize;
+
+        for (ApiSection apiSection : apiSections) {
+            markupSize += API_SECTION_MARKUP_SIZE + apiSection.name.length();
+
+            for (ControllerInfo controllerInfo : apiSection.controllerInfos) {
+                markupSize += CONTROLLER_INFO_MARKUP_SIZE;
+
+                for (RestApiInfoHtmlWriterSettings.PrintSection printSection : this.settings.sectionsToPrint) {
+                    VisitableType typeTree = printSection.getTypeTree(controllerInfo);
+
+                    if (typeTree != null) {
+                        typeTrees.add(typeTree);
+                        markupSize += ROW_MARKUP_SIZE;
+                    }
+                }
+            }
+        }
+
+        return this.settings.typeTreeSizeEstimator.capacityFor(typeTrees, markupSize);
+    }
+
+    private void writeApiSectionsInParallel(List<ApiSection> apiSections) throws IOException {
+        // sections are rendered into their own buffers, but written in their original order
+        Deque<ForkJoinTask<StringBuilder>> sectionsInFlight = new ArrayDeque<>();
+
+        try {
+            for (ApiSection apiSection : apiSections) {
+                if (sectionsInFlight.size() == this.settings.maxSectionsInFlight) {
+                    this.output.append(sectionsInFlight.removeFirst().join());
+                }
+
+                sectionsInFlight.addLast(this.settings.renderingPool.submit(() -> this.renderApiSection(apiSection)));
+            }
+
+            while (!sectionsInFlight.isEmpty()) {
+                this.output.append(sectionsInFlight.removeFirst().join());
+            }
+        } finally {
+            for (ForkJoinTask<StringBuilder> sectionInFlight : sectionsInFlight) {
+                sectionInFlight.cancel(false);
+            }
+        }
+    }
+
+    private StringBuilder renderApiSection(ApiSection apiSection) {
+        List<ApiSection> singleApiSection = Collections.singletonList(apiSection);
+        StringBuilder buffer = new StringBuilder(this.estimateCapacity(singleApiSection, 0));
+
+        try {
+            // writer pools are confined to a single thread, so every rendering task uses its own
+            this.writeApiSection(buffer, new TypeTreeWriterPool(this.settings), apiSection);
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
+
+        return buffer;
+    }
+
+    private void writeApiSection(Appendable output, TypeTreeWriterPool writerPool, ApiSection apiSection)
+            throws IOException {
+        output.append(API_SECTION_OPENING_ELEMENT);
+        HtmlEscaper.appendEscaped(output, apiSection.name);
+        output.append(API_SECTION_NAME_CLOSING_ELEMENT);
+
+        int endpoint = apiSection.firstEndpoint;
+
+        for (ControllerInfo controllerInfo : apiSection.controllerInfos) {
+            this.writeControllerInfo(output, writerPool, endpoint++, controllerInfo);
+        }
+
+        output.append(API_SECTION_CLOSING_ELEMENT);
+    }
+
+    private void writeControllerInfo(Appendable output, TypeTreeWriterPool writerPool, int endpoint,
+                                     ControllerInfo controllerInfo) throws IOException {
+        output.append(HEADER_OPENING_ELEMENT);
+
+        if (this.settings.searchIndex) {
+            // search results link to endpoints, so their headers need to be addressable
+            output.append(ENDPOINT_ANCHOR_OPENING_ELEMENT);
+            output.append(Integer.toString(endpoint));
+            output.append(ENDPOINT_ANCHOR_CLOSING_ELEMENT);
+        }
+
+        output.append(METHOD_OPENING_ELEMENT);
+        HtmlEscaper.appendEscaped(output, controllerInfo.getRequestMethod() == null
+                ? ANY_REQUEST_METHOD
+                : controllerInfo.getRequestMethod());
+        output.append(URL_OPENING_ELEMENT);
+        HtmlEscaper.appendEscaped(output, controllerInfo.getPath() == null
+                ? DEFAULT_PATH
+                : controllerInfo.getPath());
+        output.append(HEADER_CLOSING_ELEMENT);
+
+        for (RestApiInfoHtmlWriterSettings.PrintSection printSection : this.settings.sectionsToPrint) {
+            VisitableType typeTree = printSection.getTypeTree(controllerInfo);
+
+            if (typeTree != null) {
+                output.append(ROW_OPENING_ELEMENT);
+                output.append(printSection.getSectionName());
+                output.append(TYPE_TREE_OPENING_ELEMENT);
+
+                if (this.settings.fragmentCache == null) {
+                    writerPool.write(typeTree, output);
+                } else {
+                    output.append(this.settings.fragmentCache.getOrRender(
+                            typeTree, printSection, this.settings, () -> this.render(writerPool, typeTree)
+                    ));
+                }
+
+                output.append(ROW_CLOSING_ELEMENT);
+            }
+        }
+
+        output.append(TABLE_CLOSING_ELEMENT);
+    }
+
+    private String render(TypeTreeWriterPool writerPool, VisitableType typeTree) {
+        StringBuilder fragment = new StringBuilder(
+                this.settings.typeTreeSizeEstimator.capacityFor(Collections.singletonList(typeTree), 0)
+        );
+        writerPool.write(typeTree, fragment);
+        return fragment.toString();
+    }
+
+    private void writeSearchIndex(List<ApiSection> apiSections) throws IOException {
+        StringBuilder json = new StringBuilder();
+        new SearchIndex(apiSections, this.settings, apiSection -> SearchIndex.NO_PAGE_LINK).writeJson(json);
+
+        this.output.append(SEARCH_INDEX_OPENING_ELEMENT);
+        // index is embedded into a script element, which must not be closed by any string in the index
+        this.output.append(json.toString().replace(SCRIPT_END_TAG_START, ESCAPED_SCRIPT_END_TAG_START));
+        this.output.append(SEARCH_SCRIPT_OPENING_ELEMENT);
+        this.output.append(SearchIndex.SEARCH_SCRIPT);
+        this.output.append(SEARCH_SCRIPT_CLOSING_ELEMENT);
+    }
+
+    private void flush() throws IOException {
+        if (this.output instanceof Flushable) {
+            ((Flushable) this.output).flush();
+        }
+    }
+}
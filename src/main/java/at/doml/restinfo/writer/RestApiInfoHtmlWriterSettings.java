@@ -1,10 +1,14 @@
 package at.doml.restinfo.writer;
 
 import at.doml.restinfo.ControllerInfo;
+import at.doml.restinfo.type.TypeTreeTraversal;
 import at.doml.restinfo.type.VisitableType;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -27,15 +31,35 @@ public final class RestApiInfoHtmlWriterSettings {
     final Set<PrintSection> sectionsToPrint;
     final StylesheetProvider stylesheetProvider;
     final BiFunction<Appendable, Integer, ? extends AbstractTypeTreeWriter> typeTreeWriterConstructor;
+    final Object typeTreeWriterKey;
+    final TypeTreeTraversal typeTreeTraversal;
+    final RenderingMode renderingMode;
+    final TypeTreeSizeEstimator typeTreeSizeEstimator;
+    final ForkJoinPool renderingPool;
+    final int maxSectionsInFlight;
+    final RenderedFragmentCache fragmentCache;
+    final boolean searchIndex;
 
     private RestApiInfoHtmlWriterSettings(int indentSpacing, Set<PrintSection> sectionsToPrint,
                                           StylesheetProvider stylesheetProvider,
                                           BiFunction<Appendable, Integer, ? extends AbstractTypeTreeWriter>
-                                                  typeTreeWriterConstructor) {
+                                                  typeTreeWriterConstructor,
+                                          TypeTreeTraversal typeTreeTraversal, RenderingMode renderingMode,
+                                          ForkJoinPool renderingPool, int maxSectionsInFlight,
+                                          RenderedFragmentCache fragmentCache, boolean searchIndex) {
         this.indentSpacing = indentSpacing;
         this.sectionsToPrint = EnumSet.copyOf(sectionsToPrint);
         this.stylesheetProvider = stylesheetProvider;
         this.typeTreeWriterConstructor = typeTreeWriterConstructor;
+        this.typeTreeWriterKey = typeTreeWriterKey(typeTreeWriterConstructor, renderingMode);
+        this.typeTreeTraversal = typeTreeTraversal;
+        this.renderingMode = renderingMode;
+        // estimated sizes depend on indentation and traversal, so every settings instance keeps its own estimator
+        this.typeTreeSizeEstimator = new TypeTreeSizeEstimator(indentSpacing, typeTreeTraversal);
+        this.renderingPool = renderingPool;
+        this.maxSectionsInFlight = maxSectionsInFlight;
+        this.fragmentCache = fragmentCache;
+        this.searchIndex = searchIndex;
     }
 
     //
@@ -64,6 +88,47 @@ public final class RestApiInfoHtmlWriterSettings {
         }
     }
 
+    public enum RenderingMode {
+        PRETTY(HtmlJsonTypeTreeWriter::new, Builder.DEFAULT_CSS, Builder.DEFAULT_STYLESHEET_PROVIDER),
+        COMPACT(
+                (stringAppender, indentSpacing) -> new HtmlJsonTypeTreeWriter(stringAppender, indentSpacing, true),
+                Builder.COMPACT_CSS, Builder.COMPACT_STYLESHEET_PROVIDER
+        );
+
+        private final BiFunction<Appendable, Integer, ? extends AbstractTypeTreeWriter> typeTreeWriterConstructor;
+        private final String css;
+        private final StylesheetProvider stylesheetProvider;
+
+        RenderingMode(BiFunction<Appendable, Integer, ? extends AbstractTypeTreeWriter> typeTreeWriterConstructor,
+                      String css, StylesheetProvider stylesheetProvider) {
+            this.typeTreeWriterConstructor = typeTreeWriterConstructor;
+            this.css = css;
+            this.stylesheetProvider = stylesheetProvider;
+        }
+
+        String getCss() {
+            return this.css;
+        }
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static Object typeTreeWriterKey(BiFunction<Appendable, Integer, ? extends AbstractTypeTreeWriter>
+                                                    typeTreeWriterConstructor, RenderingMode renderingMode) {
+        // equal settings built separately should render the same way, so constructors are not compared by identity
+        if (typeTreeWriterConstructor == renderingMode.typeTreeWriterConstructor) {
+            return renderingMode;
+        }
+
+        Class<?> constructorClass = typeTreeWriterConstructor.getClass();
+        boolean stateless = Arrays.stream(constructorClass.getDeclaredFields())
+                .allMatch(field -> Modifier.isStatic(field.getModifiers()));
+
+        // constructors without captured state, e.g. method references, create equal writers for every instance
+        return stateless ? constructorClass : typeTreeWriterConstructor;
+    }
+
     //
     // BUILDER
     //
@@ -80,9 +145,20 @@ public final class RestApiInfoHtmlWriterSettings {
         private static final String PRINT_SECTION_NOT_NULL = "printSection" + NOT_NULL;
         private static final String STYLESHEET_PROVIDER_NOT_NULL = "stylesheetProvider" + NOT_NULL;
         private static final String TYPE_TREE_WRITER_CONSTRUCTOR_NOT_NULL = "typeTreeWriterConstructor" + NOT_NULL;
+        private static final String TYPE_TREE_TRAVERSAL_NOT_NULL = "typeTreeTraversal" + NOT_NULL;
+        private static final String RENDERING_MODE_NOT_NULL = "renderingMode" + NOT_NULL;
+        private static final String RENDERING_POOL_NOT_NULL = "renderingPool" + NOT_NULL;
+        private static final String FRAGMENT_CACHE_NOT_NULL = "fragmentCache" + NOT_NULL;
+        private static final String MAX_SECTIONS_IN_FLIGHT_POSITIVE = "maxSectionsInFlight must be positive";
         private static final int DEFAULT_INDENT_SPACING = 4;
+        private static final int SEQUENTIAL_SECTIONS_IN_FLIGHT = 1;
+        private static final String DEFAULT_CSS = PackageUtils.loadResource("default.css");
+        private static final String COMPACT_CSS = CssClassNames.compactStylesheet(DEFAULT_CSS);
         private static final StylesheetProvider DEFAULT_STYLESHEET_PROVIDER = new InternalStylesheetProvider(
-                PackageUtils.loadResource("default.css")
+                DEFAULT_CSS
+        );
+        private static final StylesheetProvider COMPACT_STYLESHEET_PROVIDER = new InternalStylesheetProvider(
+                COMPACT_CSS
         );
 
         //
@@ -91,12 +167,19 @@ public final class RestApiInfoHtmlWriterSettings {
         private int indentSpacing;
         private StylesheetProvider stylesheetProvider;
         private BiFunction<Appendable, Integer, ? extends AbstractTypeTreeWriter> typeTreeWriterConstructor;
+        private TypeTreeTraversal typeTreeTraversal;
+        private RenderingMode renderingMode;
+        private ForkJoinPool renderingPool;
+        private int maxSectionsInFlight;
+        private RenderedFragmentCache fragmentCache;
+        private boolean searchIndex;
         private final Set<PrintSection> sectionsToPrint;
 
         private Builder() {
             this.indentSpacing = DEFAULT_INDENT_SPACING;
-            this.stylesheetProvider = DEFAULT_STYLESHEET_PROVIDER;
-            this.typeTreeWriterConstructor = HtmlJsonTypeTreeWriter::new;
+            this.typeTreeTraversal = TypeTreeTraversal.RECURSIVE;
+            this.renderingMode = RenderingMode.PRETTY;
+            this.maxSectionsInFlight = SEQUENTIAL_SECTIONS_IN_FLIGHT;
             this.sectionsToPrint = EnumSet.noneOf(PrintSection.class);
         }
 
@@ -125,12 +208,51 @@ public final class RestApiInfoHtmlWriterSettings {
             return this;
         }
 
+        public Builder typeTreeTraversal(TypeTreeTraversal typeTreeTraversal) {
+            this.typeTreeTraversal = Objects.requireNonNull(typeTreeTraversal, TYPE_TREE_TRAVERSAL_NOT_NULL);
+            return this;
+        }
+
+        public Builder renderingMode(RenderingMode renderingMode) {
+            this.renderingMode = Objects.requireNonNull(renderingMode, RENDERING_MODE_NOT_NULL);
+            return this;
+        }
+
+        public Builder parallelRendering(ForkJoinPool renderingPool, int maxSectionsInFlight) {
+            if (maxSectionsInFlight <= 0) {
+                throw new IllegalArgumentException(MAX_SECTIONS_IN_FLIGHT_POSITIVE);
+            }
+
+            this.renderingPool = Objects.requireNonNull(renderingPool, RENDERING_POOL_NOT_NULL);
+            this.maxSectionsInFlight = maxSectionsInFlight;
+            return this;
+        }
+
+        public Builder fragmentCache(RenderedFragmentCache fragmentCache) {
+            this.fragmentCache = Objects.requireNonNull(fragmentCache, FRAGMENT_CACHE_NOT_NULL);
+            return this;
+        }
+
+        public Builder searchIndex(boolean searchIndex) {
+            this.searchIndex = searchIndex;
+            return this;
+        }
+
         public RestApiInfoHtmlWriterSettings build() {
+            // explicitly set writer and stylesheet take precedence over the defaults of the rendering mode
             return new RestApiInfoHtmlWriterSettings(
                     this.indentSpacing,
                     this.sectionsToPrint,
-                    this.stylesheetProvider,
-                    this.typeTreeWriterConstructor
+                    this.stylesheetProvider != null ? this.stylesheetProvider : this.renderingMode.stylesheetProvider,
+                    this.typeTreeWriterConstructor != null
+                            ? this.typeTreeWriterConstructor
+                            : this.renderingMode.typeTreeWriterConstructor,
+                    this.typeTreeTraversal,
+                    this.renderingMode,
+                    this.renderingPool,
+                    this.maxSectionsInFlight,
+                    this.fragmentCache,
+                    this.searchIndex
             );
         }
     }
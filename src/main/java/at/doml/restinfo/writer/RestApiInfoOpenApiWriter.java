@@ -0,0 +1,397 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.ControllerInfo;
+import at.doml.restinfo.RestApiInfo;
+import at.doml.restinfo.type.TypeTreeCursor;
+import at.doml.restinfo.type.VisitableType;
+import org.springframework.web.bind.annotation.RequestMethod;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+public final class RestApiInfoOpenApiWriter {
+
+    //
+    // CONSTANTS
+    //
+    private static final String NOT_NULL = " must not be null";
+    private static final String OUTPUT_NOT_NULL = "output" + NOT_NULL;
+    private static final String TITLE_NOT_NULL = "title" + NOT_NULL;
+    private static final String VERSION_NOT_NULL = "version" + NOT_NULL;
+    private static final String REST_API_INFO_NOT_NULL = "restApiInfo" + NOT_NULL;
+    private static final String COMPONENTS_REFERENCE_PREFIX = "#/components/schemas/";
+    private static final String DEFAULT_PATH = "/";
+    private static final String DOCUMENT_OPENING_ELEMENT = "{\"openapi\":\"3.0.0\",\"info\":{\"title\":";
+    private static final String VERSION_ELEMENT = ",\"version\":";
+    private static final String PATHS_OPENING_ELEMENT = "},\"paths\":{";
+    private static final String COMPONENTS_OPENING_ELEMENT = "},\"components\":{\"schemas\":{";
+    private static final String DOCUMENT_CLOSING_ELEMENT = "}}}";
+    private static final String TAGS_OPENING_ELEMENT = "{\"tags\":[";
+    private static final String MERGED_OPERATION_ELEMENT = "],\"description\":\"Merged from mappings with the same "
+            + "path and request method, which differ only in other conditions\"";
+    private static final String TAGS_CLOSING_ELEMENT = "]";
+    private static final String PARAMETERS_OPENING_ELEMENT = ",\"parameters\":[";
+    private static final String PARAMETER_NAME_ELEMENT = "{\"name\":";
+    private static final String PATH_PARAMETER_ELEMENT = ",\"in\":\"path\",\"required\":true,\"schema\":";
+    private static final String QUERY_PARAMETER_ELEMENT = ",\"in\":\"query\",\"schema\":";
+    private static final String REQUEST_BODY_OPENING_ELEMENT = "],\"requestBody\":{\"required\":true,\"content\":";
+    private static final String OPTIONAL_REQUEST_BODY_OPENING_ELEMENT = "],\"requestBody\":{\"content\":";
+    private static final String REQUEST_BODY_CLOSING_ELEMENT = "}";
+    private static final String PARAMETERS_CLOSING_ELEMENT = "]";
+    private static final String RESPONSES_OPENING_ELEMENT = ",\"responses\":{\"200\":{\"description\":\"OK\"";
+    private static final String RESPONSE_CONTENT_ELEMENT = ",\"content\":";
+    private static final String RESPONSES_CLOSING_ELEMENT = "}}}";
+    private static final String CONTENT_OPENING_ELEMENT = "{\"application/json\":{\"schema\":";
+    private static final String CONTENT_CLOSING_ELEMENT = "}}";
+    private static final String ANY_OF_OPENING_ELEMENT = "{\"anyOf\":[";
+    private static final String ANY_OF_CLOSING_ELEMENT = "]}";
+    private static final char OBJECT_OPENING_ELEMENT = '{';
+    private static final char OBJECT_CLOSING_ELEMENT = '}';
+    private static final char SEPARATOR = ',';
+    private static final char KEY_VALUE_SEPARATOR = ':';
+    private static final Map<String, byte[]> UTF8_FRAGMENTS = Utf8Appendable.encodeFragments(
+            DOCUMENT_OPENING_ELEMENT, VERSION_ELEMENT, PATHS_OPENING_ELEMENT, COMPONENTS_OPENING_ELEMENT,
+            DOCUMENT_CLOSING_ELEMENT, TAGS_OPENING_ELEMENT, MERGED_OPERATION_ELEMENT, TAGS_CLOSING_ELEMENT,
+            PARAMETERS_OPENING_ELEMENT, PARAMETER_NAME_ELEMENT, PATH_PARAMETER_ELEMENT, QUERY_PARAMETER_ELEMENT,
+            REQUEST_BODY_OPENING_ELEMENT, OPTIONAL_REQUEST_BODY_OPENING_ELEMENT, REQUEST_BODY_CLOSING_ELEMENT,
+            PARAMETERS_CLOSING_ELEMENT, RESPONSES_OPENING_ELEMENT, RESPONSE_CONTENT_ELEMENT,
+            RESPONSES_CLOSING_ELEMENT, CONTENT_OPENING_ELEMENT, CONTENT_CLOSING_ELEMENT, ANY_OF_OPENING_ELEMENT,
+            ANY_OF_CLOSING_ELEMENT
+    );
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final Appendable output;
+    private final String title;
+    private final String version;
+    private final JsonSchemaTypeTreeWriter schemaWriter;
+
+    public RestApiInfoOpenApiWriter(Appendable output, String title, String version) {
+        this.output = BufferedAppendable.wrap(Objects.requireNonNull(output, OUTPUT_NOT_NULL));
+        this.title = Objects.requireNonNull(title, TITLE_NOT_NULL);
+        this.version = Objects.requireNonNull(version, VERSION_NOT_NULL);
+        // schema writer shares the buffered output, so schemas are written in place and flushed after each tree
+        this.schemaWriter = new JsonSchemaTypeTreeWriter(this.output, COMPONENTS_REFERENCE_PREFIX, true);
+    }
+
+    public RestApiInfoOpenApiWriter(OutputStream outputStream, String title, String version) {
+        this(new Utf8Appendable(outputStream, UTF8_FRAGMENTS), title, version);
+    }
+
+    //
+    // UTIL CLASSES AND INTERFACES
+    //
+    // OpenAPI allows a single operation per path and request method, so mappings which differ only in other
+    // conditions, e.g. headers, or which repeat in other api sections are merged into one operation
+    private static final class Operation {
+
+        private final List<String> apiSectionNames = new ArrayList<>();
+        private final List<ControllerInfo> controllerInfos = new ArrayList<>();
+
+        private Operation(String apiSectionName, ControllerInfo controllerInfo) {
+            this.apiSectionNames.add(apiSectionName);
+            this.controllerInfos.add(controllerInfo);
+        }
+
+        private Operation merge(Operation other) {
+            for (String apiSectionName : other.apiSectionNames) {
+                if (!this.apiSectionNames.contains(apiSectionName)) {
+                    this.apiSectionNames.add(apiSectionName);
+                }
+            }
+
+            this.controllerInfos.addAll(other.controllerInfos);
+            return this;
+        }
+
+        private boolean isMerged() {
+            return this.controllerInfos.size() > 1;
+        }
+
+        private List<VisitableType> distinctTypeTrees(Function<ControllerInfo, VisitableType> typeTreeGetter) {
+            // structurally equal bodies of merged mappings are written only once
+            Map<Long, VisitableType> typeTrees = new LinkedHashMap<>();
+
+            for (ControllerInfo controllerInfo : this.controllerInfos) {
+                VisitableType typeTree = typeTreeGetter.apply(controllerInfo);
+
+                if (typeTree != null) {
+                    typeTrees.putIfAbsent(typeTree.structuralHash(), typeTree);
+                }
+            }
+
+            return new ArrayList<>(typeTrees.values());
+        }
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static Map<String, Map<RequestMethod, Operation>> collectOperations(RestApiInfo restApiInfo) {
+        // only references to already generated type trees are kept, trees themselves are written one at a time
+        Map<String, Map<RequestMethod, Operation>> operations = new TreeMap<>();
+        Map<String, Operation> anyMethodOperations = new TreeMap<>();
+
+        restApiInfo.forEachApiSection(
+                apiSectionName -> {},
+                (apiSectionName, controllerInfo) -> {
+                    Operation operation = new Operation(apiSectionName, controllerInfo);
+
+                    if (controllerInfo.getRequestMethod() == null) {
+                        anyMethodOperations.merge(path(controllerInfo), operation, Operation::merge);
+                    } else {
+                        operationsForPath(operations, controllerInfo).merge(
+                                RequestMethod.valueOf(controllerInfo.getRequestMethod()), operation, Operation::merge
+                        );
+                    }
+                },
+                apiSectionName -> {}
+        );
+
+        // mappings without request method accept every method which is not mapped explicitly
+        for (Operation operation : anyMethodOperations.values()) {
+            Map<RequestMethod, Operation> pathOperations = operationsForPath(
+                    operations, operation.controllerInfos.get(0)
+            );
+
+            for (RequestMethod requestMethod : RequestMethod.values()) {
+                pathOperations.putIfAbsent(requestMethod, operation);
+            }
+        }
+
+        return operations;
+    }
+
+    private static Map<RequestMethod, Operation> operationsForPath(
+            Map<String, Map<RequestMethod, Operation>> operations, ControllerInfo controllerInfo) {
+        return operations.computeIfAbsent(path(controllerInfo), p -> new EnumMap<>(RequestMethod.class));
+    }
+
+    private static String path(ControllerInfo controllerInfo) {
+        return controllerInfo.getPath() == null ? DEFAULT_PATH : controllerInfo.getPath();
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    public void write(RestApiInfo restApiInfo) {
+        Map<String, Map<RequestMethod, Operation>> operations = collectOperations(
+                Objects.requireNonNull(restApiInfo, REST_API_INFO_NOT_NULL)
+        );
+        // only complex types written more than once in the document are defined as components
+        operations.values().forEach(pathOperations -> pathOperations.values().forEach(this::countComplexTypes));
+
+        try {
+            this.output.append(DOCUMENT_OPENING_ELEMENT);
+            PackageUtils.appendJsonString(this.output, this.title);
+            this.output.append(VERSION_ELEMENT);
+            PackageUtils.appendJsonString(this.output, this.version);
+            this.output.append(PATHS_OPENING_ELEMENT);
+            this.writePaths(operations);
+            this.output.append(COMPONENTS_OPENING_ELEMENT);
+            this.schemaWriter.writeDefinitionEntries();
+            this.output.append(DOCUMENT_CLOSING_ELEMENT);
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
+
+        this.schemaWriter.flush();
+    }
+
+    //
+    // PRIVATE METHODS
+    //
+    private void countComplexTypes(Operation operation) {
+        // mirrors writeOperation, which writes each parameter and distinct body of an operation once
+        Set<String> countedParameters = new HashSet<>();
+
+        for (ControllerInfo controllerInfo : operation.controllerInfos) {
+            this.countComplexTypes(
+                    controllerInfo.getPathVariablesTypeTree(), PATH_PARAMETER_ELEMENT, countedParameters
+            );
+            this.countComplexTypes(
+                    controllerInfo.getQueryParametersTypeTree(), QUERY_PARAMETER_ELEMENT, countedParameters
+            );
+        }
+
+        operation.distinctTypeTrees(ControllerInfo::getRequestBodyTypeTree)
+                .forEach(this.schemaWriter::countComplexTypes);
+        operation.distinctTypeTrees(ControllerInfo::getResponseBodyTypeTree)
+                .forEach(this.schemaWriter::countComplexTypes);
+    }
+
+    private void countComplexTypes(VisitableType typeTree, String location, Set<String> countedParameters) {
+        if (typeTree == null) {
+            return;
+        }
+
+        TypeTreeCursor cursor = new TypeTreeCursor(typeTree);
+
+        if (cursor.next() != TypeTreeCursor.Event.START_COMPLEX) {
+            return;
+        }
+
+        while (cursor.next() == TypeTreeCursor.Event.START_FIELD) {
+            if (countedParameters.add(location + cursor.getFieldName())) {
+                this.schemaWriter.countComplexTypes(cursor.getType());
+            }
+
+            cursor.skipChildren();
+            cursor.next();
+        }
+    }
+
+    private void writePaths(Map<String, Map<RequestMethod, Operation>> operations) throws IOException {
+        boolean firstPath = true;
+
+        for (Map.Entry<String, Map<RequestMethod, Operation>> path : operations.entrySet()) {
+            if (!firstPath) {
+                this.output.append(SEPARATOR);
+            }
+
+            firstPath = false;
+            PackageUtils.appendJsonString(this.output, path.getKey());
+            this.output.append(KEY_VALUE_SEPARATOR);
+            this.output.append(OBJECT_OPENING_ELEMENT);
+            boolean firstOperation = true;
+
+            for (Map.Entry<RequestMethod, Operation> operation : path.getValue().entrySet()) {
+                if (!firstOperation) {
+                    this.output.append(SEPARATOR);
+                }
+
+                firstOperation = false;
+                PackageUtils.appendJsonString(this.output, operation.getKey().name().toLowerCase(Locale.ROOT));
+                this.output.append(KEY_VALUE_SEPARATOR);
+                this.writeOperation(operation.getValue());
+            }
+
+            this.output.append(OBJECT_CLOSING_ELEMENT);
+        }
+    }
+
+    private void writeOperation(Operation operation) throws IOException {
+        this.output.append(TAGS_OPENING_ELEMENT);
+
+        for (int i = 0; i < operation.apiSectionNames.size(); i++) {
+            if (i > 0) {
+                this.output.append(SEPARATOR);
+            }
+
+            PackageUtils.appendJsonString(this.output, operation.apiSectionNames.get(i));
+        }
+
+        this.output.append(operation.isMerged() ? MERGED_OPERATION_ELEMENT : TAGS_CLOSING_ELEMENT);
+        this.output.append(PARAMETERS_OPENING_ELEMENT);
+        // parameters of merged mappings are written once per name and location
+        Set<String> writtenParameters = new HashSet<>();
+        boolean first = true;
+
+        for (ControllerInfo controllerInfo : operation.controllerInfos) {
+            first = this.writeParameters(
+                    controllerInfo.getPathVariablesTypeTree(), PATH_PARAMETER_ELEMENT, first, writtenParameters
+            );
+        }
+
+        for (ControllerInfo controllerInfo : operation.controllerInfos) {
+            first = this.writeParameters(
+                    controllerInfo.getQueryParametersTypeTree(), QUERY_PARAMETER_ELEMENT, first, writtenParameters
+            );
+        }
+
+        List<VisitableType> requestBodies = operation.distinctTypeTrees(ControllerInfo::getRequestBodyTypeTree);
+
+        if (requestBodies.isEmpty()) {
+            this.output.append(PARAMETERS_CLOSING_ELEMENT);
+        } else {
+            // request body is required only if every merged mapping requires one
+            boolean required = operation.controllerInfos.stream().allMatch(c -> c.getRequestBodyTypeTree() != null);
+            this.output.append(required ? REQUEST_BODY_OPENING_ELEMENT : OPTIONAL_REQUEST_BODY_OPENING_ELEMENT);
+            this.writeContent(requestBodies);
+            this.output.append(REQUEST_BODY_CLOSING_ELEMENT);
+        }
+
+        this.output.append(RESPONSES_OPENING_ELEMENT);
+        List<VisitableType> responseBodies = operation.distinctTypeTrees(ControllerInfo::getResponseBodyTypeTree);
+
+        if (!responseBodies.isEmpty()) {
+            this.output.append(RESPONSE_CONTENT_ELEMENT);
+            this.writeContent(responseBodies);
+        }
+
+        this.output.append(RESPONSES_CLOSING_ELEMENT);
+    }
+
+    private boolean writeParameters(VisitableType typeTree, String location, boolean first,
+                                    Set<String> writtenParameters) throws IOException {
+        if (typeTree == null) {
+            return first;
+        }
+
+        // parameters are generated as fields of a single complex type, one parameter per field
+        TypeTreeCursor cursor = new TypeTreeCursor(typeTree);
+
+        if (cursor.next() != TypeTreeCursor.Event.START_COMPLEX) {
+            return first;
+        }
+
+        boolean firstParameter = first;
+
+        while (cursor.next() == TypeTreeCursor.Event.START_FIELD) {
+            if (!writtenParameters.add(location + cursor.getFieldName())) {
+                cursor.skipChildren();
+                cursor.next();
+                continue;
+            }
+
+            if (!firstParameter) {
+                this.output.append(SEPARATOR);
+            }
+
+            firstParameter = false;
+            this.output.append(PARAMETER_NAME_ELEMENT);
+            PackageUtils.appendJsonString(this.output, cursor.getFieldName());
+            this.output.append(location);
+            this.schemaWriter.write(cursor.getType());
+            this.output.append(OBJECT_CLOSING_ELEMENT);
+            cursor.skipChildren();
+            cursor.next();
+        }
+
+        return firstParameter;
+    }
+
+    private void writeContent(List<VisitableType> typeTrees) throws IOException {
+        this.output.append(CONTENT_OPENING_ELEMENT);
+
+        if (typeTrees.size() == 1) {
+            this.schemaWriter.write(typeTrees.get(0));
+        } else {
+            // anyOf instead of oneOf, bodies of merged mappings may accept the same documents
+            this.output.append(ANY_OF_OPENING_ELEMENT);
+
+            for (int i = 0; i < typeTrees.size(); i++) {
+                if (i > 0) {
+                    this.output.append(SEPARATOR);
+                }
+
+                this.schemaWriter.write(typeTrees.get(i));
+            }
+
+            this.output.append(ANY_OF_CLOSING_ELEMENT);
+        }
+
+        this.output.append(CONTENT_CLOSING_ELEMENT);
+    }
+}
@@ -0,0 +1,332 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.ControllerInfo;
+import at.doml.restinfo.RestApiInfo;
+import at.doml.restinfo.type.SimpleType;
+import at.doml.restinfo.type.TypeInformation;
+import at.doml.restinfo.type.TypeVisitor;
+import at.doml.restinfo.type.VisitableType;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+public final class SearchIndex {
+
+    //
+    // CONSTANTS
+    //
+    private static final String NOT_NULL = " must not be null";
+    private static final String REST_API_INFO_NOT_NULL = "restApiInfo" + NOT_NULL;
+    private static final String SETTINGS_NOT_NULL = "settings" + NOT_NULL;
+    private static final String OUTPUT_NOT_NULL = "output" + NOT_NULL;
+    private static final String DEFAULT_PATH = "/";
+    private static final String ANY_REQUEST_METHOD = "ANY";
+    static final String NO_PAGE_LINK = "";
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern CAMEL_CASE_BOUNDARY = Pattern.compile("(?<=\\p{Ll})(?=\\p{Lu})");
+    private static final String SECTIONS_OPENING_ELEMENT = "{\"sections\":[";
+    private static final String ENDPOINTS_OPENING_ELEMENT = "],\"endpoints\":[";
+    private static final String TERMS_OPENING_ELEMENT = "],\"terms\":[";
+    private static final String POSTINGS_OPENING_ELEMENT = "],\"postings\":[";
+    private static final String INDEX_CLOSING_ELEMENT = "]}";
+    private static final char ARRAY_OPENING = '[';
+    private static final char ARRAY_CLOSING = ']';
+    private static final char SEPARATOR = ',';
+    static final String SEARCH_SCRIPT = PackageUtils.loadResource("search.js");
+    static final String SEARCH_BOX_ELEMENT = "<div class=\"container\">\n"
+            + "<input type=\"search\" id=\"restinfo-search\" placeholder=\"Search endpoints and fields\">\n"
+            + "<ul id=\"restinfo-search-results\"></ul>\n</div>\n";
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final List<String> sectionNames = new ArrayList<>();
+    private final List<String> sectionLinks = new ArrayList<>();
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    // sorted terms allow the search script to find all terms with a given prefix using binary search
+    private final Map<String, List<Integer>> postings = new TreeMap<>();
+
+    public SearchIndex(RestApiInfo restApiInfo) {
+        this(restApiInfo, RestApiInfoHtmlWriterSettings.DEFAULT);
+    }
+
+    public SearchIndex(RestApiInfo restApiInfo, RestApiInfoHtmlWriterSettings settings) {
+        this(
+                RestApiInfoHtmlWriter.collectApiSections(Objects.requireNonNull(restApiInfo, REST_API_INFO_NOT_NULL)),
+                Objects.requireNonNull(settings, SETTINGS_NOT_NULL),
+                apiSection -> NO_PAGE_LINK
+        );
+    }
+
+    SearchIndex(List<RestApiInfoHtmlWriter.ApiSection> apiSections, RestApiInfoHtmlWriterSettings settings,
+                Function<RestApiInfoHtmlWriter.ApiSection, String> pageLinks) {
+        FieldNameCollector fieldNameCollector = new FieldNameCollector();
+
+        for (RestApiInfoHtmlWriter.ApiSection apiSection : apiSections) {
+            int section = this.sectionNames.size();
+            this.sectionNames.add(apiSection.getName());
+            this.sectionLinks.add(pageLinks.apply(apiSection));
+
+            for (ControllerInfo controllerInfo : apiSection.getControllerInfos()) {
+                this.addEndpoint(section, controllerInfo, settings, fieldNameCollector);
+            }
+        }
+    }
+
+    //
+    // UTIL CLASSES AND INTERFACES
+    //
+    private static final class Endpoint {
+
+        private final String requestMethod;
+        private final String path;
+        private final int section;
+
+        private Endpoint(String requestMethod, String path, int section) {
+            this.requestMethod = requestMethod;
+            this.path = path;
+            this.section = section;
+        }
+    }
+
+    private static final class FieldNameCollector implements TypeVisitor {
+
+        private final List<String> fieldNames = new ArrayList<>();
+
+        @Override
+        public void visitSimple(SimpleType type) {
+        }
+
+        @Override
+        public void visitEnum(Enum<?>[] enumConstants) {
+        }
+
+        @Override
+        public void visitBeforeArrayElementType() {
+        }
+
+        @Override
+        public boolean shouldVisitArrayElementType() {
+            return true;
+        }
+
+        @Override
+        public void visitAfterArrayElementType() {
+        }
+
+        @Override
+        public void visitBeforeCollectionElementType() {
+        }
+
+        @Override
+        public boolean shouldVisitCollectionElementType() {
+            return true;
+        }
+
+        @Override
+        public void visitAfterCollectionElementType() {
+        }
+
+        @Override
+        public void visitBeforeMapKeyType() {
+        }
+
+        @Override
+        public boolean shouldVisitMapKeyType() {
+            return true;
+        }
+
+        @Override
+        public void visitAfterMapKeyType() {
+        }
+
+        @Override
+        public void visitBeforeMapValueType() {
+        }
+
+        @Override
+        public boolean shouldVisitMapValueType() {
+            return true;
+        }
+
+        @Override
+        public void visitAfterMapValueType() {
+        }
+
+        @Override
+        public void visitBeforeAllComplexFields() {
+        }
+
+        @Override
+        public boolean shouldVisitComplexFields() {
+            return true;
+        }
+
+        @Override
+        public void visitBeforeComplexField(String fieldName) {
+            this.fieldNames.add(fieldName);
+        }
+
+        @Override
+        public boolean shouldVisitComplexFieldType(String fieldName) {
+            return true;
+        }
+
+        @Override
+        public void visitAfterComplexField(String fieldName) {
+        }
+
+        @Override
+        public void visitAfterAllComplexFields() {
+        }
+
+        @Override
+        public void visitCustom(TypeInformation customTypeInformation) {
+        }
+
+        @Override
+        public void visitUnknown(TypeInformation unknownTypeInformation) {
+        }
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    public int getNumberOfEndpoints() {
+        return this.endpoints.size();
+    }
+
+    public int getNumberOfTerms() {
+        return this.postings.size();
+    }
+
+    public void writeJson(Appendable output) {
+        Objects.requireNonNull(output, OUTPUT_NOT_NULL);
+
+        try {
+            output.append(SECTIONS_OPENING_ELEMENT);
+
+            for (int i = 0; i < this.sectionNames.size(); i++) {
+                appendSeparator(output, i);
+                output.append(ARRAY_OPENING);
+                PackageUtils.appendJsonString(output, this.sectionNames.get(i));
+                output.append(SEPARATOR);
+                PackageUtils.appendJsonString(output, this.sectionLinks.get(i));
+                output.append(ARRAY_CLOSING);
+            }
+
+            output.append(ENDPOINTS_OPENING_ELEMENT);
+
+            for (int i = 0; i < this.endpoints.size(); i++) {
+                Endpoint endpoint = this.endpoints.get(i);
+                appendSeparator(output, i);
+                output.append(ARRAY_OPENING);
+                PackageUtils.appendJsonString(output, endpoint.requestMethod);
+                output.append(SEPARATOR);
+                PackageUtils.appendJsonString(output, endpoint.path);
+                output.append(SEPARATOR);
+                output.append(Integer.toString(endpoint.section));
+                output.append(ARRAY_CLOSING);
+            }
+
+            output.append(TERMS_OPENING_ELEMENT);
+            int term = 0;
+
+            for (String termName : this.postings.keySet()) {
+                appendSeparator(output, term++);
+                PackageUtils.appendJsonString(output, termName);
+            }
+
+            output.append(POSTINGS_OPENING_ELEMENT);
+            term = 0;
+
+            for (List<Integer> termPostings : this.postings.values()) {
+                appendSeparator(output, term++);
+                output.append(ARRAY_OPENING);
+
+                for (int i = 0; i < termPostings.size(); i++) {
+                    appendSeparator(output, i);
+                    output.append(Integer.toString(termPostings.get(i)));
+                }
+
+                output.append(ARRAY_CLOSING);
+            }
+
+            output.append(INDEX_CLOSING_ELEMENT);
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
+    }
+
+    //
+    // PRIVATE METHODS
+    //
+    private static void appendSeparator(Appendable output, int index) throws IOException {
+        if (index > 0) {
+            output.append(SEPARATOR);
+        }
+    }
+
+    private void addEndpoint(int section, ControllerInfo controllerInfo, RestApiInfoHtmlWriterSettings settings,
+                             FieldNameCollector fieldNameCollector) {
+        // endpoint numbers follow document order, so they match endpoint anchors of the rendered documentation
+        int endpoint = this.endpoints.size();
+        Endpoint entry = new Endpoint(
+                controllerInfo.getRequestMethod() == null ? ANY_REQUEST_METHOD : controllerInfo.getRequestMethod(),
+                controllerInfo.getPath() == null ? DEFAULT_PATH : controllerInfo.getPath(),
+                section
+        );
+        this.endpoints.add(entry);
+        this.addTerms(endpoint, entry.requestMethod);
+        this.addTerms(endpoint, entry.path);
+        this.addTerms(endpoint, this.sectionNames.get(section));
+
+        for (RestApiInfoHtmlWriterSettings.PrintSection printSection : settings.sectionsToPrint) {
+            VisitableType typeTree = printSection.getTypeTree(controllerInfo);
+
+            if (typeTree != null) {
+                fieldNameCollector.fieldNames.clear();
+                settings.typeTreeTraversal.traverse(typeTree, fieldNameCollector);
+
+                for (String fieldName : fieldNameCollector.fieldNames) {
+                    this.addTerms(endpoint, fieldName);
+                }
+            }
+        }
+    }
+
+    private void addTerms(int endpoint, String text) {
+        for (String token : TOKEN_SEPARATOR.split(text)) {
+            if (token.isEmpty()) {
+                continue;
+            }
+
+            this.addTerm(endpoint, token);
+            String[] words = CAMEL_CASE_BOUNDARY.split(token);
+
+            // camel case words are indexed separately, so that "name" also finds "firstName"
+            if (words.length > 1) {
+                for (String word : words) {
+                    this.addTerm(endpoint, word);
+                }
+            }
+        }
+    }
+
+    private void addTerm(int endpoint, String term) {
+        List<Integer> termPostings = this.postings.computeIfAbsent(
+                term.toLowerCase(Locale.ROOT), ignored -> new ArrayList<>()
+        );
+
+        // endpoints are added in ascending order, so duplicates can only be at the end
+        if (termPostings.isEmpty() || termPostings.get(termPostings.size() - 1) != endpoint) {
+            termPostings.add(endpoint);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.RestApiInfo;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+public final class StaticSiteExporter {
+
+    //
+    // CONSTANTS
+    //
+    private static final String NOT_NULL = " must not be null";
+    private static final String SETTINGS_NOT_NULL = "settings" + NOT_NULL;
+    private static final String REST_API_INFO_NOT_NULL = "restApiInfo" + NOT_NULL;
+    private static final String TARGET_DIRECTORY_NOT_NULL = "targetDirectory" + NOT_NULL;
+    private static final String INDEX_FILE_NAME = "index.html";
+    private static final String STYLESHEET_FILE_NAME = "restinfo.css";
+    private static final String SEARCH_INDEX_FILE_NAME = "search-index.json";
+    private static final String SEARCH_SCRIPT_FILE_NAME = "search.js";
+    private static final String PAGE_FILE_SUFFIX = ".html";
+    private static final String TEMPORARY_FILE_PREFIX = ".";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String FILE_NAME_REPLACEMENT = "_";
+    private static final Pattern UNSAFE_FILE_NAME_CHARACTERS = Pattern.compile("[^A-Za-z0-9_-]");
+    private static final int INITIAL_PAGE_SIZE = 16 * 1024;
+    // heap buffers are copied into a temporary direct buffer of the same size, which the JDK caches per thread
+    private static final int WRITE_SLICE_SIZE = 64 * 1024;
+    private static final String INDEX_OPENING_ELEMENT = "<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n";
+    private static final String HEAD_CLOSING_ELEMENT = "</head>\n<body>\n";
+    private static final String SEARCH_SCRIPT_ELEMENT = "<script src=\"" + SEARCH_SCRIPT_FILE_NAME
+            + "\" data-index=\"" + SEARCH_INDEX_FILE_NAME + "\"></script>\n";
+    private static final String LIST_OPENING_ELEMENT = "<div class=\"container\">\n<ul>\n";
+    private static final String LINK_OPENING_ELEMENT = "<li><a href=\"";
+    private static final String LINK_NAME_ELEMENT = "\">";
+    private static final String LINK_CLOSING_ELEMENT = "</a></li>\n";
+    private static final String INDEX_CLOSING_ELEMENT = "</ul>\n</div>\n</body>\n</html>\n";
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final RestApiInfoHtmlWriterSettings settings;
+    private final ForkJoinPool renderingPool;
+    private final StylesheetProvider stylesheetProvider = new ExternalStyleSheetProvider(STYLESHEET_FILE_NAME);
+
+    public StaticSiteExporter() {
+        this(RestApiInfoHtmlWriterSettings.DEFAULT);
+    }
+
+    public StaticSiteExporter(RestApiInfoHtmlWriterSettings settings) {
+        this.settings = Objects.requireNonNull(settings, SETTINGS_NOT_NULL);
+        this.renderingPool = settings.renderingPool == null ? ForkJoinPool.commonPool() : settings.renderingPool;
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static Map<RestApiInfoHtmlWriter.ApiSection, String> assignFileNames(
+            List<RestApiInfoHtmlWriter.ApiSection> apiSections) {
+        Map<RestApiInfoHtmlWriter.ApiSection, String> pages = new LinkedHashMap<>();
+        // names are compared case insensitively, some file systems do not distinguish them
+        Set<String> usedNames = new HashSet<>();
+        usedNames.add(INDEX_FILE_NAME);
+
+        for (RestApiInfoHtmlWriter.ApiSection apiSection : apiSections) {
+            String baseName = UNSAFE_FILE_NAME_CHARACTERS.matcher(apiSection.getName())
+                    .replaceAll(FILE_NAME_REPLACEMENT);
+            String fileName = baseName + PAGE_FILE_SUFFIX;
+
+            for (int suffix = 1; !usedNames.add(fileName.toLowerCase(Locale.ROOT)); suffix++) {
+                fileName = baseName + FILE_NAME_REPLACEMENT + suffix + PAGE_FILE_SUFFIX;
+            }
+
+            pages.put(apiSection, fileName);
+        }
+
+        return pages;
+    }
+
+    private static boolean hasContent(Path file, byte[] content) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) != content.length) {
+            return false;
+        }
+
+        return Arrays.equals(Files.readAllBytes(file), content);
+    }
+
+    private static void replace(Path temporaryFile, Path file) throws IOException {
+        try {
+            Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void replaceContent(Path file, byte[] content) throws IOException {
+        // content is written next to the file and moved over it, so readers never see a partially written file
+        Path temporaryFile = file.resolveSibling(TEMPORARY_FILE_PREFIX + file.getFileName()
+                + Long.toHexString(ThreadLocalRandom.current().nextLong()) + TEMPORARY_FILE_SUFFIX);
+
+        try {
+            try (FileChannel channel = FileChannel.open(
+                    temporaryFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                for (int offset = 0; offset < content.length; offset += WRITE_SLICE_SIZE) {
+                    ByteBuffer slice = ByteBuffer.wrap(
+                            content, offset, Math.min(WRITE_SLICE_SIZE, content.length - offset)
+                    );
+
+                    while (slice.hasRemaining()) {
+                        channel.write(slice);
+                    }
+                }
+            }
+
+            replace(temporaryFile, file);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    public int export(RestApiInfo restApiInfo, Path targetDirectory) {
+        Objects.requireNonNull(restApiInfo, REST_API_INFO_NOT_NULL);
+        Objects.requireNonNull(targetDirectory, TARGET_DIRECTORY_NOT_NULL);
+
+        Map<RestApiInfoHtmlWriter.ApiSection, String> pages = assignFileNames(
+                RestApiInfoHtmlWriter.collectApiSections(restApiInfo)
+        );
+        List<ForkJoinTask<Boolean>> files = new ArrayList<>(pages.size() + 4);
+
+        try {
+            Files.createDirectories(targetDirectory);
+            byte[] css = this.settings.renderingMode.getCss().getBytes(StandardCharsets.UTF_8);
+            files.add(this.renderingPool.submit(
+                    () -> this.writeFile(targetDirectory.resolve(STYLESHEET_FILE_NAME), css)
+            ));
+            files.add(this.renderingPool.submit(
+                    () -> this.writeFile(targetDirectory.resolve(INDEX_FILE_NAME), this.renderIndex(pages))
+            ));
+
+            if (this.settings.searchIndex) {
+                byte[] searchScript = SearchIndex.SEARCH_SCRIPT.getBytes(StandardCharsets.UTF_8);
+                files.add(this.renderingPool.submit(
+                        () -> this.writeFile(targetDirectory.resolve(SEARCH_SCRIPT_FILE_NAME), searchScript)
+                ));
+                files.add(this.renderingPool.submit(() -> this.writeFile(
+                        targetDirectory.resolve(SEARCH_INDEX_FILE_NAME), this.renderSearchIndex(pages)
+                )));
+            }
+
+            for (Map.Entry<RestApiInfoHtmlWriter.ApiSection, String> page : pages.entrySet()) {
+                files.add(this.renderingPool.submit(
+                        () -> this.writeFile(targetDirectory.resolve(page.getValue()), this.renderPage(page.getKey()))
+                ));
+            }
+
+            int writtenFiles = 0;
+
+            for (ForkJoinTask<Boolean> file : files) {
+                if (file.join()) {
+                    writtenFiles += 1;
+                }
+            }
+
+            return writtenFiles;
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        } finally {
+            // remaining files are not needed once one of them fails
+            for (ForkJoinTask<Boolean> file : files) {
+                file.cancel(false);
+            }
+        }
+    }
+
+    //
+    // PRIVATE METHODS
+    //
+    private byte[] renderIndex(Map<RestApiInfoHtmlWriter.ApiSection, String> pages) {
+        StringBuilder index = new StringBuilder(INITIAL_PAGE_SIZE);
+
+        try {
+            index.append(INDEX_OPENING_ELEMENT);
+            this.stylesheetProvider.writeStylesheet(index);
+            index.append(HEAD_CLOSING_ELEMENT);
+
+            if (this.settings.searchIndex) {
+                // only the index page searches, so the search index is not repeated in every page
+                index.append(SearchIndex.SEARCH_BOX_ELEMENT);
+                index.append(SEARCH_SCRIPT_ELEMENT);
+            }
+
+            index.append(LIST_OPENING_ELEMENT);
+
+            for (Map.Entry<RestApiInfoHtmlWriter.ApiSection, String> page : pages.entrySet()) {
+                index.append(LINK_OPENING_ELEMENT);
+                HtmlEscaper.appendEscaped(index, page.getValue());
+                index.append(LINK_NAME_ELEMENT);
+                HtmlEscaper.appendEscaped(index, page.getKey().getName());
+                index.append(LINK_CLOSING_ELEMENT);
+            }
+
+            index.append(INDEX_CLOSING_ELEMENT);
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception); // string builder never throws IOException
+        }
+
+        return index.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] renderSearchIndex(Map<RestApiInfoHtmlWriter.ApiSection, String> pages) {
+        StringBuilder json = new StringBuilder(INITIAL_PAGE_SIZE);
+        new SearchIndex(new ArrayList<>(pages.keySet()), this.settings, pages::get).writeJson(json);
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] renderPage(RestApiInfoHtmlWriter.ApiSection apiSection) {
+        ByteArrayOutputStream page = new ByteArrayOutputStream(INITIAL_PAGE_SIZE);
+        new RestApiInfoHtmlWriter(page, this.settings, this.stylesheetProvider, false)
+                .write(Collections.singletonList(apiSection));
+        return page.toByteArray();
+    }
+
+    private boolean writeFile(Path file, byte[] content) {
+        try {
+            if (hasContent(file, content)) {
+                return false;
+            }
+
+            replaceContent(file, content);
+            return true;
+        } catch (IOException exception) {
+            throw new TypeWriterException(exception);
+        }
+    }
+}
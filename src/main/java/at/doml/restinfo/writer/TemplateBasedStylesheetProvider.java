@@ -1,18 +1,43 @@
 package at.doml.restinfo.writer;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 abstract class TemplateBasedStylesheetProvider implements StylesheetProvider {
 
     private final String string;
+    // racy single check is safe here, rendered stylesheet is immutable and at worst rendered more than once
+    private RenderedStylesheet rendered;
 
     TemplateBasedStylesheetProvider(String string) {
         this.string = string;
     }
 
+    private static final class RenderedStylesheet {
+
+        private final String text;
+        private final byte[] utf8;
+
+        private RenderedStylesheet(String text) {
+            this.text = text;
+            this.utf8 = text.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
     @Override
     public final void writeStylesheet(Appendable stringAppender) throws IOException {
-        stringAppender.append(String.format(this.getTemplate(), this.string));
+        RenderedStylesheet renderedStylesheet = this.rendered;
+
+        if (renderedStylesheet == null) {
+            renderedStylesheet = new RenderedStylesheet(String.format(this.getTemplate(), this.string));
+            this.rendered = renderedStylesheet;
+        }
+
+        if (stringAppender instanceof Utf8Appendable) {
+            ((Utf8Appendable) stringAppender).appendEncoded(renderedStylesheet.text, renderedStylesheet.utf8);
+        } else {
+            stringAppender.append(renderedStylesheet.text);
+        }
     }
 
     abstract String getTemplate();
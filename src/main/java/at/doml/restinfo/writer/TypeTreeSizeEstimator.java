@@ -0,0 +1,214 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.type.SimpleType;
+import at.doml.restinfo.type.TypeInformation;
+import at.doml.restinfo.type.TypeTreeTraversal;
+import at.doml.restinfo.type.TypeVisitor;
+import at.doml.restinfo.type.VisitableType;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class TypeTreeSizeEstimator {
+
+    //
+    // CONSTANTS
+    //
+    private static final String TYPE_TREE_NOT_NULL = "typeTree must not be null";
+    // some virtual machines reserve header words in arrays, so the largest usable capacity is slightly smaller
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    // estimates are small, the limit only guards against applications which generate type trees endlessly
+    private static final int MAX_CACHED_ESTIMATES = 4096;
+    // upper bounds of markup written by the pretty HTML writer, which is the most verbose of the provided writers
+    private static final int SIMPLE_TYPE_SIZE = 32;
+    private static final int BOOLEAN_TYPE_SIZE = 64;
+    private static final int ENUM_SIZE = 32;
+    private static final int ENUM_CONSTANT_SEPARATOR_SIZE = 2;
+    private static final int ARRAY_SIZE = 8;
+    private static final int MAP_SIZE = 16;
+    private static final int MAP_INDENTS = 3;
+    private static final int COMPLEX_SIZE = 4;
+    private static final int COMPLEX_FIELD_SIZE = 8;
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final int indentSpacing;
+    private final TypeTreeTraversal typeTreeTraversal;
+    // structurally equal type trees render to the same size, so estimates are shared between them and across renders
+    private final Map<Long, Long> estimates = new ConcurrentHashMap<>();
+
+    TypeTreeSizeEstimator(int indentSpacing, TypeTreeTraversal typeTreeTraversal) {
+        this.indentSpacing = indentSpacing;
+        this.typeTreeTraversal = typeTreeTraversal;
+    }
+
+    //
+    // UTIL CLASSES AND INTERFACES
+    //
+
+    // sums fixed markup sizes and name lengths, nothing is written or allocated per node
+    private static final class SizeEstimatingVisitor implements TypeVisitor {
+
+        private final int indentSpacing;
+        private int indentLevel;
+        private long size;
+
+        private SizeEstimatingVisitor(int indentSpacing) {
+            this.indentSpacing = indentSpacing;
+        }
+
+        private long indent() {
+            return (long) this.indentLevel * this.indentSpacing;
+        }
+
+        @Override
+        public void visitSimple(SimpleType type) {
+            this.size += type == SimpleType.BOOLEAN || type == SimpleType.BOXED_BOOLEAN
+                    ? BOOLEAN_TYPE_SIZE
+                    : SIMPLE_TYPE_SIZE;
+        }
+
+        @Override
+        public void visitEnum(Enum<?>[] enumConstants) {
+            this.size += ENUM_SIZE;
+
+            for (Enum<?> enumConstant : enumConstants) {
+                this.size += enumConstant.name().length() + ENUM_CONSTANT_SEPARATOR_SIZE;
+            }
+        }
+
+        @Override
+        public void visitBeforeArrayElementType() {
+            this.size += ARRAY_SIZE;
+        }
+
+        @Override
+        public boolean shouldVisitArrayElementType() {
+            return true;
+        }
+
+        @Override
+        public void visitAfterArrayElementType() {
+            // size of the whole array is added before its element type
+        }
+
+        @Override
+        public void visitBeforeCollectionElementType() {
+            this.size += ARRAY_SIZE;
+        }
+
+        @Override
+        public boolean shouldVisitCollectionElementType() {
+            return true;
+        }
+
+        @Override
+        public void visitAfterCollectionElementType() {
+            // size of the whole collection is added before its element type
+        }
+
+        @Override
+        public void visitBeforeMapKeyType() {
+            this.indentLevel += 1;
+            this.size += MAP_SIZE + MAP_INDENTS * this.indent();
+        }
+
+        @Override
+        public boolean shouldVisitMapKeyType() {
+            return true;
+        }
+
+        @Override
+        public void visitAfterMapKeyType() {
+            // size of the whole map is added before its key type
+        }
+
+        @Override
+        public void visitBeforeMapValueType() {
+            // size of the whole map is added before its key type
+        }
+
+        @Override
+        public boolean shouldVisitMapValueType() {
+            return true;
+        }
+
+        @Override
+        public void visitAfterMapValueType() {
+            this.indentLevel -= 1;
+        }
+
+        @Override
+        public void visitBeforeAllComplexFields() {
+            this.size += COMPLEX_SIZE + this.indent();
+            this.indentLevel += 1;
+        }
+
+        @Override
+        public boolean shouldVisitComplexFields() {
+            return true;
+        }
+
+        @Override
+        public void visitBeforeComplexField(String fieldName) {
+            this.size += COMPLEX_FIELD_SIZE + fieldName.length() + this.indent();
+        }
+
+        @Override
+        public boolean shouldVisitComplexFieldType(String fieldName) {
+            return true;
+        }
+
+        @Override
+        public void visitAfterComplexField(String fieldName) {
+            // size of the field is added before its type
+        }
+
+        @Override
+        public void visitAfterAllComplexFields() {
+            this.indentLevel -= 1;
+        }
+
+        @Override
+        public void visitCustom(TypeInformation customTypeInformation) {
+            this.size += customTypeInformation.toString().length();
+        }
+
+        @Override
+        public void visitUnknown(TypeInformation unknownTypeInformation) {
+            this.size += unknownTypeInformation.toString().length();
+        }
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    long estimate(VisitableType typeTree) {
+        long structuralHash = Objects.requireNonNull(typeTree, TYPE_TREE_NOT_NULL).structuralHash();
+        Long estimate = this.estimates.get(structuralHash);
+
+        if (estimate != null) {
+            return estimate;
+        }
+
+        SizeEstimatingVisitor visitor = new SizeEstimatingVisitor(this.indentSpacing);
+        this.typeTreeTraversal.traverse(typeTree, visitor);
+
+        if (this.estimates.size() < MAX_CACHED_ESTIMATES) {
+            this.estimates.put(structuralHash, visitor.size);
+        }
+
+        return visitor.size;
+    }
+
+    int capacityFor(Iterable<? extends VisitableType> typeTrees, long additionalSize) {
+        long capacity = additionalSize;
+
+        for (VisitableType typeTree : typeTrees) {
+            capacity += this.estimate(typeTree);
+        }
+
+        return (int) Math.min(capacity, MAX_CAPACITY);
+    }
+}
@@ -0,0 +1,79 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.type.VisitableType;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+// not thread safe, every rendering thread is expected to use its own pool
+final class TypeTreeWriterPool {
+
+    //
+    // CONSTANTS
+    //
+    private static final String NOT_NULL = " must not be null";
+    private static final String SETTINGS_NOT_NULL = "settings" + NOT_NULL;
+    private static final String WRITER_NOT_NULL = "writer" + NOT_NULL;
+    private static final int DEFAULT_MAX_IDLE_WRITERS = 4;
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final RestApiInfoHtmlWriterSettings settings;
+    private final int maxIdleWriters;
+    private final Deque<AbstractTypeTreeWriter> idleWriters = new ArrayDeque<>();
+
+    TypeTreeWriterPool(RestApiInfoHtmlWriterSettings settings) {
+        this(settings, DEFAULT_MAX_IDLE_WRITERS);
+    }
+
+    TypeTreeWriterPool(RestApiInfoHtmlWriterSettings settings, int maxIdleWriters) {
+        this.settings = Objects.requireNonNull(settings, SETTINGS_NOT_NULL);
+        this.maxIdleWriters = maxIdleWriters;
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    AbstractTypeTreeWriter acquire(Appendable output) {
+        AbstractTypeTreeWriter writer = this.idleWriters.pollFirst();
+
+        if (writer == null) {
+            writer = this.settings.typeTreeWriterConstructor.apply(output, this.settings.indentSpacing);
+
+            if (writer.writesHtml()) {
+                return writer;
+            }
+        }
+
+        // trees are embedded into HTML documents, so output of other writers is escaped on its way to the document
+        if (writer.writesHtml()) {
+            writer.reset(output);
+        } else {
+            writer.resetEscaped(output);
+        }
+
+        return writer;
+    }
+
+    void release(AbstractTypeTreeWriter writer) {
+        Objects.requireNonNull(writer, WRITER_NOT_NULL).flushOwnBuffers();
+
+        if (this.idleWriters.size() < this.maxIdleWriters) {
+            writer.detach();
+            this.idleWriters.addFirst(writer);
+        }
+    }
+
+    void write(VisitableType typeTree, Appendable output) {
+        // trees are written one after another, so a single writer is enough for a whole document
+        AbstractTypeTreeWriter writer = this.acquire(output);
+        // writer which failed midway holds partial output, so it is neither flushed nor reused
+        this.settings.typeTreeTraversal.traverse(typeTree, writer);
+        this.release(writer);
+    }
+
+    int idleWriterCount() {
+        return this.idleWriters.size();
+    }
+}
@@ -0,0 +1,173 @@
+package at.doml.restinfo.writer;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+final class Utf8Appendable implements Appendable, Flushable {
+
+    //
+    // CONSTANTS
+    //
+    private static final String OUTPUT_STREAM_NOT_NULL = "outputStream must not be null";
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int MAX_BYTES_PER_CHAR = 4;
+    private static final char REPLACEMENT_CHAR = '?';
+    private static final byte REPLACEMENT_BYTE = (byte) REPLACEMENT_CHAR;
+    private static final String NULL_STRING = "null";
+
+    //
+    // CONSTRUCTORS AND MEMBER VARIABLES
+    //
+    private final OutputStream outputStream;
+    private final Map<String, byte[]> fragments;
+    private final byte[] buffer;
+    private int length;
+    private char pendingHighSurrogate;
+
+    Utf8Appendable(OutputStream outputStream, Map<String, byte[]> fragments) {
+        this(outputStream, fragments, DEFAULT_BUFFER_SIZE);
+    }
+
+    Utf8Appendable(OutputStream outputStream, Map<String, byte[]> fragments, int bufferSize) {
+        this.outputStream = Objects.requireNonNull(outputStream, OUTPUT_STREAM_NOT_NULL);
+        this.fragments = fragments;
+        this.buffer = new byte[Math.max(bufferSize, MAX_BYTES_PER_CHAR)];
+    }
+
+    //
+    // HELPER METHODS
+    //
+
+    // fragments are looked up by identity, so only the exact String instances passed here are served pre-encoded
+    static Map<String, byte[]> encodeFragments(String... fragments) {
+        Map<String, byte[]> encoded = new IdentityHashMap<>();
+
+        for (String fragment : fragments) {
+            encoded.put(fragment, fragment.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return Collections.unmodifiableMap(encoded);
+    }
+
+    //
+    // INSTANCE METHODS
+    //
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        byte[] fragment = this.fragments.get(csq);
+
+        if (fragment != null && this.pendingHighSurrogate == 0) {
+            this.write(fragment);
+            return this;
+        }
+
+        CharSequence sequence = csq == null ? NULL_STRING : csq;
+        return this.append(sequence, 0, sequence.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        CharSequence sequence = csq == null ? NULL_STRING : csq;
+
+        for (int i = start; i < end; i++) {
+            this.encode(sequence.charAt(i));
+        }
+
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        this.encode(c);
+        return this;
+    }
+
+    void appendEncoded(String value, byte[] utf8) throws IOException {
+        // same as appending a fragment, for values encoded by their owner instead of this appendable
+        if (this.pendingHighSurrogate == 0) {
+            this.write(utf8);
+        } else {
+            this.append(value, 0, value.length());
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (this.pendingHighSurrogate != 0) {
+            this.pendingHighSurrogate = 0;
+            this.encode(REPLACEMENT_CHAR);
+        }
+
+        this.drain();
+    }
+
+    //
+    // PRIVATE METHODS
+    //
+    private void drain() throws IOException {
+        if (this.length > 0) {
+            this.outputStream.write(this.buffer, 0, this.length);
+            this.length = 0;
+        }
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        if (bytes.length > this.buffer.length - this.length) {
+            this.drain();
+
+            if (bytes.length >= this.buffer.length) {
+                this.outputStream.write(bytes);
+                return;
+            }
+        }
+
+        System.arraycopy(bytes, 0, this.buffer, this.length, bytes.length);
+        this.length += bytes.length;
+    }
+
+    private void encode(char c) throws IOException {
+        if (this.buffer.length - this.length < MAX_BYTES_PER_CHAR) {
+            this.drain();
+        }
+
+        if (this.pendingHighSurrogate != 0) {
+            char high = this.pendingHighSurrogate;
+            this.pendingHighSurrogate = 0;
+
+            if (Character.isLowSurrogate(c)) {
+                this.encodeCodePoint(Character.toCodePoint(high, c));
+                return;
+            }
+
+            this.buffer[this.length++] = REPLACEMENT_BYTE;
+        }
+
+        if (c < 0x80) {
+            this.buffer[this.length++] = (byte) c;
+        } else if (c < 0x800) {
+            this.buffer[this.length++] = (byte) (0xC0 | (c >> 6));
+            this.buffer[this.length++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            this.pendingHighSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            this.buffer[this.length++] = REPLACEMENT_BYTE;
+        } else {
+            this.buffer[this.length++] = (byte) (0xE0 | (c >> 12));
+            this.buffer[this.length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            this.buffer[this.length++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    private void encodeCodePoint(int codePoint) {
+        this.buffer[this.length++] = (byte) (0xF0 | (codePoint >> 18));
+        this.buffer[this.length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        this.buffer[this.length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        this.buffer[this.length++] = (byte) (0x80 | (codePoint & 0x3F));
+    }
+}
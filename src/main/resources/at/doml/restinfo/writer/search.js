@@ -0,0 +1,105 @@
+(function () {
+    'use strict';
+    var MAX_RESULTS = 50;
+    var script = document.currentScript;
+    var input = document.getElementById('restinfo-search');
+    var results = document.getElementById('restinfo-search-results');
+    var index = null;
+
+    function tokens(text) {
+        return text.toLowerCase().split(/[^\p{L}\p{N}]+/u).filter(function (token) {
+            return token.length > 0;
+        });
+    }
+
+    function lowerBound(terms, token) {
+        var low = 0;
+        var high = terms.length;
+
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+
+            if (terms[middle] < token) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    function matches(token) {
+        var found = {};
+
+        for (var i = lowerBound(index.terms, token);
+             i < index.terms.length && index.terms[i].lastIndexOf(token, 0) === 0; i++) {
+            index.postings[i].forEach(function (endpoint) {
+                found[endpoint] = true;
+            });
+        }
+
+        return found;
+    }
+
+    function search(query) {
+        var found = null;
+
+        tokens(query).forEach(function (token) {
+            var tokenMatches = matches(token);
+
+            if (found === null) {
+                found = tokenMatches;
+            } else {
+                Object.keys(found).forEach(function (endpoint) {
+                    if (!tokenMatches[endpoint]) {
+                        delete found[endpoint];
+                    }
+                });
+            }
+        });
+
+        return found === null ? [] : Object.keys(found).map(Number).sort(function (left, right) {
+            return left - right;
+        });
+    }
+
+    function show(endpoints) {
+        results.textContent = '';
+
+        endpoints.slice(0, MAX_RESULTS).forEach(function (endpoint) {
+            var entry = index.endpoints[endpoint];
+            var section = index.sections[entry[2]];
+            var link = document.createElement('a');
+            var item = document.createElement('li');
+            link.href = section[1] + '#endpoint-' + endpoint;
+            link.textContent = entry[0] + ' ' + entry[1] + ' (' + section[0] + ')';
+            item.appendChild(link);
+            results.appendChild(item);
+        });
+    }
+
+    function load(callback) {
+        var embedded = document.getElementById('restinfo-search-index');
+
+        if (index !== null) {
+            callback();
+        } else if (embedded !== null) {
+            index = JSON.parse(embedded.textContent);
+            callback();
+        } else {
+            fetch(script.getAttribute('data-index')).then(function (response) {
+                return response.json();
+            }).then(function (json) {
+                index = json;
+                callback();
+            });
+        }
+    }
+
+    input.addEventListener('input', function () {
+        load(function () {
+            show(search(input.value));
+        });
+    });
+})();
@@ -52,6 +52,16 @@ public final class ControllerInfoTest {
         assertCorrect("request method", expectedMethod, controllerInfo.getRequestMethod());
     }
 
+    @Test
+    public void controllerInfoShouldExtractCorrectConditions() {
+        ControllerInfo controllerInfo = controllerInfo(
+                requestMapping().header("X-Version=2")
+        );
+
+        assertCorrect("conditions", "[X-Version=2]", controllerInfo.getConditions());
+        assertCorrect("conditions", "", controllerInfo(requestMapping()).getConditions());
+    }
+
     @Test
     public void controllerInfoShouldExtractCorrectRequestBody() {
         ControllerInfo controllerInfo = controllerInfo(
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.condition.HeadersRequestCondition;
 import org.springframework.web.servlet.mvc.condition.PatternsRequestCondition;
 import org.springframework.web.servlet.mvc.condition.RequestMethodsRequestCondition;
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
@@ -23,17 +24,18 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-final class MockUtils {
+public final class MockUtils {
 
     private MockUtils() {}
 
     //
     // PRIVATE CLASSES
     //
-    static final class RequestMappingBuilder {
+    public static final class RequestMappingBuilder {
 
         private String path;
         private RequestMethod requestMethod;
+        private String header;
         private Type requestBody;
         private Class<?> beanType = void.class;
         private Class<?> responseBody = void.class;
@@ -41,42 +43,47 @@ final class MockUtils {
         private final Map<String, Type> modelAttributes = new HashMap<>();
         private final Map<String, Type> requestParameters = new HashMap<>();
 
-        RequestMappingBuilder path(String path) {
+        public RequestMappingBuilder path(String path) {
             this.path = path;
             return this;
         }
 
-        RequestMappingBuilder requestMethod(RequestMethod requestMethod) {
+        public RequestMappingBuilder requestMethod(RequestMethod requestMethod) {
             this.requestMethod = requestMethod;
             return this;
         }
 
-        RequestMappingBuilder requestBody(Type requestBody) {
+        public RequestMappingBuilder header(String header) {
+            this.header = header;
+            return this;
+        }
+
+        public RequestMappingBuilder requestBody(Type requestBody) {
             this.requestBody = requestBody;
             return this;
         }
 
-        RequestMappingBuilder responseBody(Class<?> responseBody) {
+        public RequestMappingBuilder responseBody(Class<?> responseBody) {
             this.responseBody = responseBody;
             return this;
         }
 
-        RequestMappingBuilder pathVariable(String name, Type type) {
+        public RequestMappingBuilder pathVariable(String name, Type type) {
             this.pathVariables.put(name, type);
             return this;
         }
 
-        RequestMappingBuilder modelAttribute(String name, Type type) {
+        public RequestMappingBuilder modelAttribute(String name, Type type) {
             this.modelAttributes.put(name, type);
             return this;
         }
 
-        RequestMappingBuilder requestParameter(String name, Type type) {
+        public RequestMappingBuilder requestParameter(String name, Type type) {
             this.requestParameters.put(name, type);
             return this;
         }
 
-        RequestMappingBuilder beanType(Class<?> beanType) {
+        public RequestMappingBuilder beanType(Class<?> beanType) {
             this.beanType = beanType;
             return this;
         }
@@ -88,11 +95,14 @@ final class MockUtils {
             RequestMethodsRequestCondition requestMethodsRequestCondition = this.requestMethod == null
                     ? new RequestMethodsRequestCondition()
                     : new RequestMethodsRequestCondition(this.requestMethod);
+            HeadersRequestCondition headersRequestCondition = this.header == null
+                    ? new HeadersRequestCondition()
+                    : new HeadersRequestCondition(this.header);
             RequestMappingInfo requestMappingInfo = new RequestMappingInfo(
                     patternsRequestCondition,
                     requestMethodsRequestCondition,
                     null,
-                    null,
+                    headersRequestCondition,
                     null,
                     null,
                     null
@@ -147,17 +157,17 @@ final class MockUtils {
         }
     }
 
-    static final class RequestMappingHandlerMappingBuilder {
+    public static final class RequestMappingHandlerMappingBuilder {
 
         private final Map<RequestMappingInfo, HandlerMethod> handlerMethods = new HashMap<>();
 
-        RequestMappingHandlerMappingBuilder handlerMethod(RequestMappingBuilder handlerMethodBuilder) {
+        public RequestMappingHandlerMappingBuilder handlerMethod(RequestMappingBuilder handlerMethodBuilder) {
             Map.Entry<RequestMappingInfo, HandlerMethod> entry = handlerMethodBuilder.build();
             this.handlerMethods.put(entry.getKey(), entry.getValue());
             return this;
         }
 
-        RequestMappingHandlerMapping build() {
+        public RequestMappingHandlerMapping build() {
             RequestMappingHandlerMapping mock = mock(RequestMappingHandlerMapping.class);
             when(mock.getHandlerMethods()).thenReturn(this.handlerMethods);
             return mock;
@@ -167,11 +177,11 @@ final class MockUtils {
     //
     // HELPER METHODS
     //
-    static RequestMappingBuilder requestMapping() {
+    public static RequestMappingBuilder requestMapping() {
         return new RequestMappingBuilder();
     }
 
-    static RequestMappingHandlerMappingBuilder handlerMapping() {
+    public static RequestMappingHandlerMappingBuilder handlerMapping() {
         return new RequestMappingHandlerMappingBuilder();
     }
 }
@@ -0,0 +1,172 @@
+package at.doml.restinfo;
+
+import at.doml.restinfo.type.TypeTreeDifference;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.RequestMethod;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import static at.doml.restinfo.MockUtils.handlerMapping;
+import static at.doml.restinfo.MockUtils.requestMapping;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class RestApiInfoDiffTest {
+
+    //
+    // SAMPLE CLASSES
+    //
+    public static final class OldResponse {
+        public int id;
+    }
+
+    public static final class NewResponse {
+        public int id;
+        public String name;
+    }
+
+    public static final class UserController {
+    }
+
+    public static final class AdminController {
+    }
+
+    public static final class AccountController {
+    }
+
+    //
+    // TESTS
+    //
+    @Test
+    public void diffShouldReportAddedRemovedAndChangedEndpoints() {
+        RestApiInfo oldApi = new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("kept"))
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("removed"))
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("changed")
+                        .responseBody(OldResponse.class))
+                .build());
+        RestApiInfo newApi = new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("kept"))
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.POST).path("added")
+                        .pathVariable("id", int.class))
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("changed")
+                        .responseBody(NewResponse.class))
+                .build());
+
+        List<EndpointDifference> differences = RestApiInfoDiff.diff(oldApi, newApi);
+
+        assertEquals("incorrect endpoint differences", Arrays.asList(
+                "CHANGED GET /changed", "REMOVED GET /removed", "ADDED POST /added"
+        ), differences.stream().map(EndpointDifference::toString).collect(Collectors.toList()));
+        assertEquals("incorrect response body differences", Arrays.asList("ADDED $.name"),
+                describe(differences.get(0).getResponseBodyDifferences()));
+        assertEquals("incorrect path variables differences", Arrays.asList("ADDED $"),
+                describe(differences.get(2).getPathVariablesDifferences()));
+    }
+
+    @Test
+    public void diffShouldReportChangesOfEndpointRepeatedInOtherApiSection() {
+        RestApiInfo oldApi = new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("status")
+                        .beanType(UserController.class)
+                        .responseBody(OldResponse.class))
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("status")
+                        .beanType(AdminController.class)
+                        .responseBody(OldResponse.class))
+                .build());
+        RestApiInfo newApi = new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("status")
+                        .beanType(UserController.class)
+                        .responseBody(OldResponse.class))
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("status")
+                        .beanType(AdminController.class)
+                        .responseBody(NewResponse.class))
+                .build());
+
+        List<EndpointDifference> differences = RestApiInfoDiff.diff(oldApi, newApi);
+
+        assertEquals("incorrect endpoint differences", Arrays.asList("CHANGED GET /status"),
+                differences.stream().map(EndpointDifference::toString).collect(Collectors.toList()));
+        assertEquals("incorrect api section", "Admin", differences.get(0).getApiSectionName());
+    }
+
+    @Test
+    public void diffShouldNotReportEndpointsOfRenamedController() {
+        RestApiInfo oldApi = new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("users")
+                        .beanType(UserController.class)
+                        .responseBody(OldResponse.class))
+                .build());
+        RestApiInfo newApi = new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("users")
+                        .beanType(AccountController.class)
+                        .responseBody(OldResponse.class))
+                .build());
+
+        assertTrue("differences should be empty", RestApiInfoDiff.diff(oldApi, newApi).isEmpty());
+    }
+
+    @Test
+    public void diffShouldReportChangesOfEndpointMovedToOtherApiSection() {
+        RestApiInfo oldApi = new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("users")
+                        .beanType(UserController.class)
+                        .responseBody(OldResponse.class))
+                .build());
+        RestApiInfo newApi = new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("users")
+                        .beanType(AccountController.class)
+                        .responseBody(NewResponse.class))
+                .build());
+
+        List<EndpointDifference> differences = RestApiInfoDiff.diff(oldApi, newApi);
+
+        assertEquals("incorrect endpoint differences", Arrays.asList("CHANGED GET /users"),
+                differences.stream().map(EndpointDifference::toString).collect(Collectors.toList()));
+        assertEquals("incorrect api section", "Account", differences.get(0).getApiSectionName());
+    }
+
+    @Test
+    public void diffShouldTellEndpointsApartByConditions() {
+        RestApiInfo oldApi = new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("status")
+                        .responseBody(OldResponse.class))
+                .build());
+        RestApiInfo newApi = new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("status")
+                        .responseBody(OldResponse.class))
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("status")
+                        .header("X-Version=2")
+                        .responseBody(NewResponse.class))
+                .build());
+
+        assertEquals("versioned endpoint should be added", Arrays.asList("ADDED GET /status [X-Version=2]"),
+                RestApiInfoDiff.diff(oldApi, newApi).stream()
+                        .map(EndpointDifference::toString)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void diffOfSameApiShouldBeEmpty() {
+        RestApiInfo api = new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("path")
+                        .responseBody(NewResponse.class))
+                .build());
+
+        assertTrue("differences should be empty", RestApiInfoDiff.diff(api, api).isEmpty());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void diffShouldThrowExceptionForNullApi() {
+        RestApiInfoDiff.diff(null, new RestApiInfo(handlerMapping().build()));
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static List<String> describe(List<TypeTreeDifference> differences) {
+        return differences.stream()
+                .map(TypeTreeDifference::toString)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,67 @@
+package at.doml.restinfo.type;
+
+import org.junit.Test;
+import java.util.function.Predicate;
+import static org.junit.Assert.assertEquals;
+
+public final class CompiledTypeTreeTest {
+
+    //
+    // TESTS
+    //
+    @Test
+    public void compiledTypeTreeShouldCallSameMethodsAsOriginalTypeTree() {
+        assertSameCalls(TypeTreeSamples.sampleTree(), ignored -> true);
+    }
+
+    @Test
+    public void compiledTypeTreeShouldJumpOverDeclinedChildren() {
+        assertSameCalls(TypeTreeSamples.sampleTree(), call -> !call.startsWith("shouldVisitField(order)"));
+        assertSameCalls(TypeTreeSamples.sampleTree(), call -> !call.startsWith("shouldVisitMapKey"));
+        assertSameCalls(TypeTreeSamples.sampleTree(), call -> !call.startsWith("shouldVisitMapValue"));
+        assertSameCalls(TypeTreeSamples.sampleTree(), call -> !call.startsWith("shouldVisitArray"));
+        assertSameCalls(TypeTreeSamples.sampleTree(), call -> !call.startsWith("shouldVisitCollection"));
+        assertSameCalls(TypeTreeSamples.sampleTree(), call -> !call.startsWith("shouldVisitFields"));
+    }
+
+    @Test
+    public void compiledTypeTreeShouldVisitLeafAndForeignNodes() {
+        TypeInformation typeInformation = new TypeInformation("custom", new TypeInformation[0], 0);
+
+        assertSameCalls(SimpleType.BOXED_VOID, ignored -> true);
+        assertSameCalls(new EnumType(TypeTreeSamples.SampleEnum.values()), ignored -> true);
+        assertSameCalls(new CustomType(typeInformation), ignored -> true);
+        assertSameCalls(new UnknownType(typeInformation), ignored -> true);
+        assertSameCalls(new CollectionType(visitor -> visitor.visitSimple(SimpleType.CHAR)), ignored -> true);
+    }
+
+    @Test
+    public void compiledTypeTreeShouldBeReusable() {
+        CompiledTypeTree compiled = CompiledTypeTree.compile(TypeTreeSamples.sampleTree());
+        RecordingTypeVisitor first = new RecordingTypeVisitor();
+        RecordingTypeVisitor second = new RecordingTypeVisitor();
+
+        compiled.accept(first);
+        compiled.accept(second);
+
+        assertEquals("visitor method calls differ", first.getCalls(), second.getCalls());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void compileShouldThrowExceptionForNullTypeTree() {
+        CompiledTypeTree.compile(null);
+    }
+
+    //
+    // ASSERTIONS
+    //
+    private static void assertSameCalls(VisitableType typeTree, Predicate<String> shouldVisit) {
+        RecordingTypeVisitor original = new RecordingTypeVisitor(shouldVisit);
+        RecordingTypeVisitor compiled = new RecordingTypeVisitor(shouldVisit);
+
+        typeTree.accept(original);
+        CompiledTypeTree.compile(typeTree).accept(compiled);
+
+        assertEquals("visitor method calls differ", original.getCalls(), compiled.getCalls());
+    }
+}
@@ -0,0 +1,71 @@
+package at.doml.restinfo.type;
+
+import org.junit.Test;
+import java.util.function.Predicate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class CompositeTypeVisitorTest {
+
+    //
+    // TESTS
+    //
+    @Test
+    public void eachDelegateShouldReceiveSameCallsAsWhenVisitingAlone() {
+        assertSameCallsAsAlone(
+                ignored -> true,
+                call -> !call.startsWith("shouldVisitField(order)"),
+                call -> !call.startsWith("shouldVisitCollection"),
+                call -> !call.startsWith("shouldVisitMapKey") && !call.startsWith("shouldVisitArray")
+        );
+    }
+
+    @Test
+    public void delegatesShouldBeIndependentWhenAllDeclineDifferentSubtrees() {
+        assertSameCallsAsAlone(
+                call -> !call.startsWith("shouldVisitFields"),
+                call -> !call.startsWith("shouldVisitMapValue"),
+                call -> !call.startsWith("shouldVisitField(history)")
+        );
+    }
+
+    @Test
+    public void shouldVisitMethodsShouldReturnFalseOnlyWhenAllActiveDelegatesDecline() {
+        CompositeTypeVisitor declining = new CompositeTypeVisitor(
+                new RecordingTypeVisitor(ignored -> false), new RecordingTypeVisitor(ignored -> false)
+        );
+        CompositeTypeVisitor mixed = new CompositeTypeVisitor(
+                new RecordingTypeVisitor(ignored -> false), new RecordingTypeVisitor(ignored -> true)
+        );
+
+        assertFalse("all delegates declined", declining.shouldVisitArrayElementType());
+        assertTrue("one delegate accepted", mixed.shouldVisitArrayElementType());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void compositeTypeVisitorShouldThrowExceptionForNullDelegate() {
+        new CompositeTypeVisitor(new RecordingTypeVisitor(), null);
+    }
+
+    //
+    // ASSERTIONS
+    //
+    @SafeVarargs
+    private static void assertSameCallsAsAlone(Predicate<String>... shouldVisitPredicates) {
+        VisitableType typeTree = TypeTreeSamples.sampleTree();
+        RecordingTypeVisitor[] delegates = new RecordingTypeVisitor[shouldVisitPredicates.length];
+
+        for (int i = 0; i < delegates.length; i++) {
+            delegates[i] = new RecordingTypeVisitor(shouldVisitPredicates[i]);
+        }
+
+        typeTree.accept(new CompositeTypeVisitor(delegates));
+
+        for (int i = 0; i < delegates.length; i++) {
+            RecordingTypeVisitor alone = new RecordingTypeVisitor(shouldVisitPredicates[i]);
+            typeTree.accept(alone);
+            assertEquals("calls of delegate " + i + " differ", alone.getCalls(), delegates[i].getCalls());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package at.doml.restinfo.type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+public final class RecordingTypeVisitor implements TypeVisitor {
+
+    private final List<String> calls = new ArrayList<>();
+    private final Predicate<String> shouldVisit;
+
+    public RecordingTypeVisitor() {
+        this(ignored -> true);
+    }
+
+    public RecordingTypeVisitor(Predicate<String> shouldVisit) {
+        this.shouldVisit = shouldVisit;
+    }
+
+    public List<String> getCalls() {
+        return this.calls;
+    }
+
+    private boolean recordCondition(String call) {
+        boolean result = this.shouldVisit.test(call);
+        this.calls.add(call + '=' + result);
+        return result;
+    }
+
+    @Override
+    public void visitSimple(SimpleType type) {
+        this.calls.add("simple(" + type + ')');
+    }
+
+    @Override
+    public void visitEnum(Enum<?>[] enumConstants) {
+        this.calls.add("enum" + Arrays.toString(enumConstants));
+    }
+
+    @Override
+    public void visitBeforeArrayElementType() {
+        this.calls.add("beforeArray");
+    }
+
+    @Override
+    public boolean shouldVisitArrayElementType() {
+        return this.recordCondition("shouldVisitArray");
+    }
+
+    @Override
+    public void visitAfterArrayElementType() {
+        this.calls.add("afterArray");
+    }
+
+    @Override
+    public void visitBeforeCollectionElementType() {
+        this.calls.add("beforeCollection");
+    }
+
+    @Override
+    public boolean shouldVisitCollectionElementType() {
+        return this.recordCondition("shouldVisitCollection");
+    }
+
+    @Override
+    public void visitAfterCollectionElementType() {
+        this.calls.add("afterCollection");
+    }
+
+    @Override
+    public void visitBeforeMapKeyType() {
+        this.calls.add("beforeMapKey");
+    }
+
+    @Override
+    public boolean shouldVisitMapKeyType() {
+        return this.recordCondition("shouldVisitMapKey");
+    }
+
+    @Override
+    public void visitAfterMapKeyType() {
+        this.calls.add("afterMapKey");
+    }
+
+    @Override
+    public void visitBeforeMapValueType() {
+        this.calls.add("beforeMapValue");
+    }
+
+    @Override
+    public boolean shouldVisitMapValueType() {
+        return this.recordCondition("shouldVisitMapValue");
+    }
+
+    @Override
+    public void visitAfterMapValueType() {
+        this.calls.add("afterMapValue");
+    }
+
+    @Override
+    public void visitBeforeAllComplexFields() {
+        this.calls.add("beforeAllFields");
+    }
+
+    @Override
+    public boolean shouldVisitComplexFields() {
+        return this.recordCondition("shouldVisitFields");
+    }
+
+    @Override
+    public void visitBeforeComplexField(String fieldName) {
+        this.calls.add("beforeField(" + fieldName + ')');
+    }
+
+    @Override
+    public boolean shouldVisitComplexFieldType(String fieldName) {
+        return this.recordCondition("shouldVisitField(" + fieldName + ')');
+    }
+
+    @Override
+    public void visitAfterComplexField(String fieldName) {
+        this.calls.add("afterField(" + fieldName + ')');
+    }
+
+    @Override
+    public void visitAfterAllComplexFields() {
+        this.calls.add("afterAllFields");
+    }
+
+    @Override
+    public void visitCustom(TypeInformation customTypeInformation) {
+        this.calls.add("custom(" + customTypeInformation + ')');
+    }
+
+    @Override
+    public void visitUnknown(TypeInformation unknownTypeInformation) {
+        this.calls.add("unknown(" + unknownTypeInformation + ')');
+    }
+}
@@ -0,0 +1,87 @@
+package at.doml.restinfo.type;
+
+import org.junit.Test;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public final class StructuralHasherTest {
+
+    //
+    // TESTS
+    //
+    @Test
+    public void structurallyEqualTreesShouldHaveEqualHashes() {
+        assertEquals("hashes should be equal",
+                TypeTreeSamples.sampleTree().structuralHash(), TypeTreeSamples.sampleTree().structuralHash());
+        assertEquals("hashes should be equal",
+                TypeTreeSamples.deepTree(50).structuralHash(), TypeTreeSamples.deepTree(50).structuralHash());
+    }
+
+    @Test
+    public void cachedHashShouldBeEqualToHashComputedByVisiting() {
+        VisitableType typeTree = TypeTreeSamples.sampleTree();
+        VisitableType foreignNode = typeTree::accept;
+
+        assertEquals("hashes should be equal", StructuralHasher.hash(typeTree), typeTree.structuralHash());
+        assertEquals("hashes should be equal", typeTree.structuralHash(), foreignNode.structuralHash());
+        assertEquals("hashes should be equal",
+                typeTree.structuralHash(), CompiledTypeTree.compile(typeTree).structuralHash());
+    }
+
+    @Test
+    public void complexTypeHashShouldNotDependOnFieldOrder() {
+        Map<String, VisitableType> firstFields = new LinkedHashMap<>();
+        firstFields.put("a", SimpleType.INT);
+        firstFields.put("b", new ArrayType(SimpleType.STRING));
+
+        Map<String, VisitableType> secondFields = new LinkedHashMap<>();
+        secondFields.put("b", new ArrayType(SimpleType.STRING));
+        secondFields.put("a", SimpleType.INT);
+
+        assertEquals("hashes should be equal",
+                new ComplexType(firstFields).structuralHash(), new ComplexType(secondFields).structuralHash());
+    }
+
+    @Test
+    public void structurallyDifferentTreesShouldHaveDifferentHashes() {
+        TypeInformation typeInformation = new TypeInformation("custom", new TypeInformation[0], 0);
+
+        assertNotEquals("hashes should differ",
+                SimpleType.INT.structuralHash(), SimpleType.BOXED_INT.structuralHash());
+        assertNotEquals("hashes should differ",
+                new ArrayType(SimpleType.INT).structuralHash(), new CollectionType(SimpleType.INT).structuralHash());
+        assertNotEquals("hashes should differ",
+                new MapType(SimpleType.INT, SimpleType.STRING).structuralHash(),
+                new MapType(SimpleType.STRING, SimpleType.INT).structuralHash());
+        assertNotEquals("hashes should differ",
+                new CustomType(typeInformation).structuralHash(), new UnknownType(typeInformation).structuralHash());
+        assertNotEquals("hashes should differ",
+                TypeTreeSamples.deepTree(50).structuralHash(), TypeTreeSamples.deepTree(51).structuralHash());
+        assertNotEquals("hashes should differ",
+                complexType("a", SimpleType.INT).structuralHash(), complexType("b", SimpleType.INT).structuralHash());
+    }
+
+    @Test
+    public void additionalFieldShouldChangeComplexTypeHash() {
+        Map<String, VisitableType> fields = new HashMap<>();
+        fields.put("a", SimpleType.INT);
+        ComplexType complexType = new ComplexType(fields);
+        fields.put("b", SimpleType.INT);
+        ComplexType extendedComplexType = new ComplexType(fields);
+
+        assertNotEquals("hashes should differ", complexType.structuralHash(), extendedComplexType.structuralHash());
+        assertEquals("hashes should be equal",
+                StructuralHasher.hash(extendedComplexType), extendedComplexType.structuralHash());
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static VisitableType complexType(String fieldName, VisitableType fieldType) {
+        return new ComplexType(Collections.singletonMap(fieldName, fieldType));
+    }
+}
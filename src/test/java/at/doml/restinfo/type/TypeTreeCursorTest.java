@@ -0,0 +1,142 @@
+package at.doml.restinfo.type;
+
+import at.doml.restinfo.type.TypeTreeCursor.Event;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public final class TypeTreeCursorTest {
+
+    //
+    // TESTS
+    //
+    @Test
+    public void cursorShouldProduceCorrectEventsForMap() {
+        TypeTreeCursor cursor = new TypeTreeCursor(new MapType(SimpleType.STRING, new ArrayType(SimpleType.INT)));
+
+        assertEquals("incorrect events", Arrays.asList(
+                Event.START_MAP_KEY, Event.SIMPLE, Event.END_MAP_KEY,
+                Event.START_MAP_VALUE, Event.START_ARRAY, Event.SIMPLE, Event.END_ARRAY, Event.END_MAP_VALUE
+        ), allEvents(cursor));
+    }
+
+    @Test
+    public void cursorShouldProduceCorrectEventsForComplexType() {
+        ComplexType complexType = new ComplexType(
+                Collections.singletonMap("values", new CollectionType(SimpleType.BOOLEAN))
+        );
+
+        TypeTreeCursor cursor = new TypeTreeCursor(complexType);
+
+        assertEquals("incorrect event", Event.START_COMPLEX, cursor.next());
+        assertEquals("incorrect event", Event.START_FIELD, cursor.next());
+        assertEquals("incorrect field name", "values", cursor.getFieldName());
+        assertSame("incorrect field type", complexType.fields.get("values"), cursor.getType());
+        assertEquals("incorrect event", Event.START_COLLECTION, cursor.next());
+        assertEquals("incorrect event", Event.SIMPLE, cursor.next());
+        assertSame("incorrect simple type", SimpleType.BOOLEAN, cursor.getSimpleType());
+        assertEquals("incorrect event", Event.END_COLLECTION, cursor.next());
+        assertEquals("incorrect event", Event.END_FIELD, cursor.next());
+        assertEquals("incorrect field name", "values", cursor.getFieldName());
+        assertEquals("incorrect event", Event.END_COMPLEX, cursor.next());
+        assertFalse("cursor should have no more events", cursor.hasNext());
+    }
+
+    @Test
+    public void cursorShouldProvideLeafInformation() {
+        TypeInformation typeInformation = new TypeInformation("custom", new TypeInformation[0], 0);
+        TypeTreeCursor enumCursor = new TypeTreeCursor(new EnumType(TypeTreeSamples.SampleEnum.values()));
+        TypeTreeCursor customCursor = new TypeTreeCursor(new CustomType(typeInformation));
+        TypeTreeCursor unknownCursor = new TypeTreeCursor(new UnknownType(typeInformation));
+
+        assertEquals("incorrect event", Event.ENUM, enumCursor.next());
+        assertArrayEquals("incorrect enum constants",
+                TypeTreeSamples.SampleEnum.values(), enumCursor.getEnumConstants());
+        assertEquals("incorrect event", Event.CUSTOM, customCursor.next());
+        assertSame("incorrect type information", typeInformation, customCursor.getTypeInformation());
+        assertEquals("incorrect event", Event.UNKNOWN, unknownCursor.next());
+        assertSame("incorrect type information", typeInformation, unknownCursor.getTypeInformation());
+    }
+
+    @Test
+    public void cursorShouldProvideEnumConstantsWithoutCopying() {
+        EnumType enumType = new EnumType(TypeTreeSamples.SampleEnum.values());
+        TypeTreeCursor cursor = new TypeTreeCursor(enumType);
+
+        cursor.next();
+        assertSame("enum constants should be shared", enumType.constants, cursor.getEnumConstants());
+    }
+
+    @Test
+    public void cursorShouldProduceOtherEventForForeignNodes() {
+        VisitableType foreign = visitor -> {};
+        TypeTreeCursor cursor = new TypeTreeCursor(foreign);
+
+        assertEquals("incorrect event", Event.OTHER, cursor.next());
+        assertSame("incorrect type", foreign, cursor.getType());
+    }
+
+    @Test
+    public void skipChildrenShouldSkipToMatchingEndEvent() {
+        TypeTreeCursor cursor = new TypeTreeCursor(TypeTreeSamples.sampleTree());
+
+        assertEquals("incorrect event", Event.START_COMPLEX, cursor.next());
+        cursor.skipChildren();
+        assertEquals("incorrect event", Event.END_COMPLEX, cursor.next());
+        assertFalse("cursor should have no more events", cursor.hasNext());
+
+        cursor = new TypeTreeCursor(new MapType(new ArrayType(SimpleType.INT), SimpleType.INT));
+
+        assertEquals("incorrect event", Event.START_MAP_KEY, cursor.next());
+        cursor.skipChildren();
+        assertEquals("incorrect events",
+                Arrays.asList(Event.END_MAP_KEY, Event.START_MAP_VALUE, Event.SIMPLE, Event.END_MAP_VALUE),
+                allEvents(cursor));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void skipChildrenShouldThrowExceptionForLeafEvent() {
+        TypeTreeCursor cursor = new TypeTreeCursor(SimpleType.INT);
+        cursor.next();
+        cursor.skipChildren();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getFieldNameShouldThrowExceptionForNonFieldEvent() {
+        TypeTreeCursor cursor = new TypeTreeCursor(SimpleType.INT);
+        cursor.next();
+        cursor.getFieldName();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void nextShouldThrowExceptionWhenThereAreNoMoreEvents() {
+        TypeTreeCursor cursor = new TypeTreeCursor(SimpleType.INT);
+        cursor.next();
+        cursor.next();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void cursorShouldThrowExceptionForNullTypeTree() {
+        new TypeTreeCursor(null);
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static List<Event> allEvents(TypeTreeCursor cursor) {
+        List<Event> events = new ArrayList<>();
+
+        while (cursor.hasNext()) {
+            events.add(cursor.next());
+        }
+
+        return events;
+    }
+}
@@ -0,0 +1,119 @@
+package at.doml.restinfo.type;
+
+import at.doml.restinfo.type.TypeTreeDifference.Kind;
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class TypeTreeDiffTest {
+
+    //
+    // SAMPLE CLASSES
+    //
+    public enum OldStatus {
+        ACTIVE, DELETED
+    }
+
+    public enum NewStatus {
+        ACTIVE
+    }
+
+    public static final class OldLine {
+        public String name;
+        public double price;
+        public OldStatus status;
+    }
+
+    public static final class NewLine {
+        public String name;
+        public long price;
+        public NewStatus status;
+        public String note;
+    }
+
+    public static final class OldOrder {
+        public List<OldLine> lines;
+        public Map<String, Integer> tags;
+        public int[] codes;
+        public String removed;
+    }
+
+    public static final class NewOrder {
+        public List<NewLine> lines;
+        public Map<String, Long> tags;
+        public Set<Integer> codes;
+    }
+
+    //
+    // TESTS
+    //
+    @Test
+    public void structurallyEqualTreesShouldHaveNoDifferences() {
+        assertTrue("trees should have no differences",
+                TypeTreeDiff.diff(TypeTreeSamples.sampleTree(), TypeTreeSamples.sampleTree()).isEmpty());
+    }
+
+    @Test
+    public void diffShouldReportAllDifferencesWithPaths() {
+        TypeTreeGenerator generator = new TypeTreeGenerator(TypeTreeGenerator.MethodFieldExtraction.NONE);
+
+        assertEquals("incorrect differences", Arrays.asList(
+                "TYPE_CHANGED $.codes",
+                "ADDED $.lines[].note",
+                "TYPE_CHANGED $.lines[].price",
+                "TYPE_CHANGED $.lines[].status",
+                "REMOVED $.removed",
+                "TYPE_CHANGED $.tags.*"
+        ), describe(TypeTreeDiff.diff(
+                generator.generateTree(OldOrder.class), generator.generateTree(NewOrder.class)
+        )));
+    }
+
+    @Test
+    public void diffShouldReportEnumConstantChangesForSameEnumClass() {
+        VisitableType oldTree = new ArrayType(new EnumType(new Enum<?>[] {OldStatus.ACTIVE, OldStatus.DELETED}));
+        VisitableType newTree = new ArrayType(new EnumType(new Enum<?>[] {OldStatus.ACTIVE}));
+
+        assertEquals("incorrect differences", Arrays.asList("ENUM_CONSTANT_REMOVED $[] DELETED"),
+                describe(TypeTreeDiff.diff(oldTree, newTree)));
+        assertEquals("incorrect differences", Arrays.asList("ENUM_CONSTANT_ADDED $[] DELETED"),
+                describe(TypeTreeDiff.diff(newTree, oldTree)));
+    }
+
+    @Test
+    public void differencePathsShouldResolveAgainstTypeTrees() {
+        TypeTreeGenerator generator = new TypeTreeGenerator(TypeTreeGenerator.MethodFieldExtraction.NONE);
+        VisitableType oldTree = generator.generateTree(OldOrder.class);
+        VisitableType newTree = generator.generateTree(NewOrder.class);
+
+        for (TypeTreeDifference difference : TypeTreeDiff.diff(oldTree, newTree)) {
+            TypeTreePath path = TypeTreePath.parse(difference.getPath());
+
+            assertEquals("incorrect old type", difference.getOldType(), path.resolve(oldTree).orElse(null));
+            assertEquals("incorrect new type", difference.getNewType(), path.resolve(newTree).orElse(null));
+        }
+    }
+
+    @Test
+    public void absentTreesShouldBeReportedAsAddedOrRemovedRoot() {
+        assertEquals("incorrect differences", Arrays.asList("ADDED $"),
+                describe(TypeTreeDiff.diff(null, SimpleType.INT)));
+        assertEquals("incorrect differences", Arrays.asList("REMOVED $"),
+                describe(TypeTreeDiff.diff(SimpleType.INT, null)));
+        assertTrue("trees should have no differences", TypeTreeDiff.diff(null, null).isEmpty());
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static List<String> describe(List<TypeTreeDifference> differences) {
+        return differences.stream()
+                .map(TypeTreeDifference::toString)
+                .collect(Collectors.toList());
+    }
+}
@@ -172,6 +172,16 @@ public final class TypeTreeGeneratorTest {
         );
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void generatedComplexTypeFieldsShouldBeUnmodifiable() {
+        this.initGenerator();
+        Map<String, Type> types = new HashMap<>();
+        types.put("first", int.class);
+        types.put("second", String.class);
+
+        ((ComplexType) this.generator.generateTree(types)).fields.put("third", SimpleType.INT);
+    }
+
     @Test
     public void complexTypeNestingShouldGenerateCorrectTypeTree() {
         this.initGenerator();
@@ -0,0 +1,87 @@
+package at.doml.restinfo.type;
+
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public final class TypeTreePathTest {
+
+    //
+    // TESTS
+    //
+    @Test
+    public void pathShouldResolveCorrectNode() {
+        VisitableType typeTree = TypeTreeSamples.sampleTree();
+
+        assertSame("incorrect node", typeTree, resolve("$", typeTree));
+        assertSame("incorrect node", SimpleType.DOUBLE, resolve("$.order.lines[].price", typeTree));
+        assertSame("incorrect node", SimpleType.BOXED_INT, resolve("$.order.tags.*[]", typeTree));
+        assertSame("incorrect node", SimpleType.STRING, resolve("$.history[].matrix[][].name", typeTree));
+        assertEquals("incorrect node", CustomType.class, resolve("$.order.custom", typeTree).getClass());
+    }
+
+    @Test
+    public void pathShouldNotResolveMissingNode() {
+        VisitableType typeTree = TypeTreeSamples.sampleTree();
+
+        assertFalse("path should not be resolved", TypeTreePath.parse("$.missing").resolve(typeTree).isPresent());
+        assertFalse("path should not be resolved", TypeTreePath.parse("$.order[]").resolve(typeTree).isPresent());
+        assertFalse("path should not be resolved", TypeTreePath.parse("$.order.id.*").resolve(typeTree).isPresent());
+        assertFalse("path should not be resolved", TypeTreePath.parse("$.order").resolve(typeTree::accept).isPresent());
+    }
+
+    @Test
+    public void resolveAllShouldResolveAllPathsInSinglePass() {
+        VisitableType typeTree = TypeTreeSamples.sampleTree();
+        TypeTreePath price = TypeTreePath.parse("$.order.lines[].price");
+        TypeTreePath kind = TypeTreePath.parse("$.order.lines[].kind");
+        TypeTreePath order = TypeTreePath.parse("$.order");
+        TypeTreePath missing = TypeTreePath.parse("$.order.lines[].missing");
+
+        Map<TypeTreePath, VisitableType> resolved = TypeTreePath.resolveAll(
+                typeTree, Arrays.asList(price, kind, order, missing)
+        );
+
+        assertEquals("incorrect number of resolved paths", 3, resolved.size());
+        assertSame("incorrect node", SimpleType.DOUBLE, resolved.get(price));
+        assertSame("incorrect node", resolve("$.order.lines[].kind", typeTree), resolved.get(kind));
+        assertSame("incorrect node", resolve("$.order", typeTree), resolved.get(order));
+    }
+
+    @Test
+    public void equalPathsShouldBeEqual() {
+        assertEquals("paths should be equal", TypeTreePath.parse("$.a[].*"), TypeTreePath.parse("$.a[].*"));
+        assertEquals("hash codes should be equal",
+                TypeTreePath.parse("$.a[].*").hashCode(), TypeTreePath.parse("$.a[].*").hashCode());
+        assertEquals("incorrect string representation", "$.a[].*", TypeTreePath.parse("$.a[].*").toString());
+    }
+
+    @Test
+    public void parseShouldThrowExceptionForInvalidPaths() {
+        for (String path : new String[] {"", "a", "$a", "$.", "$..a", "$[", "$[x]", "$.a]"}) {
+            try {
+                TypeTreePath.parse(path);
+                throw new AssertionError("exception was not thrown for path: " + path);
+            } catch (IllegalArgumentException expected) {
+                // expected
+            }
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void parseShouldThrowExceptionForNullPath() {
+        TypeTreePath.parse(null);
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static VisitableType resolve(String path, VisitableType typeTree) {
+        Optional<VisitableType> resolved = TypeTreePath.parse(path).resolve(typeTree);
+        return resolved.orElseThrow(() -> new AssertionError("path was not resolved: " + path));
+    }
+}
@@ -0,0 +1,71 @@
+package at.doml.restinfo.type;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class TypeTreeSamples {
+
+    private TypeTreeSamples() {
+        // No instances of this class are possible
+    }
+
+    //
+    // SAMPLE CLASSES
+    //
+    public enum SampleEnum {
+        FIRST, SECOND
+    }
+
+    public static final class SampleCustom {}
+
+    public static final class SampleLine {
+        public String name;
+        public double price;
+        public SampleEnum kind;
+    }
+
+    public static final class SampleOrder {
+        public long id;
+        public List<SampleLine> lines;
+        public Map<String, Set<Integer>> tags;
+        public SampleLine[][] matrix;
+        public SampleCustom custom;
+        public Object any;
+    }
+
+    public static final class SampleResponse {
+        public SampleOrder order;
+        public List<SampleOrder> history;
+        public boolean empty;
+    }
+
+    //
+    // FACTORY METHODS
+    //
+    public static VisitableType sampleTree() {
+        TypeTreeGenerator generator = new TypeTreeGenerator(TypeTreeGenerator.MethodFieldExtraction.NONE);
+        generator.registerCustomType(SampleCustom.class);
+        return generator.generateTree(SampleResponse.class);
+    }
+
+    public static VisitableType deepTree(int depth) {
+        VisitableType type = SimpleType.INT;
+
+        for (int i = 0; i < depth; i++) {
+            switch (i % 3) {
+                case 0:
+                    type = new ArrayType(type);
+                    break;
+                case 1:
+                    type = new MapType(SimpleType.STRING, type);
+                    break;
+                default:
+                    type = new CollectionType(type);
+                    break;
+            }
+        }
+
+        return type;
+    }
+}
@@ -1,6 +1,7 @@
 package at.doml.restinfo.type;
 
 import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
@@ -39,7 +40,7 @@ public final class TypeTreeStub {
             expectedFieldCheckers.put(field.getKey(), field.getValue());
         }
 
-        return new ComplexTypeChecker(new ComplexType(), expectedFieldCheckers);
+        return new ComplexTypeChecker(new ComplexType(Collections.emptyMap()), expectedFieldCheckers);
     }
 
     public static TypeTreeChecker custom(String typeName) {
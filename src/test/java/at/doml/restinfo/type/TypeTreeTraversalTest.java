@@ -0,0 +1,113 @@
+package at.doml.restinfo.type;
+
+import org.junit.Test;
+import java.util.function.Predicate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class TypeTreeTraversalTest {
+
+    //
+    // TESTS
+    //
+    @Test
+    public void iterativeTraversalShouldCallSameMethodsAsRecursiveTraversal() {
+        assertSameCalls(TypeTreeSamples.sampleTree(), ignored -> true);
+    }
+
+    @Test
+    public void iterativeTraversalShouldRespectShouldVisitMethods() {
+        assertSameCalls(TypeTreeSamples.sampleTree(), call -> !call.startsWith("shouldVisitField(lines)"));
+        assertSameCalls(TypeTreeSamples.sampleTree(), call -> !call.startsWith("shouldVisitMapKey"));
+        assertSameCalls(TypeTreeSamples.sampleTree(), call -> !call.startsWith("shouldVisitCollection"));
+        assertSameCalls(TypeTreeSamples.sampleTree(), call -> !call.startsWith("shouldVisitFields"));
+    }
+
+    @Test
+    public void iterativeTraversalShouldVisitNodesNotGeneratedByTypeTreeGenerator() {
+        VisitableType foreign = visitor -> visitor.visitSimple(SimpleType.CHAR);
+        assertSameCalls(new ArrayType(foreign), ignored -> true);
+    }
+
+    @Test
+    public void iterativeTraversalShouldHandleVeryDeepTypeTrees() {
+        int depth = 200_000;
+        RecordingTypeVisitor visitor = new RecordingTypeVisitor();
+
+        TypeTreeTraversal.ITERATIVE.traverse(TypeTreeSamples.deepTree(depth), visitor);
+
+        assertTrue("deep type tree was not fully visited", visitor.getCalls().contains("simple(INT)"));
+    }
+
+    @Test
+    public void compiledTraversalShouldCallSameMethodsAsRecursiveTraversal() {
+        VisitableType foreign = visitor -> visitor.visitSimple(SimpleType.CHAR);
+
+        assertSameCalls(TypeTreeTraversal.COMPILED, TypeTreeSamples.sampleTree(), ignored -> true);
+        assertSameCalls(TypeTreeTraversal.COMPILED, new ArrayType(foreign), ignored -> true);
+        assertSameCalls(TypeTreeTraversal.COMPILED, foreign, ignored -> true);
+        assertSameCalls(TypeTreeTraversal.COMPILED, SimpleType.INT, ignored -> true);
+    }
+
+    @Test
+    public void compiledTraversalShouldRespectShouldVisitMethods() {
+        VisitableType typeTree = TypeTreeSamples.sampleTree();
+
+        assertSameCalls(TypeTreeTraversal.COMPILED, typeTree, call -> !call.startsWith("shouldVisitField(lines)"));
+        assertSameCalls(TypeTreeTraversal.COMPILED, typeTree, call -> !call.startsWith("shouldVisitMapKey"));
+        assertSameCalls(TypeTreeTraversal.COMPILED, typeTree, call -> !call.startsWith("shouldVisitFields"));
+    }
+
+    @Test
+    public void compiledTraversalShouldCompileTypeTreeOnlyOnce() {
+        CompoundType typeTree = (CompoundType) TypeTreeSamples.sampleTree();
+
+        TypeTreeTraversal.COMPILED.traverse(typeTree, new RecordingTypeVisitor());
+        CompiledTypeTree compiled = typeTree.compiled();
+        TypeTreeTraversal.COMPILED.traverse(typeTree, new RecordingTypeVisitor());
+
+        assertSame("compiled type tree should be kept by the root node", compiled, typeTree.compiled());
+        assertNotSame("other type trees should be compiled separately", compiled,
+                ((CompoundType) TypeTreeSamples.sampleTree()).compiled());
+    }
+
+    @Test
+    public void compiledTraversalShouldHandleVeryDeepTypeTrees() {
+        int depth = 200_000;
+        RecordingTypeVisitor visitor = new RecordingTypeVisitor();
+
+        TypeTreeTraversal.COMPILED.traverse(TypeTreeSamples.deepTree(depth), visitor);
+
+        assertTrue("deep type tree was not fully visited", visitor.getCalls().contains("simple(INT)"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void traverseShouldThrowExceptionForNullTypeTree() {
+        TypeTreeTraversal.ITERATIVE.traverse(null, new RecordingTypeVisitor());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void traverseShouldThrowExceptionForNullVisitor() {
+        TypeTreeTraversal.ITERATIVE.traverse(SimpleType.INT, null);
+    }
+
+    //
+    // ASSERTIONS
+    //
+    private static void assertSameCalls(VisitableType typeTree, Predicate<String> shouldVisit) {
+        assertSameCalls(TypeTreeTraversal.ITERATIVE, typeTree, shouldVisit);
+    }
+
+    private static void assertSameCalls(TypeTreeTraversal traversal, VisitableType typeTree,
+                                        Predicate<String> shouldVisit) {
+        RecordingTypeVisitor recursive = new RecordingTypeVisitor(shouldVisit);
+        RecordingTypeVisitor other = new RecordingTypeVisitor(shouldVisit);
+
+        TypeTreeTraversal.RECURSIVE.traverse(typeTree, recursive);
+        traversal.traverse(typeTree, other);
+
+        assertEquals("visitor method calls differ", recursive.getCalls(), other.getCalls());
+    }
+}
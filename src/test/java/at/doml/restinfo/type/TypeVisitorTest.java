@@ -1,6 +1,7 @@
 package at.doml.restinfo.type;
 
 import org.junit.Test;
+import java.util.Collections;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -35,10 +36,9 @@ public final class TypeVisitorTest extends AbstractTypeVisitorMethodCallOrderTes
 
     @Test
     public void complexTypeShouldCallCorrectVisitMethods() {
-        this.type = new ComplexType();
-
         String fieldName = "number";
-        ((ComplexType) this.type).addField(fieldName, SimpleType.INT);
+        this.type = new ComplexType(Collections.singletonMap(fieldName, SimpleType.INT));
+
         CallOrderInfo callOrderInfo1 = this.defineRequiredCallOrder(
                 this.mockVisitor,
                 TypeVisitor::visitBeforeAllComplexFields
@@ -0,0 +1,92 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.type.TypeTreeSamples;
+import at.doml.restinfo.type.VisitableType;
+import org.junit.Test;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public final class BufferedAppendableTest {
+
+    //
+    // TESTS
+    //
+    @Test
+    public void bufferedAppendableShouldWriteSameCharactersInFewChunks() throws IOException {
+        CountingWriter writer = new CountingWriter();
+        BufferedAppendable appendable = new BufferedAppendable(writer, 16);
+
+        appendable.append("0123456789")
+                .append('a')
+                .append(new StringBuilder("bcdefghij"), 1, 5)
+                .append(null)
+                .append("this string is longer than the buffer");
+        appendable.flush();
+
+        assertEquals("incorrect output", "0123456789acdefnullthis string is longer than the buffer",
+                writer.toString());
+        assertEquals("incorrect number of writes", 3, writer.writes);
+    }
+
+    @Test
+    public void wrapShouldNotWrapStringBuilder() {
+        StringBuilder builder = new StringBuilder();
+        assertSame("string builder should not be wrapped", builder, BufferedAppendable.wrap(builder));
+    }
+
+    @Test
+    public void writerShouldFlushWholeTypeTreeInSingleWrite() {
+        VisitableType typeTree = TypeTreeSamples.sampleTree();
+        StringBuilder builder = new StringBuilder();
+        CountingWriter writer = new CountingWriter();
+
+        typeTree.accept(new HtmlJsonTypeTreeWriter(builder));
+        typeTree.accept(new HtmlJsonTypeTreeWriter(writer));
+
+        assertEquals("incorrect output", builder.toString(), writer.toString());
+        assertEquals("incorrect number of writes", 1, writer.writes);
+    }
+
+    @Test(expected = TypeWriterException.class)
+    public void writerShouldThrowTypeWriterExceptionWhenFlushFails() {
+        TypeTreeSamples.sampleTree().accept(new HtmlJsonTypeTreeWriter(new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("write failed");
+            }
+
+            @Override
+            public void flush() {
+                // nothing to flush
+            }
+
+            @Override
+            public void close() {
+                // nothing to close
+            }
+        }));
+    }
+
+    //
+    // UTIL CLASSES
+    //
+    private static final class CountingWriter extends StringWriter {
+
+        private int writes;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            this.writes += 1;
+            super.write(buffer, offset, length);
+        }
+
+        @Override
+        public StringWriter append(CharSequence csq, int start, int end) {
+            this.writes += 1;
+            return super.append(csq, start, end);
+        }
+    }
+}
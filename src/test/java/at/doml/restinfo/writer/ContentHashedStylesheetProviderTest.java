@@ -0,0 +1,129 @@
+package at.doml.restinfo.writer;
+
+import org.junit.Test;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ContentHashedStylesheetProviderTest {
+
+    //
+    // CONSTANTS
+    //
+    private static final String CSS = "body { margin: 0; }";
+
+    //
+    // TEST VARIABLES
+    //
+    private final ContentHashedStylesheetProvider provider = new ContentHashedStylesheetProvider("/api/", CSS);
+
+    //
+    // TESTS
+    //
+    @Test
+    public void pathShouldDependOnStylesheetContent() {
+        String path = this.provider.getPath();
+
+        assertTrue("incorrect path: " + path, path.matches("/api/restinfo-[0-9a-f]{16}\\.css"));
+        assertEquals("same content should have same path", path,
+                new ContentHashedStylesheetProvider("/api", CSS).getPath());
+        assertNotEquals("different content should have different path", path,
+                new ContentHashedStylesheetProvider("/api", CSS + ' ').getPath());
+    }
+
+    @Test
+    public void writeStylesheetShouldWriteLinkToHashedPath() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        this.provider.writeStylesheet(builder);
+
+        assertEquals("incorrect link",
+                "<link rel=\"stylesheet\" type=\"text/css\" href=\"" + this.provider.getPath() + "\">\n",
+                builder.toString());
+    }
+
+    @Test
+    public void handleRequestShouldServeStylesheetWithImmutableCacheHeaders() throws IOException {
+        HttpServletRequest request = request(this.provider.getPath(), null);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        when(response.getOutputStream()).thenReturn(servletOutputStream(content));
+
+        this.provider.handleRequest(request, response);
+
+        verify(response).setHeader("Cache-Control", "public, max-age=31536000, immutable");
+        verify(response).setContentType("text/css;charset=UTF-8");
+        assertArrayEquals("incorrect content", CSS.getBytes(StandardCharsets.UTF_8), content.toByteArray());
+    }
+
+    @Test
+    public void handleRequestShouldNotServeStylesheetForMatchingEntityTag() throws IOException {
+        String hash = this.provider.getPath().replaceAll(".*restinfo-|\\.css", "");
+        HttpServletRequest request = request(this.provider.getPath(), '"' + hash + '"');
+        HttpServletResponse response = mock(HttpServletResponse.class);
+
+        this.provider.handleRequest(request, response);
+
+        verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(response, never()).getOutputStream();
+    }
+
+    @Test
+    public void handleRequestShouldRejectOutdatedStylesheets() throws IOException {
+        HttpServletRequest request = request("/api/restinfo-0000000000000000.css", null);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+
+        this.provider.handleRequest(request, response);
+
+        verify(response).sendError(HttpServletResponse.SC_NOT_FOUND);
+        verify(response, never()).setContentLength(anyInt());
+    }
+
+    @Test
+    public void internalStylesheetProviderShouldWriteSameStylesheetToAllOutputs() throws IOException {
+        StylesheetProvider internalProvider = new InternalStylesheetProvider("b { color: \"€\"; }");
+        StringBuilder builder = new StringBuilder();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Utf8Appendable appendable = new Utf8Appendable(outputStream, Collections.emptyMap());
+
+        internalProvider.writeStylesheet(builder);
+        internalProvider.writeStylesheet(appendable);
+        appendable.flush();
+
+        assertEquals("incorrect stylesheet", "<style>\nb { color: \"€\"; }\n</style>\n", builder.toString());
+        assertEquals("same stylesheet is expected", builder.toString(),
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static HttpServletRequest request(String uri, String ifNoneMatch) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRequestURI()).thenReturn(uri);
+        when(request.getHeader("If-None-Match")).thenReturn(ifNoneMatch);
+        return request;
+    }
+
+    private static ServletOutputStream servletOutputStream(ByteArrayOutputStream content) {
+        return new ServletOutputStream() {
+
+            @Override
+            public void write(int b) {
+                content.write(b);
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package at.doml.restinfo.writer;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+public final class CssClassNamesTest {
+
+    //
+    // TESTS
+    //
+    @Test
+    public void compactShouldMapTypeTreeClassNames() {
+        assertEquals("incorrect compact class name", "k", CssClassNames.compact(CssClassNames.KEYWORD));
+        assertEquals("incorrect compact class name", "n", CssClassNames.compact(CssClassNames.NUMBER));
+        assertEquals("incorrect compact class name", "s", CssClassNames.compact(CssClassNames.STRING));
+        assertEquals("incorrect compact class name", "p", CssClassNames.compact(CssClassNames.PROPERTY));
+        assertEquals("other class names should not change", "container", CssClassNames.compact("container"));
+    }
+
+    @Test
+    public void compactStylesheetShouldRenameClassesAndRemoveWhitespace() {
+        String css = "body {\n    margin: 0;\n}\n\nb.keyword,\nb.string-like {\n    color: #000080;\n}\n\n"
+                + ".container {\n    left: 12.5%;\n    width: calc(75% - 40pt);\n}\n";
+
+        assertEquals("incorrect compact stylesheet",
+                "body{margin:0}b.k,b.string-like{color:#000080}.container{left:12.5%;width:calc(75% - 40pt)}",
+                CssClassNames.compactStylesheet(css));
+    }
+}
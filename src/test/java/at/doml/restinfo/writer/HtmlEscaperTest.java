@@ -0,0 +1,39 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.type.TypeInformation;
+import org.junit.Test;
+import java.io.IOException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public final class HtmlEscaperTest {
+
+    //
+    // TESTS
+    //
+    @Test
+    public void appendEscapedShouldEscapeHtmlSpecialCharacters() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        HtmlEscaper.appendEscaped(builder, "a<b>&\"c\"'d'é");
+
+        assertEquals("incorrectly escaped value", "a&lt;b&gt;&amp;&quot;c&quot;&#39;d&#39;é", builder.toString());
+    }
+
+    @Test
+    public void escapeShouldReturnSameInstanceWhenNothingIsEscaped() {
+        String value = "fieldName";
+        assertSame("same instance is expected", value, HtmlEscaper.escape(value));
+    }
+
+    @Test
+    public void appendEscapedShouldEscapeTypeInformation() throws IOException {
+        TypeInformation typeInformation = new TypeInformation("Map", new TypeInformation[] {
+                new TypeInformation("String", new TypeInformation[0], 0),
+                new TypeInformation("Integer", new TypeInformation[0], 1)
+        }, 0);
+        StringBuilder builder = new StringBuilder();
+        HtmlEscaper.appendEscaped(builder, typeInformation.toString());
+
+        assertEquals("incorrectly escaped type", "Map&lt;String, Integer[]&gt;", builder.toString());
+    }
+}
@@ -0,0 +1,49 @@
+package at.doml.restinfo.writer;
+
+import org.junit.Test;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import static org.junit.Assert.assertEquals;
+
+public final class HtmlEscapingAppendableTest {
+
+    //
+    // TESTS
+    //
+    @Test
+    public void htmlEscapingAppendableShouldEscapeAppendedCharacters() throws IOException {
+        StringBuilder builder = new StringBuilder();
+
+        new HtmlEscapingAppendable(builder)
+                .append("List<String>")
+                .append('&')
+                .append(CharBuffer.wrap("x\"'y>z"), 1, 5)
+                .append(null);
+
+        assertEquals("incorrect output", "List&lt;String&gt;&amp;&quot;&#39;y&gt;null", builder.toString());
+    }
+
+    @Test
+    public void retargetShouldEscapeFurtherOutputIntoNewTarget() throws IOException {
+        StringBuilder first = new StringBuilder();
+        StringBuilder second = new StringBuilder();
+        HtmlEscapingAppendable appendable = new HtmlEscapingAppendable(first);
+
+        appendable.append("<a>");
+        appendable.retarget(second);
+        appendable.append("<b>");
+
+        assertEquals("incorrect output", "&lt;a&gt;", first.toString());
+        assertEquals("incorrect output", "&lt;b&gt;", second.toString());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void retargetShouldThrowExceptionForNullTarget() {
+        new HtmlEscapingAppendable(new StringBuilder()).retarget(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void htmlEscapingAppendableShouldThrowExceptionForNullTarget() {
+        new HtmlEscapingAppendable(null);
+    }
+}
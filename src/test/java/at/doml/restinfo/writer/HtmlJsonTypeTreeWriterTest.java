@@ -2,9 +2,13 @@ package at.doml.restinfo.writer;
 
 import at.doml.restinfo.type.SimpleType;
 import at.doml.restinfo.type.TypeInformation;
+import at.doml.restinfo.type.TypeTreeGenerator;
 import org.junit.Assert;
 import org.junit.Test;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
 import static org.junit.Assert.assertEquals;
 
 public final class HtmlJsonTypeTreeWriterTest {
@@ -149,6 +153,93 @@ public final class HtmlJsonTypeTreeWriterTest {
         this.assertHtml(UNKNOWN_HTML);
     }
 
+    @Test
+    public void writerShouldEscapeNamesAndGenericTypes() throws IOException {
+        this.writer.writeCustom(new TypeInformation("List", new TypeInformation[] {
+                new TypeInformation("String", new TypeInformation[0], 0)
+        }, 0));
+        this.assertHtml("List&lt;String&gt;");
+
+        this.writer.writeBeforeComplexField("a<b>");
+        this.assertHtml("\"a&lt;b&gt;\": ");
+    }
+
+    @Test
+    public void resetShouldClearStateAndWriteToNewAppendable() throws IOException {
+        StringWriter first = new StringWriter();
+        StringWriter second = new StringWriter();
+        HtmlJsonTypeTreeWriter writer = new HtmlJsonTypeTreeWriter(first);
+
+        writer.visitBeforeAllComplexFields();
+        writer.visitBeforeComplexField("a");
+        writer.reset(second);
+        writer.visitSimple(SimpleType.INT);
+
+        assertEquals("pending output should be written to previous appendable", "{\n    \"a\": ", first.toString());
+        assertEquals("provided html is not correct", NUMBER_HTML, second.toString());
+        assertEquals("indent level should be reset", 0, writer.indentLevel);
+    }
+
+    @Test
+    public void indentShouldWriteCorrectNumberOfSpaces() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        HtmlJsonTypeTreeWriter writer = new HtmlJsonTypeTreeWriter(builder, 3);
+
+        for (int level = 0; level < 300; level++) {
+            builder.setLength(0);
+            writer.indentLevel = level;
+            writer.indent();
+
+            StringBuilder expected = new StringBuilder();
+
+            for (int i = 0; i < level * 3; i++) {
+                expected.append(' ');
+            }
+
+            assertEquals("incorrect indentation for level " + level, expected.toString(), builder.toString());
+        }
+    }
+
+    @Test
+    public void compactWriterShouldWriteHtmlWithoutWhitespace() {
+        HtmlJsonTypeTreeWriter compactWriter = new HtmlJsonTypeTreeWriter(this.builder, 4, true);
+        new TypeTreeGenerator(TypeTreeGenerator.MethodFieldExtraction.NONE)
+                .generateTree(CompactSample.class)
+                .accept(compactWriter);
+
+        assertEquals("provided html is not correct",
+                "{\"values\":{<b class=\"s\">\"string\"</b>:[<b class=\"k\">true</b>|<b class=\"k\">false</b>"
+                        + ",...],...}}",
+                this.builder.toString());
+    }
+
+    @Test
+    public void compactWriterShouldSeparateComplexFields() throws IOException {
+        HtmlJsonTypeTreeWriter compactWriter = new HtmlJsonTypeTreeWriter(this.builder, 4, true);
+        compactWriter.writeBeforeAllComplexFields();
+        compactWriter.writeBeforeComplexField("a");
+        compactWriter.writeSimple(SimpleType.INT);
+        compactWriter.writeAfterComplexField("a");
+        compactWriter.writeBeforeComplexField("b");
+        compactWriter.writeEnum(TestEnum.values());
+        compactWriter.writeAfterComplexField("b");
+        compactWriter.writeAfterAllComplexFields();
+
+        this.assertHtml("{\"a\":<b class=\"n\">0</b>,\"b\":<b class=\"k\">enum</b>(A,B,C)}");
+    }
+
+    @Test
+    public void prettyWriterShouldNotSeparateComplexFieldsWithCommas() throws IOException {
+        this.writer.writeBeforeAllComplexFields();
+        this.writer.writeBeforeComplexField("a");
+        this.writer.writeAfterComplexField("a");
+        this.writer.writeBeforeComplexField("b");
+        this.writer.writeAfterComplexField("b");
+        this.writer.writeAfterAllComplexFields();
+
+        this.assertHtml("{\n    \"a\": \n    \"b\": \n}");
+    }
+
     @Test
     public void allShouldVisitMethodsShouldReturnTrue() {
         assertTrue(this.writer.shouldVisitArrayElementType());
@@ -171,6 +262,11 @@ public final class HtmlJsonTypeTreeWriterTest {
         C
     }
 
+    @SuppressWarnings("unused")
+    private static final class CompactSample {
+        public Map<String, List<Boolean>> values;
+    }
+
     //
     // ASSERTIONS
     //
@@ -0,0 +1,160 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.type.SimpleType;
+import at.doml.restinfo.type.TypeInformation;
+import at.doml.restinfo.type.TypeTreeGenerator;
+import at.doml.restinfo.type.VisitableType;
+import org.junit.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class JsonExampleTypeTreeWriterTest {
+
+    //
+    // CONSTANTS
+    //
+    private static final TypeInformation TEST_TYPE_INFORMATION = new TypeInformation(
+            "int", new TypeInformation[0], 1
+    );
+
+    //
+    // TEST VARIABLES
+    //
+    private final StringBuilder builder = new StringBuilder();
+    private final JsonExampleTypeTreeWriter writer = new JsonExampleTypeTreeWriter(this.builder);
+
+    //
+    // TESTS
+    //
+    @Test
+    public void writeSimpleShouldWriteCorrectJson() throws IOException {
+        this.writer.writeSimple(SimpleType.INT);
+        this.assertJson("0");
+        this.writer.writeSimple(SimpleType.BOXED_LONG);
+        this.assertJson("0");
+        this.writer.writeSimple(SimpleType.DOUBLE);
+        this.assertJson("0.0");
+        this.writer.writeSimple(SimpleType.CHAR);
+        this.assertJson("\"c\"");
+        this.writer.writeSimple(SimpleType.STRING);
+        this.assertJson("\"string\"");
+        this.writer.writeSimple(SimpleType.BOOLEAN);
+        this.assertJson("true");
+        this.writer.writeSimple(SimpleType.OBJECT);
+        this.assertJson("{}");
+        this.writer.writeSimple(SimpleType.VOID);
+        this.assertJson("null");
+    }
+
+    @Test
+    public void writeEnumShouldWriteFirstConstant() throws IOException {
+        this.writer.writeEnum(TestEnum.values());
+        this.assertJson("\"A\"");
+        this.writer.writeEnum(new Enum<?>[0]);
+        this.assertJson("null");
+    }
+
+    @Test
+    public void writeCustomAndUnknownShouldWriteTypeNameAsString() throws IOException {
+        this.writer.writeCustom(TEST_TYPE_INFORMATION);
+        this.assertJson("\"int[]\"");
+        this.writer.writeUnknown(TEST_TYPE_INFORMATION);
+        this.assertJson("\"int[]\"");
+    }
+
+    @Test
+    public void writeStringShouldEscapeSpecialCharacters() throws IOException {
+        this.writer.writeString("a\"b\\c\nd\u0001");
+        this.assertJson("\"a\\\"b\\\\c\\nd\\u0001\"");
+    }
+
+    @Test
+    public void compactWriterShouldWriteNestedTypes() {
+        this.generate(NestedClass.class).accept(this.writer);
+        this.assertJson("{\"values\":{\"key\":[[0]]}}");
+    }
+
+    @Test
+    public void compactWriterShouldSeparateComplexFields() {
+        this.generate(TwoFieldClass.class).accept(this.writer);
+        String json = this.builder.toString();
+
+        assertTrue("unexpected json: " + json, Arrays.asList(
+                "{\"first\":\"string\",\"second\":{}}",
+                "{\"second\":{},\"first\":\"string\"}"
+        ).contains(json));
+    }
+
+    @Test
+    public void prettyWriterShouldIndentNestedTypes() {
+        JsonExampleTypeTreeWriter prettyWriter = new JsonExampleTypeTreeWriter(this.builder, 2);
+        this.generate(NestedClass.class).accept(prettyWriter);
+        this.assertJson("{\n  \"values\": {\n    \"key\": [\n      [\n        0\n      ]\n    ]\n  }\n}");
+    }
+
+    @Test
+    public void writerShouldWriteEmptyComplexTypeAsEmptyObject() {
+        JsonExampleTypeTreeWriter prettyWriter = new JsonExampleTypeTreeWriter(this.builder, 4);
+        this.generate(EmptyClass.class).accept(prettyWriter);
+        this.assertJson("{}");
+    }
+
+    @Test
+    public void writerShouldWriteUtf8ToOutputStream() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.generate(NestedClass.class).accept(new JsonExampleTypeTreeWriter(outputStream));
+
+        assertEquals("provided json is not correct", "{\"values\":{\"key\":[[0]]}}",
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void mapKeyTypeShouldNotBeVisited() {
+        assertFalse("method should have returned 'false'", this.writer.shouldVisitMapKeyType());
+    }
+
+    //
+    // PRIVATE CLASSES
+    //
+    private enum TestEnum {
+        @SuppressWarnings("unused")
+        A,
+        @SuppressWarnings("unused")
+        B
+    }
+
+    @SuppressWarnings("unused")
+    private static final class NestedClass {
+        public Map<Integer, List<int[]>> values;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class TwoFieldClass {
+        public String first;
+        public EmptyClass second;
+    }
+
+    private static final class EmptyClass {}
+
+    //
+    // HELPER METHODS
+    //
+    private VisitableType generate(Class<?> type) {
+        return new TypeTreeGenerator(TypeTreeGenerator.MethodFieldExtraction.NONE).generateTree(type);
+    }
+
+    //
+    // ASSERTIONS
+    //
+    private void assertJson(String expectedJson) {
+        assertEquals("provided json is not correct", expectedJson, this.builder.toString());
+        this.builder.delete(0, this.builder.length());
+    }
+}
@@ -0,0 +1,185 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.type.SimpleType;
+import at.doml.restinfo.type.TypeTreeGenerator;
+import at.doml.restinfo.type.TypeTreeSamples;
+import at.doml.restinfo.type.VisitableType;
+import org.junit.Test;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import static org.junit.Assert.assertEquals;
+
+public final class JsonSchemaTypeTreeWriterTest {
+
+    //
+    // CONSTANTS
+    //
+    private static final String SCHEMA_HEADER = "{\"$schema\":\"http://json-schema.org/draft-07/schema#\"";
+
+    //
+    // TEST VARIABLES
+    //
+    private final StringBuilder builder = new StringBuilder();
+    private final JsonSchemaTypeTreeWriter writer = new JsonSchemaTypeTreeWriter(this.builder);
+
+    //
+    // TESTS
+    //
+    @Test
+    public void writerShouldWriteSimpleTypeSchemas() {
+        SimpleType.INT.accept(this.writer);
+        this.assertJson(SCHEMA_HEADER + ",\"type\":\"integer\"}");
+        SimpleType.BOXED_DOUBLE.accept(this.writer);
+        this.assertJson(SCHEMA_HEADER + ",\"type\":\"number\"}");
+        SimpleType.OBJECT.accept(this.writer);
+        this.assertJson(SCHEMA_HEADER + "}");
+        SimpleType.VOID.accept(this.writer);
+        this.assertJson(SCHEMA_HEADER + ",\"type\":\"null\"}");
+    }
+
+    @Test
+    public void writerShouldWriteEnumSchema() {
+        this.generate(EnumClass.class).accept(this.writer);
+        this.assertJson(SCHEMA_HEADER + ",\"type\":\"object\",\"properties\":{"
+                + "\"value\":{\"type\":\"string\",\"enum\":[\"A\",\"B\"]}}}");
+    }
+
+    @Test
+    public void writerShouldWriteContainerSchemas() {
+        this.generate(ContainerClass.class).accept(this.writer);
+        this.assertJson(SCHEMA_HEADER + ",\"type\":\"object\",\"properties\":{\"values\":{\"type\":\"object\","
+                + "\"additionalProperties\":{\"type\":\"array\",\"items\":{\"type\":\"array\","
+                + "\"items\":{\"type\":\"boolean\"}}}}}}");
+    }
+
+    @Test
+    public void visitingShouldWriteNestedComplexTypesInPlace() {
+        this.generate(OuterClass.class).accept(this.writer);
+        String json = this.builder.toString();
+
+        assertEquals("nested type should be written for both fields", 2, count(json, "\"properties\":{\"name\""));
+        assertEquals("nothing should be referenced", 0, count(json, "\"$ref\""));
+    }
+
+    @Test
+    public void writeShouldWriteFirstOccurrenceInPlaceAndReferenceLaterOnes() {
+        String anchor = "#type" + Long.toHexString(this.generate(InnerClass.class).structuralHash());
+        this.writer.write(this.generate(OuterClass.class));
+
+        this.assertJson(SCHEMA_HEADER + ",\"type\":\"object\",\"properties\":{\"first\":{\"$id\":\"" + anchor
+                + "\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}},"
+                + "\"second\":{\"$ref\":\"" + anchor + "\"}}}");
+    }
+
+    @Test
+    public void writeShouldReferenceOnlyRepeatedTypesOfSampleTree() {
+        this.writer.write(TypeTreeSamples.sampleTree());
+        String json = this.builder.toString();
+
+        // SampleOrder is used twice, SampleLine twice within the SampleOrder written in place
+        assertEquals("repeated types should be written once", 2,
+                count(json, "\"type\":\"object\",\"properties\":{") - 1);
+        assertEquals("repeated types should be anchored", 2, count(json, "\"$id\""));
+        assertEquals("later occurrences should be referenced", 2, count(json, "\"$ref\""));
+        assertEquals("nothing should be hoisted", 0, count(json, "\"definitions\""));
+        assertEquals("schema should be balanced", count(json, "{"), count(json, "}"));
+    }
+
+    @Test
+    public void writeShouldWriteSameSchemaAsVisitingForTreesWithoutRepeatedTypes() {
+        this.writer.write(this.generate(ContainerClass.class));
+        String written = this.builder.toString();
+        this.builder.setLength(0);
+        this.generate(ContainerClass.class).accept(this.writer);
+
+        assertEquals("same schema is expected", this.builder.toString(), written);
+    }
+
+    @Test
+    public void writerShouldStartOverForEachTypeTree() {
+        this.generate(OuterClass.class).accept(this.writer);
+        String first = this.builder.toString();
+        this.builder.setLength(0);
+        this.generate(OuterClass.class).accept(this.writer);
+
+        assertEquals("same schema is expected", first, this.builder.toString());
+    }
+
+    @Test
+    public void writeShouldStartOverForEachTypeTree() {
+        this.writer.write(this.generate(OuterClass.class));
+        String first = this.builder.toString();
+        this.builder.setLength(0);
+        this.writer.write(this.generate(OuterClass.class));
+
+        assertEquals("same schema is expected", first, this.builder.toString());
+    }
+
+    @Test
+    public void writerShouldWriteUtf8ToOutputStream() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.generate(OuterClass.class).accept(new JsonSchemaTypeTreeWriter(outputStream));
+        this.generate(OuterClass.class).accept(this.writer);
+
+        assertEquals("same schema is expected", this.builder.toString(),
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    //
+    // PRIVATE CLASSES
+    //
+    private enum TestEnum {
+        @SuppressWarnings("unused")
+        A,
+        @SuppressWarnings("unused")
+        B
+    }
+
+    @SuppressWarnings("unused")
+    private static final class EnumClass {
+        public TestEnum value;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class ContainerClass {
+        public Map<String, List<boolean[]>> values;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class InnerClass {
+        public String name;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class OuterClass {
+        public InnerClass first;
+        public InnerClass second;
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private VisitableType generate(Class<?> type) {
+        return new TypeTreeGenerator(TypeTreeGenerator.MethodFieldExtraction.NONE).generateTree(type);
+    }
+
+    private static int count(String value, String part) {
+        int count = 0;
+
+        for (int index = value.indexOf(part); index >= 0; index = value.indexOf(part, index + 1)) {
+            count++;
+        }
+
+        return count;
+    }
+
+    //
+    // ASSERTIONS
+    //
+    private void assertJson(String expectedJson) {
+        assertEquals("provided json is not correct", expectedJson, this.builder.toString());
+        this.builder.delete(0, this.builder.length());
+    }
+}
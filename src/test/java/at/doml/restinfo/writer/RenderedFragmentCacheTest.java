@@ -0,0 +1,166 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.RestApiInfo;
+import at.doml.restinfo.type.TypeTreeGenerator;
+import at.doml.restinfo.type.TypeTreeSamples;
+import at.doml.restinfo.type.VisitableType;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.RequestMethod;
+import static at.doml.restinfo.MockUtils.handlerMapping;
+import static at.doml.restinfo.MockUtils.requestMapping;
+import static org.junit.Assert.assertEquals;
+
+public final class RenderedFragmentCacheTest {
+
+    //
+    // CONSTANTS
+    //
+    private static final RestApiInfoHtmlWriterSettings.PrintSection RESPONSE_BODY =
+            RestApiInfoHtmlWriterSettings.PrintSection.RESPONSE_BODY;
+    private static final RestApiInfoHtmlWriterSettings.PrintSection PATH_VARIABLES =
+            RestApiInfoHtmlWriterSettings.PrintSection.PATH_VARIABLES;
+    private static final String FRAGMENT = "0123456789";
+    private static final long FRAGMENT_SIZE = FRAGMENT.length() * Character.BYTES;
+
+    //
+    // SAMPLE CLASSES
+    //
+    public static final class Item {
+        public String name;
+    }
+
+    public static final class Detail {
+        public int count;
+    }
+
+    //
+    // TEST VARIABLES
+    //
+    private final RestApiInfo restApiInfo = restApiInfo();
+    private final VisitableType first = TypeTreeSamples.sampleTree();
+    private final VisitableType second = new TypeTreeGenerator().generateTree(Detail.class);
+    private final RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.DEFAULT;
+
+    //
+    // TESTS
+    //
+    @Test
+    public void getOrRenderShouldRenderOnlyOnMiss() {
+        RenderedFragmentCache cache = new RenderedFragmentCache(1024);
+
+        cache.getOrRender(this.first, RESPONSE_BODY, this.settings, () -> FRAGMENT);
+        String cached = cache.getOrRender(this.first, RESPONSE_BODY, this.settings, () -> "other");
+        cache.getOrRender(this.first, PATH_VARIABLES, this.settings, () -> FRAGMENT);
+        cache.getOrRender(this.first, RESPONSE_BODY, RestApiInfoHtmlWriterSettings.builder()
+                .indentSpacing(2)
+                .build(), () -> FRAGMENT);
+
+        assertEquals("cached fragment is expected", FRAGMENT, cached);
+        assertEquals("incorrect hit count", 1, cache.getHitCount());
+        assertEquals("incorrect miss count", 3, cache.getMissCount());
+        assertEquals("incorrect size", 3 * FRAGMENT_SIZE, cache.getSizeInBytes());
+    }
+
+    @Test
+    public void cacheShouldEvictLeastRecentlyUsedFragmentsOverBudget() {
+        RenderedFragmentCache cache = new RenderedFragmentCache(2 * FRAGMENT_SIZE);
+
+        cache.getOrRender(this.first, RESPONSE_BODY, this.settings, () -> FRAGMENT);
+        cache.getOrRender(this.second, RESPONSE_BODY, this.settings, () -> FRAGMENT);
+        cache.getOrRender(this.first, RESPONSE_BODY, this.settings, () -> FRAGMENT);
+        cache.getOrRender(this.first, PATH_VARIABLES, this.settings, () -> FRAGMENT);
+        cache.getOrRender(this.first, RESPONSE_BODY, this.settings, () -> FRAGMENT);
+
+        assertEquals("incorrect eviction count", 1, cache.getEvictionCount());
+        assertEquals("recently used fragments should be kept", 2, cache.getHitCount());
+        assertEquals("incorrect size", 2 * FRAGMENT_SIZE, cache.getSizeInBytes());
+    }
+
+    @Test
+    public void cacheShouldNotKeepFragmentsLargerThanBudget() {
+        RenderedFragmentCache cache = new RenderedFragmentCache(FRAGMENT_SIZE - 1);
+
+        cache.getOrRender(this.first, RESPONSE_BODY, this.settings, () -> FRAGMENT);
+        cache.getOrRender(this.first, RESPONSE_BODY, this.settings, () -> FRAGMENT);
+
+        assertEquals("fragment should not be cached", 2, cache.getMissCount());
+        assertEquals("incorrect size", 0, cache.getSizeInBytes());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cacheShouldThrowExceptionForNegativeBudget() {
+        new RenderedFragmentCache(-1);
+    }
+
+    @Test
+    public void documentWriterShouldAssembleDocumentFromCachedFragments() {
+        RenderedFragmentCache cache = new RenderedFragmentCache(1024 * 1024);
+        RestApiInfoHtmlWriterSettings cachingSettings = RestApiInfoHtmlWriterSettings.builder()
+                .printSection(RESPONSE_BODY)
+                .printSection(PATH_VARIABLES)
+                .fragmentCache(cache)
+                .build();
+        String expected = write(RestApiInfoHtmlWriterSettings.builder()
+                .printSection(RESPONSE_BODY)
+                .printSection(PATH_VARIABLES)
+                .build());
+
+        assertEquals("same document is expected", expected, write(cachingSettings));
+        assertEquals("same document is expected", expected, write(cachingSettings));
+        // both endpoints respond with the same type, so its fragment is rendered only once
+        assertEquals("incorrect miss count", 2, cache.getMissCount());
+        assertEquals("incorrect hit count", 4, cache.getHitCount());
+    }
+
+    @Test
+    public void fragmentsShouldBeReusedAcrossEqualSettingsAndRegeneratedApiInfo() {
+        RenderedFragmentCache cache = new RenderedFragmentCache(1024 * 1024);
+
+        for (int i = 0; i < 2; i++) {
+            StringBuilder builder = new StringBuilder();
+            new RestApiInfoHtmlWriter(builder, RestApiInfoHtmlWriterSettings.builder()
+                    .printSection(RESPONSE_BODY)
+                    .typeTreeWriterConstructor(HtmlJsonTypeTreeWriter::new)
+                    .fragmentCache(cache)
+                    .build()).write(restApiInfo());
+        }
+
+        assertEquals("incorrect miss count", 1, cache.getMissCount());
+        assertEquals("incorrect hit count", 3, cache.getHitCount());
+    }
+
+    @Test
+    public void fragmentsShouldNotBeSharedBetweenWriterConstructorsWithDifferentState() {
+        RenderedFragmentCache cache = new RenderedFragmentCache(1024);
+
+        for (int indentSpacing : new int[] {2, 8}) {
+            RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.builder()
+                    .typeTreeWriterConstructor((appendable, ignored) -> new HtmlJsonTypeTreeWriter(
+                            appendable, indentSpacing
+                    ))
+                    .build();
+            cache.getOrRender(this.first, RESPONSE_BODY, settings, () -> FRAGMENT);
+        }
+
+        assertEquals("incorrect miss count", 2, cache.getMissCount());
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static RestApiInfo restApiInfo() {
+        return new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/first")
+                        .pathVariable("id", int.class)
+                        .responseBody(Item.class))
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/second")
+                        .responseBody(Item.class))
+                .build());
+    }
+
+    private String write(RestApiInfoHtmlWriterSettings writerSettings) {
+        StringBuilder builder = new StringBuilder();
+        new RestApiInfoHtmlWriter(builder, writerSettings).write(this.restApiInfo);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,138 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.RestApiInfo;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.RequestMethod;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import static at.doml.restinfo.MockUtils.handlerMapping;
+import static at.doml.restinfo.MockUtils.requestMapping;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class RestApiInfoHtmlDocumentTest {
+
+    //
+    // SAMPLE CLASSES
+    //
+    public static final class Item {
+        public String name;
+    }
+
+    //
+    // TEST VARIABLES
+    //
+    private final RestApiInfo restApiInfo = new RestApiInfo(handlerMapping()
+            .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/items/{id}")
+                    .pathVariable("id", int.class)
+                    .responseBody(Item.class))
+            .build());
+    private final RestApiInfoHtmlDocument document = new RestApiInfoHtmlDocument(this.restApiInfo);
+
+    //
+    // TESTS
+    //
+    @Test
+    public void documentShouldContainRenderedHtmlAndItsGzipVariant() throws IOException {
+        StringBuilder expected = new StringBuilder();
+        new RestApiInfoHtmlWriter(expected).write(this.restApiInfo);
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        ByteArrayOutputStream gzipContent = new ByteArrayOutputStream();
+
+        this.document.writeContent(content);
+        this.document.writeGzipContent(gzipContent);
+
+        assertEquals("incorrect content", expected.toString(),
+                new String(content.toByteArray(), StandardCharsets.UTF_8));
+        assertArrayEquals("gzip variant should contain same content", content.toByteArray(),
+                gunzip(gzipContent.toByteArray()));
+        assertTrue("gzip variant should be smaller",
+                this.document.getGzipContentLength() < this.document.getContentLength());
+    }
+
+    @Test
+    public void handleRequestShouldServeGzipVariantWhenAccepted() throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpServletResponse response = response(body);
+
+        this.document.handleRequest(request("deflate, gzip;q=0.8"), response);
+
+        verify(response).setHeader("Content-Encoding", "gzip");
+        verify(response).setHeader("Vary", "Accept-Encoding");
+        verify(response).setContentLength(this.document.getGzipContentLength());
+        assertEquals("gzip variant should be written", this.document.getGzipContentLength(), body.size());
+    }
+
+    @Test
+    public void handleRequestShouldServeUncompressedContentOtherwise() throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpServletResponse response = response(body);
+
+        this.document.handleRequest(request(null), response);
+
+        verify(response, never()).setHeader(eq("Content-Encoding"), anyString());
+        verify(response).setContentType("text/html;charset=UTF-8");
+        assertEquals("uncompressed content should be written", this.document.getContentLength(), body.size());
+    }
+
+    @Test
+    public void acceptsGzipShouldRespectQualityValues() {
+        assertTrue(RestApiInfoHtmlDocument.acceptsGzip("gzip"));
+        assertTrue(RestApiInfoHtmlDocument.acceptsGzip("br, GZIP ; q=0.5"));
+        assertTrue(RestApiInfoHtmlDocument.acceptsGzip("*"));
+        assertFalse(RestApiInfoHtmlDocument.acceptsGzip(null));
+        assertFalse(RestApiInfoHtmlDocument.acceptsGzip("identity, deflate"));
+        assertFalse(RestApiInfoHtmlDocument.acceptsGzip("gzip;q=0"));
+        assertFalse(RestApiInfoHtmlDocument.acceptsGzip("gzip;q=0.0, *"));
+        assertFalse(RestApiInfoHtmlDocument.acceptsGzip("*;q=0"));
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static HttpServletRequest request(String acceptEncoding) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getHeader("Accept-Encoding")).thenReturn(acceptEncoding);
+        return request;
+    }
+
+    private static HttpServletResponse response(ByteArrayOutputStream body) throws IOException {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+        });
+        return response;
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            byte[] buffer = new byte[4096];
+
+            for (int read = gzipStream.read(buffer); read >= 0; read = gzipStream.read(buffer)) {
+                content.write(buffer, 0, read);
+            }
+        }
+
+        return content.toByteArray();
+    }
+}
@@ -1,11 +1,17 @@
 package at.doml.restinfo.writer;
 
+import at.doml.restinfo.type.SimpleType;
+import at.doml.restinfo.type.TypeTreeTraversal;
 import org.junit.Test;
+import java.io.IOException;
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public final class RestApiInfoHtmlWriterSettingsTest {
@@ -72,11 +78,114 @@ public final class RestApiInfoHtmlWriterSettingsTest {
         assertSameObjects(typeTreeWriterConstructor, settings.typeTreeWriterConstructor);
     }
 
+    @Test
+    public void restApiInfoHtmlWriterSettingsBuilderShouldAcceptJsonExampleTypeTreeWriterConstructor() {
+        RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.builder()
+                .typeTreeWriterConstructor(JsonExampleTypeTreeWriter::new)
+                .build();
+
+        assertEquals("writer of the configured type is expected", JsonExampleTypeTreeWriter.class,
+                settings.typeTreeWriterConstructor.apply(new StringBuilder(), 0).getClass());
+    }
+
     @Test(expected = NullPointerException.class)
     public void restApiInfoHtmlWriterSettingsBuilderShouldThrowExceptionForNullTypeTreeWriterConstructor() {
         RestApiInfoHtmlWriterSettings.builder().typeTreeWriterConstructor(null);
     }
 
+    @Test
+    public void restApiInfoHtmlWriterSettingsBuilderShouldSetCorrectTypeTreeTraversal() {
+        RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.builder()
+                .typeTreeTraversal(TypeTreeTraversal.ITERATIVE)
+                .build();
+
+        assertSameObjects(TypeTreeTraversal.ITERATIVE, settings.typeTreeTraversal);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void restApiInfoHtmlWriterSettingsBuilderShouldThrowExceptionForNullTypeTreeTraversal() {
+        RestApiInfoHtmlWriterSettings.builder().typeTreeTraversal(null);
+    }
+
+    @Test
+    public void restApiInfoHtmlWriterSettingsBuilderShouldUseCompactDefaultsForCompactRenderingMode()
+            throws IOException {
+        RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.builder()
+                .renderingMode(RestApiInfoHtmlWriterSettings.RenderingMode.COMPACT)
+                .build();
+        StringBuilder stylesheet = new StringBuilder();
+        StringBuilder html = new StringBuilder();
+
+        settings.stylesheetProvider.writeStylesheet(stylesheet);
+        settings.typeTreeWriterConstructor.apply(html, 4).visitSimple(SimpleType.INT);
+
+        assertSameObjects(RestApiInfoHtmlWriterSettings.RenderingMode.COMPACT, settings.renderingMode);
+        assertTrue("stylesheet should use compact class names", stylesheet.toString().contains("b.n{"));
+        assertEquals("writer should use compact class names", "<b class=\"n\">0</b>", html.toString());
+    }
+
+    @Test
+    public void restApiInfoHtmlWriterSettingsBuilderShouldPreferExplicitStylesheetProviderInCompactRenderingMode() {
+        StylesheetProvider stylesheetProvider = ignored -> {};
+        RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.builder()
+                .stylesheetProvider(stylesheetProvider)
+                .renderingMode(RestApiInfoHtmlWriterSettings.RenderingMode.COMPACT)
+                .build();
+
+        assertSameObjects(stylesheetProvider, settings.stylesheetProvider);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void restApiInfoHtmlWriterSettingsBuilderShouldThrowExceptionForNullRenderingMode() {
+        RestApiInfoHtmlWriterSettings.builder().renderingMode(null);
+    }
+
+    @Test
+    public void restApiInfoHtmlWriterSettingsBuilderShouldSetCorrectParallelRendering() {
+        ForkJoinPool renderingPool = ForkJoinPool.commonPool();
+        RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.builder()
+                .parallelRendering(renderingPool, 8)
+                .build();
+
+        assertSameObjects(renderingPool, settings.renderingPool);
+        assertEquals("same values are expected", 8, settings.maxSectionsInFlight);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void restApiInfoHtmlWriterSettingsBuilderShouldThrowExceptionForNonPositiveMaxSectionsInFlight() {
+        RestApiInfoHtmlWriterSettings.builder().parallelRendering(ForkJoinPool.commonPool(), 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void restApiInfoHtmlWriterSettingsBuilderShouldThrowExceptionForNullRenderingPool() {
+        RestApiInfoHtmlWriterSettings.builder().parallelRendering(null, 1);
+    }
+
+    @Test
+    public void restApiInfoHtmlWriterSettingsBuilderShouldSetCorrectFragmentCache() {
+        RenderedFragmentCache fragmentCache = new RenderedFragmentCache(1024);
+        RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.builder()
+                .fragmentCache(fragmentCache)
+                .build();
+
+        assertSameObjects(fragmentCache, settings.fragmentCache);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void restApiInfoHtmlWriterSettingsBuilderShouldThrowExceptionForNullFragmentCache() {
+        RestApiInfoHtmlWriterSettings.builder().fragmentCache(null);
+    }
+
+    @Test
+    public void restApiInfoHtmlWriterSettingsBuilderShouldSetCorrectSearchIndex() {
+        RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.builder()
+                .searchIndex(true)
+                .build();
+
+        assertTrue("search index should be enabled", settings.searchIndex);
+        assertFalse("search index should be disabled by default", RestApiInfoHtmlWriterSettings.DEFAULT.searchIndex);
+    }
+
     //
     // ASSERTIONS
     //
@@ -0,0 +1,223 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.MockUtils;
+import at.doml.restinfo.RestApiInfo;
+import at.doml.restinfo.RestApiInfoSettings;
+import at.doml.restinfo.type.TypeTreeGenerator;
+import at.doml.restinfo.type.TypeTreeTraversal;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.RequestMethod;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static at.doml.restinfo.MockUtils.handlerMapping;
+import static at.doml.restinfo.MockUtils.requestMapping;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class RestApiInfoHtmlWriterTest {
+
+    //
+    // SAMPLE CLASSES
+    //
+    public static final class Item {
+        public String name;
+    }
+
+    public static final class Page<T> {
+        public List<T> content;
+    }
+
+    public static final class PagedItems {
+        public Page<String> names;
+    }
+
+    //
+    // TESTS
+    //
+    @Test
+    public void writeShouldWriteCompleteDocument() {
+        String html = write(sampleRestApiInfo(), RestApiInfoHtmlWriterSettings.DEFAULT);
+        StringBuilder itemHtml = new StringBuilder();
+        new TypeTreeGenerator().generateTree(Item.class).accept(new HtmlJsonTypeTreeWriter(itemHtml));
+
+        assertTrue("incorrect document start: " + html,
+                html.startsWith("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n<style>\n"));
+        assertTrue("incorrect document end: " + html, html.endsWith("</div>\n</body>\n</html>\n"));
+        assertTrue("api section heading is missing: " + html,
+                html.contains("<div class=\"container\">\n<h1>void</h1>\n"));
+        assertTrue("controller header is missing: " + html, html.contains(
+                "<div class=\"header\"><span class=\"header-field method\">GET</span>"
+                        + "<span class=\"header-field url\">/items/{id}</span></div>\n"
+        ));
+        assertTrue("response body row is missing: " + html, html.contains(
+                "<div class=\"row\"><div class=\"row-field attribute\">Response body</div>"
+                        + "<div class=\"row-field\"><pre>" + itemHtml + "</pre></div></div>\n"
+        ));
+        assertTrue("mapping without request method should be written as any: " + html,
+                html.contains("<span class=\"header-field method\">ANY</span>"));
+    }
+
+    @Test
+    public void writeShouldWriteOnlySelectedPrintSections() {
+        String html = write(sampleRestApiInfo(), RestApiInfoHtmlWriterSettings.builder()
+                .printSection(RestApiInfoHtmlWriterSettings.PrintSection.PATH_VARIABLES)
+                .build());
+
+        assertTrue("path variables should be written: " + html, html.contains(">Path variables<"));
+        assertFalse("response body should not be written: " + html, html.contains(">Response body<"));
+    }
+
+    @Test
+    public void writeShouldWriteSameDocumentToAllOutputs() {
+        RestApiInfo restApiInfo = sampleRestApiInfo();
+        String expected = write(restApiInfo, RestApiInfoHtmlWriterSettings.DEFAULT);
+        StringWriter writer = new StringWriter();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        new RestApiInfoHtmlWriter(writer).write(restApiInfo);
+        new RestApiInfoHtmlWriter(outputStream).write(restApiInfo);
+
+        assertEquals("same document is expected", expected, writer.toString());
+        assertEquals("same document is expected", expected,
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeShouldWriteSameDocumentWithCompiledTypeTreeTraversal() {
+        RestApiInfo restApiInfo = sampleRestApiInfo();
+        RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.builder()
+                .printSection(RestApiInfoHtmlWriterSettings.PrintSection.REQUEST_BODY)
+                .printSection(RestApiInfoHtmlWriterSettings.PrintSection.RESPONSE_BODY)
+                .printSection(RestApiInfoHtmlWriterSettings.PrintSection.PATH_VARIABLES)
+                .printSection(RestApiInfoHtmlWriterSettings.PrintSection.MODEL_ATTRIBUTES)
+                .typeTreeTraversal(TypeTreeTraversal.COMPILED)
+                .build();
+        String expected = write(restApiInfo, RestApiInfoHtmlWriterSettings.DEFAULT);
+
+        assertEquals("same document is expected", expected, write(restApiInfo, settings));
+        assertEquals("same document is expected on repeated rendering", expected, write(restApiInfo, settings));
+    }
+
+    @Test
+    public void writeShouldNotFlushOutputStreamAfterEveryTypeTree() {
+        List<Integer> writes = new ArrayList<>();
+        OutputStream outputStream = new OutputStream() {
+
+            @Override
+            public void write(int b) {
+                writes.add(1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                writes.add(len);
+            }
+        };
+
+        new RestApiInfoHtmlWriter(outputStream, RestApiInfoHtmlWriterSettings.builder()
+                .stylesheetProvider(ignored -> {})
+                .printSection(RestApiInfoHtmlWriterSettings.PrintSection.RESPONSE_BODY)
+                .printSection(RestApiInfoHtmlWriterSettings.PrintSection.PATH_VARIABLES)
+                .build()).write(sampleRestApiInfo());
+
+        assertEquals("small document should be written at once: " + writes, 1, writes.size());
+    }
+
+    @Test
+    public void parallelRenderingShouldWriteSectionsInOriginalOrder() {
+        MockUtils.RequestMappingHandlerMappingBuilder handlerMapping = handlerMapping();
+        Class<?>[] beanTypes = {Item.class, String.class, Integer.class, Long.class, Double.class, Boolean.class};
+
+        for (int i = 0; i < 60; i++) {
+            handlerMapping.handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/items/" + i)
+                    .beanType(beanTypes[i % beanTypes.length])
+                    .pathVariable("id", int.class)
+                    .responseBody(Item.class));
+        }
+
+        RestApiInfo restApiInfo = new RestApiInfo(handlerMapping.build());
+        String expected = write(restApiInfo, RestApiInfoHtmlWriterSettings.DEFAULT);
+        ForkJoinPool renderingPool = new ForkJoinPool(4);
+
+        try {
+            String actual = write(restApiInfo, RestApiInfoHtmlWriterSettings.builder()
+                    .printSection(RestApiInfoHtmlWriterSettings.PrintSection.REQUEST_BODY)
+                    .printSection(RestApiInfoHtmlWriterSettings.PrintSection.RESPONSE_BODY)
+                    .printSection(RestApiInfoHtmlWriterSettings.PrintSection.PATH_VARIABLES)
+                    .printSection(RestApiInfoHtmlWriterSettings.PrintSection.MODEL_ATTRIBUTES)
+                    .parallelRendering(renderingPool, 2)
+                    .build());
+
+            assertEquals("same document is expected", expected, actual);
+        } finally {
+            renderingPool.shutdown();
+        }
+    }
+
+    @Test
+    public void writeShouldEmbedSearchIndexAndEndpointAnchorsWhenEnabled() {
+        String html = write(sampleRestApiInfo(), RestApiInfoHtmlWriterSettings.builder()
+                .printSection(RestApiInfoHtmlWriterSettings.PrintSection.RESPONSE_BODY)
+                .searchIndex(true)
+                .build());
+        StringBuilder searchIndex = new StringBuilder();
+        new SearchIndex(sampleRestApiInfo(), RestApiInfoHtmlWriterSettings.builder()
+                .printSection(RestApiInfoHtmlWriterSettings.PrintSection.RESPONSE_BODY)
+                .build()).writeJson(searchIndex);
+
+        assertTrue("search box is missing: " + html, html.contains("<input type=\"search\" id=\"restinfo-search\""));
+        assertTrue("endpoint anchors are missing: " + html, html.contains("<div class=\"header\" id=\"endpoint-0\">"));
+        assertTrue("endpoint anchors are missing: " + html, html.contains("<div class=\"header\" id=\"endpoint-1\">"));
+        assertTrue("search index is missing: " + html, html.contains(
+                "<script type=\"application/json\" id=\"restinfo-search-index\">"
+                        + searchIndex.toString().replace("</", "<\\/") + "</script>\n"
+        ));
+        assertFalse("anchors should not be written by default",
+                write(sampleRestApiInfo(), RestApiInfoHtmlWriterSettings.DEFAULT).contains("id=\"endpoint-"));
+    }
+
+    @Test
+    public void writeShouldEscapeOutputOfPlainTextTypeTreeWriters() {
+        TypeTreeGenerator generator = new TypeTreeGenerator();
+        generator.registerCustomType(Page.class);
+        RestApiInfo restApiInfo = new RestApiInfo(RestApiInfoSettings.builder().typeTreeGenerator(generator).build(),
+                handlerMapping()
+                        .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/items")
+                                .responseBody(PagedItems.class))
+                        .build());
+
+        String html = write(restApiInfo, RestApiInfoHtmlWriterSettings.builder()
+                .printSection(RestApiInfoHtmlWriterSettings.PrintSection.RESPONSE_BODY)
+                .typeTreeWriterConstructor(JsonExampleTypeTreeWriter::new)
+                .build());
+
+        assertTrue("generic custom type should be escaped: " + html,
+                html.contains("&quot;names&quot;: &quot;" + Page.class.getName() + "&lt;java.lang.String&gt;&quot;"));
+        assertFalse("generic custom type should not be written as markup: " + html, html.contains("<java.lang"));
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static RestApiInfo sampleRestApiInfo() {
+        return new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/items/{id}")
+                        .pathVariable("id", int.class)
+                        .responseBody(Item.class))
+                .handlerMethod(requestMapping().path("/items")
+                        .requestBody(Item.class))
+                .build());
+    }
+
+    private static String write(RestApiInfo restApiInfo, RestApiInfoHtmlWriterSettings settings) {
+        StringBuilder builder = new StringBuilder();
+        new RestApiInfoHtmlWriter(builder, settings).write(restApiInfo);
+        return builder.toString();
+    }
+}
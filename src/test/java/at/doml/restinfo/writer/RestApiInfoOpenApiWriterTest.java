@@ -0,0 +1,163 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.RestApiInfo;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.RequestMethod;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import static at.doml.restinfo.MockUtils.handlerMapping;
+import static at.doml.restinfo.MockUtils.requestMapping;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class RestApiInfoOpenApiWriterTest {
+
+    //
+    // SAMPLE CLASSES
+    //
+    public static final class Item {
+        public String name;
+    }
+
+    public static final class Response {
+        public Item item;
+    }
+
+    public static final class ItemController {
+    }
+
+    public static final class AdminController {
+    }
+
+    //
+    // TESTS
+    //
+    @Test
+    public void writeShouldWriteOperationsOfAllControllers() {
+        String json = write(new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/items/{id}")
+                        .pathVariable("id", int.class)
+                        .responseBody(Response.class))
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.DELETE).path("/items/{id}")
+                        .pathVariable("id", int.class))
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.POST).path("/items")
+                        .requestParameter("dryRun", boolean.class)
+                        .requestBody(Item.class))
+                .build()));
+
+        assertTrue("incorrect document start: " + json, json.startsWith(
+                "{\"openapi\":\"3.0.0\",\"info\":{\"title\":\"Test API\",\"version\":\"1.0\"},\"paths\":{"
+                        + "\"/items\":{\"post\":{\"tags\":[\"void\"],\"parameters\":[{\"name\":\"dryRun\","
+                        + "\"in\":\"query\",\"schema\":{\"type\":\"boolean\"}}],\"requestBody\":{\"required\":true,"
+                        + "\"content\":{\"application/json\":{\"schema\":{\"$ref\":\"#/components/schemas/"
+        ));
+        assertTrue("get and delete should share path item: " + json, json.contains(
+                "\"/items/{id}\":{\"get\":{\"tags\":[\"void\"],\"parameters\":[{\"name\":\"id\",\"in\":\"path\","
+                        + "\"required\":true,\"schema\":{\"type\":\"integer\"}}],\"responses\":{\"200\":"
+                        + "{\"description\":\"OK\",\"content\":{\"application/json\":{\"schema\":{\"type\":"
+                        + "\"object\",\"properties\":{\"item\":{\"$ref\":"
+        ));
+        assertTrue("delete should have no response content: " + json, json.contains(
+                "\"delete\":{\"tags\":[\"void\"],\"parameters\":[{\"name\":\"id\",\"in\":\"path\","
+                        + "\"required\":true,\"schema\":{\"type\":\"integer\"}}],\"responses\":{\"200\":"
+                        + "{\"description\":\"OK\"}}}"
+        ));
+        // Item is used both as request body and as nested type of Response, which is used only once
+        assertEquals("structurally equal types should share a component", 1,
+                count(json, "\"properties\":{\"name\""));
+        assertEquals("document should be balanced", count(json, "{"), count(json, "}"));
+    }
+
+    @Test
+    public void writeShouldDeduplicateComponentsAcrossOperations() {
+        String json = write(new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/first")
+                        .responseBody(Response.class))
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/second")
+                        .responseBody(Response.class))
+                .build()));
+
+        assertEquals("each complex type should be defined once", 1, count(json, "\"properties\":{\"name\""));
+        assertEquals("each complex type should be defined once", 1, count(json, "\"properties\":{\"item\""));
+        // Item is used only within the shared Response component
+        assertEquals("only responses should be referenced", 2, count(json, "\"$ref\""));
+    }
+
+    @Test
+    public void writeShouldExpandMappingsWithoutRequestMethod() {
+        String json = write(new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().path("/any"))
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/any")
+                        .responseBody(Item.class))
+                .build()));
+
+        for (RequestMethod requestMethod : RequestMethod.values()) {
+            assertTrue("operation expected for " + requestMethod,
+                    json.contains('"' + requestMethod.name().toLowerCase() + "\":{"));
+        }
+
+        assertEquals("explicit mapping should not be overwritten", 1, count(json, "\"content\""));
+    }
+
+    @Test
+    public void writeShouldMergeMappingsWithSamePathAndRequestMethod() {
+        String json = write(new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/items")
+                        .beanType(ItemController.class)
+                        .requestParameter("page", int.class)
+                        .responseBody(Item.class))
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/items")
+                        .beanType(AdminController.class)
+                        .header("X-Version=2")
+                        .requestParameter("page", int.class)
+                        .responseBody(Response.class))
+                .build()));
+
+        assertEquals("mappings should be merged into single operation", 1, count(json, "\"get\":{"));
+        assertTrue("merged operation should be tagged with all api sections: " + json,
+                json.contains("{\"tags\":[\"Item\",\"Admin\"]") || json.contains("{\"tags\":[\"Admin\",\"Item\"]"));
+        assertTrue("merged operation should be reported: " + json, json.contains("\"description\":\"Merged from"));
+        assertEquals("shared parameter should be written once", 1, count(json, "{\"name\":\"page\""));
+        assertTrue("both response bodies should be written: " + json, json.contains(
+                "\"content\":{\"application/json\":{\"schema\":{\"anyOf\":[{\"$ref\":"
+        ));
+        assertEquals("document should be balanced", count(json, "{"), count(json, "}"));
+    }
+
+    @Test
+    public void writeShouldWriteSameDocumentToOutputStream() {
+        RestApiInfo restApiInfo = new RestApiInfo(handlerMapping()
+                .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/first")
+                        .responseBody(Response.class))
+                .build());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new RestApiInfoOpenApiWriter(outputStream, "Test API", "1.0").write(restApiInfo);
+
+        assertEquals("same document is expected", write(restApiInfo),
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void writeShouldThrowExceptionForNullRestApiInfo() {
+        new RestApiInfoOpenApiWriter(new StringBuilder(), "Test API", "1.0").write(null);
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static String write(RestApiInfo restApiInfo) {
+        StringBuilder builder = new StringBuilder();
+        new RestApiInfoOpenApiWriter(builder, "Test API", "1.0").write(restApiInfo);
+        return builder.toString();
+    }
+
+    private static int count(String value, String part) {
+        int count = 0;
+
+        for (int index = value.indexOf(part); index >= 0; index = value.indexOf(part, index + 1)) {
+            count++;
+        }
+
+        return count;
+    }
+}
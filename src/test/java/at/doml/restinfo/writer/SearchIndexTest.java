@@ -0,0 +1,73 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.RestApiInfo;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.RequestMethod;
+import static at.doml.restinfo.MockUtils.handlerMapping;
+import static at.doml.restinfo.MockUtils.requestMapping;
+import static org.junit.Assert.assertEquals;
+
+public final class SearchIndexTest {
+
+    //
+    // SAMPLE CLASSES
+    //
+    public static final class Item {
+        public String firstName;
+        public Detail detail;
+    }
+
+    public static final class Detail {
+        public int count;
+    }
+
+    public static final class ItemController {
+    }
+
+    //
+    // TEST VARIABLES
+    //
+    private final RestApiInfo restApiInfo = new RestApiInfo(handlerMapping()
+            .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/items/{id}")
+                    .beanType(ItemController.class)
+                    .pathVariable("id", int.class)
+                    .responseBody(Item.class))
+            .handlerMethod(requestMapping().path("/items")
+                    .beanType(ItemController.class)
+                    .requestBody(Detail.class))
+            .build());
+
+    //
+    // TESTS
+    //
+    @Test
+    public void writeJsonShouldWriteSortedTermsWithEndpointPostings() {
+        SearchIndex searchIndex = new SearchIndex(this.restApiInfo);
+        StringBuilder json = new StringBuilder();
+
+        searchIndex.writeJson(json);
+
+        assertEquals("incorrect number of endpoints", 2, searchIndex.getNumberOfEndpoints());
+        assertEquals("incorrect search index",
+                "{\"sections\":[[\"Item\",\"\"]],"
+                        + "\"endpoints\":[[\"ANY\",\"/items\",0],[\"GET\",\"/items/{id}\",0]],"
+                        + "\"terms\":[\"any\",\"count\",\"detail\",\"first\",\"firstname\",\"get\",\"id\",\"item\","
+                        + "\"items\",\"name\"],"
+                        + "\"postings\":[[0],[0,1],[1],[1],[1],[1],[1],[0,1],[0,1],[1]]}",
+                json.toString());
+    }
+
+    @Test
+    public void searchIndexShouldIndexOnlyPrintedSections() {
+        SearchIndex searchIndex = new SearchIndex(this.restApiInfo, RestApiInfoHtmlWriterSettings.builder()
+                .printSection(RestApiInfoHtmlWriterSettings.PrintSection.PATH_VARIABLES)
+                .build());
+
+        assertEquals("incorrect number of terms", 5, searchIndex.getNumberOfTerms());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void searchIndexShouldThrowExceptionForNullRestApiInfo() {
+        new SearchIndex(null);
+    }
+}
@@ -0,0 +1,139 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.MockUtils;
+import at.doml.restinfo.RestApiInfo;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.web.bind.annotation.RequestMethod;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import static at.doml.restinfo.MockUtils.handlerMapping;
+import static at.doml.restinfo.MockUtils.requestMapping;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class StaticSiteExporterTest {
+
+    //
+    // SAMPLE CLASSES
+    //
+    public static final class Item {
+        public String name;
+    }
+
+    public static final class ItemController {
+    }
+
+    //
+    // TEST VARIABLES
+    //
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private final RestApiInfo restApiInfo = new RestApiInfo(handlerMapping()
+            .handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/items/{id}")
+                    .beanType(ItemController.class)
+                    .pathVariable("id", int.class)
+                    .responseBody(Item.class))
+            .handlerMethod(requestMapping().path("/status")
+                    .responseBody(String.class))
+            .build());
+    private final StaticSiteExporter exporter = new StaticSiteExporter();
+
+    //
+    // TESTS
+    //
+    @Test
+    public void exportShouldWriteIndexStylesheetAndPagePerApiSection() throws IOException {
+        Path target = this.temporaryFolder.getRoot().toPath().resolve("site");
+
+        int writtenFiles = this.exporter.export(this.restApiInfo, target);
+
+        assertEquals("incorrect number of written files", 4, writtenFiles);
+        assertEquals("temporary files should not be left behind", 4, countFiles(target));
+        assertEquals("incorrect stylesheet", RestApiInfoHtmlWriterSettings.DEFAULT.renderingMode.getCss(),
+                read(target.resolve("restinfo.css")));
+
+        String index = read(target.resolve("index.html"));
+        assertTrue("index should link stylesheet: " + index, index.contains("href=\"restinfo.css\""));
+        assertTrue("index should link api section: " + index,
+                index.contains("<li><a href=\"Item.html\">Item</a></li>"));
+        assertTrue("index should link api section: " + index,
+                index.contains("<li><a href=\"void.html\">void</a></li>"));
+
+        String page = read(target.resolve("Item.html"));
+        assertTrue("page should link stylesheet: " + page, page.contains("href=\"restinfo.css\""));
+        assertTrue("page should contain its api section: " + page, page.contains("<h1>Item</h1>"));
+        assertFalse("page should contain only its api section: " + page, page.contains("/status"));
+    }
+
+    @Test
+    public void exportShouldSkipFilesWithUnchangedContent() throws IOException {
+        Path target = this.temporaryFolder.getRoot().toPath();
+        this.exporter.export(this.restApiInfo, target);
+        Files.write(target.resolve("void.html"), "outdated".getBytes(StandardCharsets.UTF_8));
+
+        int writtenFiles = this.exporter.export(this.restApiInfo, target);
+
+        assertEquals("only changed file should be written", 1, writtenFiles);
+        assertTrue("changed file should be replaced", read(target.resolve("void.html")).contains("/status"));
+        assertEquals("unchanged files should not be written", 0, this.exporter.export(this.restApiInfo, target));
+    }
+
+    @Test
+    public void exportShouldWriteSearchIndexForIndexPageWhenEnabled() throws IOException {
+        Path target = this.temporaryFolder.getRoot().toPath();
+        RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.builder()
+                .printSection(RestApiInfoHtmlWriterSettings.PrintSection.RESPONSE_BODY)
+                .searchIndex(true)
+                .build();
+
+        int writtenFiles = new StaticSiteExporter(settings).export(this.restApiInfo, target);
+
+        assertEquals("incorrect number of written files", 6, writtenFiles);
+        assertEquals("incorrect search script", SearchIndex.SEARCH_SCRIPT, read(target.resolve("search.js")));
+        assertTrue("search index should link pages", read(target.resolve("search-index.json"))
+                .startsWith("{\"sections\":[[\"Item\",\"Item.html\"],[\"void\",\"void.html\"]]"));
+        assertTrue("index should load search script", read(target.resolve("index.html"))
+                .contains("<script src=\"search.js\" data-index=\"search-index.json\"></script>"));
+
+        String page = read(target.resolve("void.html"));
+        assertTrue("page should contain endpoint anchor: " + page, page.contains("id=\"endpoint-1\""));
+        assertFalse("page should not embed search index: " + page, page.contains("restinfo-search"));
+    }
+
+    @Test
+    public void exportShouldWritePagesLargerThanWriteSlice() throws IOException {
+        Path target = this.temporaryFolder.getRoot().toPath();
+        MockUtils.RequestMappingHandlerMappingBuilder handlerMapping = handlerMapping();
+
+        for (int i = 0; i < 1000; i++) {
+            handlerMapping.handlerMethod(requestMapping().requestMethod(RequestMethod.GET).path("/items/" + i)
+                    .beanType(ItemController.class)
+                    .responseBody(Item.class));
+        }
+
+        this.exporter.export(new RestApiInfo(handlerMapping.build()), target);
+        String page = read(target.resolve("Item.html"));
+
+        assertTrue("page should be larger than write slice: " + page.length(), page.length() > 64 * 1024);
+        assertTrue("page should be written completely", page.contains("/items/999") && page.endsWith("</html>\n"));
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
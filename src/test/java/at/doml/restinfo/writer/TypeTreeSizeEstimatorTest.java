@@ -0,0 +1,113 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.type.SimpleType;
+import at.doml.restinfo.type.TypeTreeSamples;
+import at.doml.restinfo.type.TypeTreeTraversal;
+import at.doml.restinfo.type.TypeVisitor;
+import at.doml.restinfo.type.VisitableType;
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class TypeTreeSizeEstimatorTest {
+
+    //
+    // TESTS
+    //
+    @Test
+    public void estimateShouldCoverRenderedSize() {
+        assertCoveringEstimate(RestApiInfoHtmlWriterSettings.DEFAULT);
+        assertCoveringEstimate(RestApiInfoHtmlWriterSettings.builder()
+                .renderingMode(RestApiInfoHtmlWriterSettings.RenderingMode.COMPACT)
+                .build());
+        assertCoveringEstimate(RestApiInfoHtmlWriterSettings.builder()
+                .typeTreeWriterConstructor(JsonExampleTypeTreeWriter::new)
+                .indentSpacing(2)
+                .build());
+    }
+
+    @Test
+    public void estimateShouldStayCloseToRenderedSizeOfDefaultWriter() {
+        RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.DEFAULT;
+        VisitableType typeTree = TypeTreeSamples.sampleTree();
+
+        assertTrue("estimate should not be more than twice the rendered size",
+                settings.typeTreeSizeEstimator.estimate(typeTree) <= 2 * render(settings, typeTree).length());
+    }
+
+    @Test
+    public void estimateShouldNotRenderTypeTree() {
+        AtomicInteger createdWriters = new AtomicInteger();
+        RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.builder()
+                .typeTreeWriterConstructor((appendable, indentSpacing) -> {
+                    createdWriters.incrementAndGet();
+                    return new HtmlJsonTypeTreeWriter(appendable, indentSpacing);
+                })
+                .build();
+        VisitableType typeTree = TypeTreeSamples.sampleTree();
+
+        long first = settings.typeTreeSizeEstimator.estimate(typeTree);
+        long second = settings.typeTreeSizeEstimator.estimate(typeTree);
+
+        assertEquals("same estimate is expected", first, second);
+        assertEquals("no writer should be created", 0, createdWriters.get());
+    }
+
+    @Test
+    public void estimateShouldTraverseStructurallyEqualTypeTreesOnlyOnce() {
+        TypeTreeSizeEstimator estimator = new TypeTreeSizeEstimator(4, TypeTreeTraversal.RECURSIVE);
+        AtomicInteger traversals = new AtomicInteger();
+        VisitableType typeTree = new VisitableType() {
+            @Override
+            public void accept(TypeVisitor typeVisitor) {
+                traversals.incrementAndGet();
+                TypeTreeSamples.sampleTree().accept(typeVisitor);
+            }
+
+            @Override
+            public long structuralHash() {
+                return TypeTreeSamples.sampleTree().structuralHash();
+            }
+        };
+
+        long estimate = estimator.estimate(typeTree);
+
+        assertEquals("cached estimate is expected", estimate, estimator.estimate(typeTree));
+        assertEquals("cached estimate is expected", estimate, estimator.estimate(TypeTreeSamples.sampleTree()));
+        assertEquals("type tree should be traversed once", 1, traversals.get());
+    }
+
+    @Test
+    public void capacityForShouldSumEstimatesAndAdditionalSize() {
+        TypeTreeSizeEstimator estimator = RestApiInfoHtmlWriterSettings.DEFAULT.typeTreeSizeEstimator;
+        VisitableType typeTree = TypeTreeSamples.sampleTree();
+        long expected = 2 * estimator.estimate(typeTree) + estimator.estimate(SimpleType.INT) + 100;
+
+        assertEquals("incorrect capacity", expected,
+                estimator.capacityFor(Arrays.asList(typeTree, SimpleType.INT, typeTree), 100));
+    }
+
+    //
+    // HELPER METHODS
+    //
+    private static String render(RestApiInfoHtmlWriterSettings settings, VisitableType typeTree) {
+        StringBuilder builder = new StringBuilder();
+        settings.typeTreeTraversal.traverse(
+                typeTree, settings.typeTreeWriterConstructor.apply(builder, settings.indentSpacing)
+        );
+        return builder.toString();
+    }
+
+    //
+    // ASSERTIONS
+    //
+    private static void assertCoveringEstimate(RestApiInfoHtmlWriterSettings settings) {
+        VisitableType typeTree = TypeTreeSamples.sampleTree();
+        long renderedSize = render(settings, typeTree).length();
+        long estimate = settings.typeTreeSizeEstimator.estimate(typeTree);
+
+        assertTrue("estimate " + estimate + " should cover rendered size " + renderedSize, estimate >= renderedSize);
+    }
+}
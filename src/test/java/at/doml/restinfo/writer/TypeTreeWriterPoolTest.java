@@ -0,0 +1,130 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.type.SimpleType;
+import at.doml.restinfo.type.TypeTreeSamples;
+import at.doml.restinfo.type.VisitableType;
+import org.junit.Test;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public final class TypeTreeWriterPoolTest {
+
+    //
+    // TEST VARIABLES
+    //
+    private final AtomicInteger createdWriters = new AtomicInteger();
+    private final RestApiInfoHtmlWriterSettings settings = RestApiInfoHtmlWriterSettings.builder()
+            .typeTreeWriterConstructor((appendable, indentSpacing) -> {
+                this.createdWriters.incrementAndGet();
+                return new HtmlJsonTypeTreeWriter(appendable, indentSpacing);
+            })
+            .build();
+
+    //
+    // TESTS
+    //
+    @Test
+    public void writeShouldReuseSingleWriterForConsecutiveTrees() {
+        TypeTreeWriterPool pool = new TypeTreeWriterPool(this.settings);
+        VisitableType typeTree = TypeTreeSamples.sampleTree();
+        StringWriter expected = new StringWriter();
+        typeTree.accept(new HtmlJsonTypeTreeWriter(expected));
+
+        for (int i = 0; i < 3; i++) {
+            StringWriter output = new StringWriter();
+            pool.write(typeTree, output);
+            assertEquals("provided html is not correct", expected.toString(), output.toString());
+        }
+
+        assertEquals("single writer should be created", 1, this.createdWriters.get());
+    }
+
+    @Test
+    public void acquireShouldCreateNewWriterWhileOtherIsInUse() {
+        TypeTreeWriterPool pool = new TypeTreeWriterPool(this.settings);
+        AbstractTypeTreeWriter first = pool.acquire(new StringBuilder());
+        AbstractTypeTreeWriter second = pool.acquire(new StringBuilder());
+
+        assertNotSame("writers in use should not be shared", first, second);
+        pool.release(second);
+        assertSame("released writer should be reused", second, pool.acquire(new StringBuilder()));
+    }
+
+    @Test
+    public void releaseShouldKeepAtMostMaxIdleWriters() {
+        TypeTreeWriterPool pool = new TypeTreeWriterPool(this.settings, 1);
+        AbstractTypeTreeWriter first = pool.acquire(new StringBuilder());
+        AbstractTypeTreeWriter second = pool.acquire(new StringBuilder());
+
+        pool.release(first);
+        pool.release(second);
+
+        assertEquals("only one writer should be kept", 1, pool.idleWriterCount());
+    }
+
+    @Test
+    public void releaseShouldDetachIdleWriterFromPreviousOutput() {
+        TypeTreeWriterPool pool = new TypeTreeWriterPool(this.settings);
+
+        for (Appendable output : Arrays.asList(new StringBuilder(), new StringWriter())) {
+            AbstractTypeTreeWriter writer = pool.acquire(output);
+            TypeTreeSamples.sampleTree().accept(writer);
+            pool.release(writer);
+            String written = output.toString();
+
+            writer.visitSimple(SimpleType.INT);
+            assertEquals("idle writer should not write to previous output", written, output.toString());
+
+            StringBuilder nextOutput = new StringBuilder();
+            pool.write(TypeTreeSamples.sampleTree(), nextOutput);
+            assertEquals("reused writer should write to new output", written, nextOutput.toString());
+        }
+    }
+
+    @Test
+    public void reusedPlainTextWriterShouldEscapeIntoEachNewOutput() {
+        TypeTreeWriterPool pool = new TypeTreeWriterPool(RestApiInfoHtmlWriterSettings.builder()
+                .typeTreeWriterConstructor((appendable, indentSpacing) -> {
+                    this.createdWriters.incrementAndGet();
+                    return new JsonSchemaTypeTreeWriter(appendable);
+                })
+                .build());
+        StringBuilder first = new StringBuilder();
+        StringBuilder second = new StringBuilder();
+
+        pool.write(SimpleType.INT, first);
+        pool.write(SimpleType.BOOLEAN, second);
+
+        assertEquals("provided html is not correct", "{&quot;$schema&quot;:&quot;http://json-schema.org/draft-07/"
+                + "schema#&quot;,&quot;type&quot;:&quot;integer&quot;}", first.toString());
+        assertEquals("provided html is not correct", "{&quot;$schema&quot;:&quot;http://json-schema.org/draft-07/"
+                + "schema#&quot;,&quot;type&quot;:&quot;boolean&quot;}", second.toString());
+        assertEquals("single writer should be created", 1, this.createdWriters.get());
+    }
+
+    @Test
+    public void writeShouldNotFlushOrReuseWriterWhichFailed() {
+        TypeTreeWriterPool pool = new TypeTreeWriterPool(this.settings);
+        StringWriter output = new StringWriter();
+        IllegalStateException failure = new IllegalStateException("failure");
+        VisitableType failingTree = visitor -> {
+            visitor.visitBeforeAllComplexFields();
+            throw failure;
+        };
+
+        try {
+            pool.write(failingTree, output);
+            fail("failure should be propagated");
+        } catch (IllegalStateException exception) {
+            assertSame("original failure should be propagated", failure, exception);
+        }
+
+        assertEquals("partial output should not be flushed", "", output.toString());
+        assertEquals("failed writer should not be reused", 0, pool.idleWriterCount());
+    }
+}
@@ -0,0 +1,67 @@
+package at.doml.restinfo.writer;
+
+import at.doml.restinfo.type.TypeTreeSamples;
+import at.doml.restinfo.type.VisitableType;
+import org.junit.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public final class Utf8AppendableTest {
+
+    //
+    // CONSTANTS
+    //
+    private static final String FRAGMENT = "<b class=\"keyword\">null</b>";
+    private static final String TEXT = "ascii čćž € 𝒜 lone \uD800 low \uDC00 end \uD800";
+
+    //
+    // TESTS
+    //
+    @Test
+    public void utf8AppendableShouldEncodeSameBytesAsStringEncoder() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Utf8Appendable appendable = new Utf8Appendable(outputStream, Collections.emptyMap(), 8);
+
+        appendable.append(TEXT, 0, 20)
+                .append(TEXT.charAt(20))
+                .append(TEXT.substring(21));
+        appendable.flush();
+
+        assertArrayEquals("incorrect bytes", TEXT.getBytes(StandardCharsets.UTF_8), outputStream.toByteArray());
+    }
+
+    @Test
+    public void utf8AppendableShouldWritePreEncodedFragments() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Utf8Appendable appendable = new Utf8Appendable(outputStream, Utf8Appendable.encodeFragments(FRAGMENT));
+
+        appendable.append(FRAGMENT).append(new String(FRAGMENT));
+        appendable.flush();
+
+        assertEquals("incorrect output", FRAGMENT + FRAGMENT,
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writerShouldWriteSameHtmlToOutputStreamAndAppendable() {
+        VisitableType typeTree = TypeTreeSamples.sampleTree();
+        StringBuilder builder = new StringBuilder();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        typeTree.accept(new HtmlJsonTypeTreeWriter(builder));
+        typeTree.accept(new HtmlJsonTypeTreeWriter(outputStream));
+
+        assertArrayEquals("incorrect bytes",
+                builder.toString().getBytes(StandardCharsets.UTF_8), outputStream.toByteArray());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void writerShouldThrowExceptionForNullOutputStream() {
+        new HtmlJsonTypeTreeWriter((OutputStream) null);
+    }
+}